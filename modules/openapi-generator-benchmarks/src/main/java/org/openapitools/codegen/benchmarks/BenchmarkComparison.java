@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Compares two JSON result files of {@link BenchmarkRunner}, e.g. of the base branch and of a change, and exits with
+ * status 1 if a benchmark got slower, or allocates more per operation, by more than a threshold.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold percent, default 5]}
+ */
+public final class BenchmarkComparison {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final double DEFAULT_THRESHOLD = 5;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold percent, default 5]");
+            System.exit(2);
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-90s %16s %16s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-90s %16s%n", entry.getKey(), "(new)");
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            if (compare(entry.getKey(), after.path("primaryMetric").path("scoreUnit").asText(),
+                    before.path("primaryMetric").path("score").asDouble(),
+                    after.path("primaryMetric").path("score").asDouble(), higherIsBetter, threshold)) {
+                regressions++;
+            }
+
+            JsonNode allocationBefore = allocation(before);
+            JsonNode allocationAfter = allocation(after);
+            if (allocationBefore != null && allocationAfter != null
+                    && compare(entry.getKey() + " " + ALLOCATION, allocationAfter.path("scoreUnit").asText(),
+                    allocationBefore.path("score").asDouble(), allocationAfter.path("score").asDouble(), false, threshold)) {
+                regressions++;
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d result(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints a result and returns whether it got worse by more than the threshold.
+     */
+    private static boolean compare(String name, String unit, double before, double after, boolean higherIsBetter, double threshold) {
+        double change = before == 0 ? 0 : (after - before) * 100 / before;
+        boolean regressed = higherIsBetter ? change < -threshold : change > threshold;
+        System.out.printf(Locale.ROOT, "%-90s %16s %16s %+8.1f%%%s%n", name, format(before, unit), format(after, unit),
+                change, regressed ? " REGRESSION" : "");
+        return regressed;
+    }
+
+    private static String format(double score, String unit) {
+        return String.format(Locale.ROOT, "%.2f %s", score, unit);
+    }
+
+    private static JsonNode allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            // older JMH versions prefix the profiler metrics with a middle dot
+            if (metric.getKey().replace("\u00b7", "").equals(ALLOCATION)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the results by benchmark and parameters, in the order of the file
+     */
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.InlineModelResolver;
+import org.openapitools.codegen.OpenAPINormalizer;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.utils.SemVer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@code spec} parameter of the benchmarks to a file: a synthetic spec (see {@link SyntheticSpec}), one of
+ * the large specs of the generator tests bundled in this module, or any other spec file.
+ */
+final class BenchmarkSpecs {
+    /**
+     * The large specs of the generator tests, copied from modules/openapi-generator/src/test/resources/3_0.
+     */
+    static final String[] BUNDLED = {
+            "issue_6726.yaml",
+            "issue_7651.yaml",
+            "opendota.json",
+            "petstore-with-fake-endpoints-models-for-testing.yaml"
+    };
+
+    private static final Map<String, Path> FILES = new ConcurrentHashMap<>();
+    private static Path directory;
+
+    private BenchmarkSpecs() {
+    }
+
+    /**
+     * @param spec a synthetic spec description, the name of a bundled spec, or the path of a spec file
+     * @return the spec file, which is created once per process for synthetic and bundled specs
+     */
+    static Path resolve(String spec) {
+        return FILES.computeIfAbsent(spec, s -> {
+            try {
+                if (s.startsWith(SyntheticSpec.PREFIX)) {
+                    SyntheticSpec synthetic = SyntheticSpec.parse(s);
+                    Path file = directory().resolve(synthetic.getName() + ".json");
+                    Json.mapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), synthetic.build());
+                    return file;
+                }
+                try (InputStream in = BenchmarkSpecs.class.getClassLoader().getResourceAsStream("specs/" + s)) {
+                    if (in != null) {
+                        Path file = directory().resolve(s);
+                        Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+                        return file;
+                    }
+                }
+                Path file = Paths.get(s).toAbsolutePath();
+                if (!Files.isRegularFile(file)) {
+                    throw new IllegalArgumentException("Unknown spec " + s + ", expected synthetic[:...], a bundled spec or a spec file");
+                }
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Parses a spec as {@link CodegenConfigurator} does.
+     */
+    static OpenAPI parse(String spec) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        SwaggerParseResult result = new OpenAPIParser().readLocation(resolve(spec).toString(), null, options);
+        if (result.getOpenAPI() == null) {
+            throw new IllegalStateException("Unable to parse " + spec + ": " + result.getMessages());
+        }
+        return result.getOpenAPI();
+    }
+
+    /**
+     * @return a configurator generating from the spec with default options
+     */
+    static CodegenConfigurator configurator(String generator, String spec, Path output) {
+        return new CodegenConfigurator()
+                .setGeneratorName(generator)
+                .setInputSpec(resolve(spec).toString())
+                .setOutputDir(output.toString())
+                .setValidateSpec(false)
+                .addAdditionalProperty("hideGenerationTimestamp", true);
+    }
+
+    /**
+     * Prepares a generator and its spec as {@code DefaultGenerator} does before it processes models and operations:
+     * the generator options are processed, and the spec normalized, flattened and preprocessed.
+     *
+     * @return the generator input, whose config can convert the schemas and operations of the spec
+     */
+    static ClientOptInput prepare(String generator, String spec, Path output) {
+        ClientOptInput input = configurator(generator, spec, output).toClientOptInput();
+        CodegenConfig config = input.getConfig();
+        OpenAPI openAPI = input.getOpenAPI();
+
+        config.processOpts();
+        if (config.getUseOpenapiNormalizer()) {
+            if (new SemVer(openAPI.getOpenapi()).atLeast("3.1.0")) {
+                config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
+            }
+            OpenAPINormalizer.createNormalizer(openAPI, config.openapiNormalizer()).normalize();
+        }
+        if (config.getUseInlineModelResolver()) {
+            InlineModelResolver inlineModelResolver = new InlineModelResolver();
+            inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
+            inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
+            inlineModelResolver.flatten(openAPI);
+        }
+        config.preprocessOpenAPI(openAPI);
+        config.setOpenAPI(openAPI);
+        return input;
+    }
+
+    /**
+     * @return a fresh directory for generated files
+     */
+    static Path outputDirectory() {
+        try {
+            return Files.createTempDirectory(directory(), "output");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void delete(Path path) {
+        FileUtils.deleteQuietly(path.toFile());
+    }
+
+    private static synchronized Path directory() throws IOException {
+        if (directory == null) {
+            directory = Files.createTempDirectory("openapi-generator-benchmarks");
+            File file = directory.toFile();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> FileUtils.deleteQuietly(file)));
+        }
+        return directory;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.servers.Server;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultCodegen;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts all schemas, properties or operations of a spec with a generator, as DefaultGenerator does for each
+ * model and API. An operation is one pass over the whole spec, which starts with an empty property cache like a
+ * generation run does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CodegenBenchmark {
+
+    @Param({"java", "spring", "typescript-fetch", "python", "go"})
+    public String generator;
+
+    @Param({"synthetic", "issue_6726.yaml", "issue_7651.yaml", "opendota.json", "petstore-with-fake-endpoints-models-for-testing.yaml"})
+    public String spec;
+
+    private Path output;
+    // all built-in generators extend DefaultCodegen, which has fromProperty
+    private DefaultCodegen config;
+    private Map<String, Schema> schemas;
+    private final List<Property> properties = new ArrayList<>();
+    private final List<PathOperation> operations = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        output = BenchmarkSpecs.outputDirectory();
+        ClientOptInput input = BenchmarkSpecs.prepare(generator, spec, output);
+        config = (DefaultCodegen) input.getConfig();
+        OpenAPI openAPI = input.getOpenAPI();
+
+        schemas = ModelUtils.getSchemas(openAPI);
+        for (Schema<?> schema : schemas.values()) {
+            Map<String, Schema> schemaProperties = schema.getProperties();
+            if (schemaProperties != null) {
+                Set<String> required = schema.getRequired() == null ? Collections.emptySet() : new HashSet<>(schema.getRequired());
+                schemaProperties.forEach((name, property) -> properties.add(new Property(name, property, required.contains(name))));
+            }
+        }
+
+        if (openAPI.getPaths() != null) {
+            openAPI.getPaths().forEach((path, pathItem) -> pathItem.readOperationsMap().forEach((method, operation) ->
+                    operations.add(new PathOperation(path, method.name().toLowerCase(Locale.ROOT), operation, pathItem.getServers()))));
+        }
+    }
+
+    /**
+     * Without this, every pass after the first one would measure lookups in the property cache instead of conversions.
+     */
+    @Setup(Level.Invocation)
+    public void clearPropertyCache() {
+        config.getCodegenPropertyCache().clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSpecs.delete(output);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        schemas.forEach((name, schema) -> blackhole.consume(config.fromModel(name, schema)));
+    }
+
+    @Benchmark
+    public void fromProperty(Blackhole blackhole) {
+        for (Property property : properties) {
+            blackhole.consume(config.fromProperty(property.name, property.schema, property.required));
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        for (PathOperation operation : operations) {
+            // as DefaultGenerator passes them
+            blackhole.consume(config.fromOperation(operation.path, operation.method, operation.operation, operation.servers));
+        }
+    }
+
+    private static final class Property {
+        private final String name;
+        private final Schema<?> schema;
+        private final boolean required;
+
+        private Property(String name, Schema<?> schema, boolean required) {
+            this.name = name;
+            this.schema = schema;
+            this.required = required;
+        }
+    }
+
+    private static final class PathOperation {
+        private final String path;
+        private final String method;
+        private final Operation operation;
+        private final List<Server> servers;
+
+        private PathOperation(String path, String method, Operation operation, List<Server> servers) {
+            this.path = path;
+            this.method = method;
+            this.operation = operation;
+            this.servers = servers;
+        }
+    }
+}
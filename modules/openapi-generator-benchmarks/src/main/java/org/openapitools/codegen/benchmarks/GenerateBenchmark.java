@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.GenerationListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a whole generation, from the parsed spec to the written files. Besides the time and allocations of the whole
+ * run, the average time per run of the main phases and of rendering templates is reported as secondary results (see
+ * {@link Phases}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class GenerateBenchmark {
+
+    @Param({"java", "spring", "typescript-fetch", "python", "go"})
+    public String generator;
+
+    @Param({"synthetic", "petstore-with-fake-endpoints-models-for-testing.yaml"})
+    public String spec;
+
+    private Path output;
+    private ClientOptInput input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        output = BenchmarkSpecs.outputDirectory();
+    }
+
+    @Setup(Level.Invocation)
+    public void parseSpec() {
+        // the generator changes the spec and its config
+        input = BenchmarkSpecs.configurator(generator, spec, output).toClientOptInput();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSpecs.delete(output);
+    }
+
+    @Benchmark
+    public List<File> generate(Phases phases) {
+        return new DefaultGenerator().addGenerationListener(phases.listener).opts(input).generate();
+    }
+
+    /**
+     * Average milliseconds per run spent in the main phases, and rendering and writing templates (which is part of
+     * the models, apis and supportingFiles phases).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Phases {
+        private final Map<GenerationListener.Phase, LongAdder> nanos = new EnumMap<>(GenerationListener.Phase.class);
+        private final LongAdder templateNanos = new LongAdder();
+        private final LongAdder runs = new LongAdder();
+        private final GenerationListener listener = new GenerationListener() {
+            private long start;
+
+            @Override
+            public void phaseStarted(Phase phase) {
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void phaseFinished(Phase phase) {
+                nanos.get(phase).add(System.nanoTime() - start);
+            }
+
+            @Override
+            public void templateRendered(String templateName, File file, long renderNanos, long bytes, long allocatedBytes) {
+                templateNanos.add(renderNanos);
+            }
+
+            @Override
+            public void generationFinished() {
+                runs.increment();
+            }
+        };
+
+        public Phases() {
+            for (GenerationListener.Phase phase : GenerationListener.Phase.values()) {
+                nanos.put(phase, new LongAdder());
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nanos.values().forEach(LongAdder::reset);
+            templateNanos.reset();
+            runs.reset();
+        }
+
+        public double preprocessMillis() {
+            return millis(GenerationListener.Phase.NORMALIZE) + millis(GenerationListener.Phase.INLINE_MODELS)
+                    + millis(GenerationListener.Phase.PREPROCESS);
+        }
+
+        public double modelsMillis() {
+            return millis(GenerationListener.Phase.MODELS);
+        }
+
+        public double apisMillis() {
+            return millis(GenerationListener.Phase.APIS);
+        }
+
+        public double supportingFilesMillis() {
+            return millis(GenerationListener.Phase.SUPPORTING_FILES);
+        }
+
+        public double renderMillis() {
+            return perRun(templateNanos.sum());
+        }
+
+        private double millis(GenerationListener.Phase phase) {
+            return perRun(nanos.get(phase).sum());
+        }
+
+        private double perRun(long nanos) {
+            long count = runs.sum();
+            return count == 0 ? 0d : nanos / 1_000_000d / count;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.InlineModelResolver;
+import org.openapitools.codegen.OpenAPINormalizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The generator-independent stages: parsing the spec, normalizing it and flattening its inline schemas. The
+ * normalizer and the inline model resolver change the spec, so they get a fresh copy for each invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SpecBenchmark {
+
+    @Param({"synthetic", "issue_6726.yaml", "issue_7651.yaml", "opendota.json", "petstore-with-fake-endpoints-models-for-testing.yaml"})
+    public String spec;
+
+    private String parsed;
+    private OpenAPI openAPI;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        parsed = Json.mapper().writeValueAsString(BenchmarkSpecs.parse(spec));
+    }
+
+    @Setup(Level.Invocation)
+    public void copySpec() throws JsonProcessingException {
+        openAPI = Json.mapper().readValue(parsed, OpenAPI.class);
+    }
+
+    @Benchmark
+    public OpenAPI parse() {
+        return BenchmarkSpecs.parse(spec);
+    }
+
+    @Benchmark
+    public OpenAPI normalize() {
+        OpenAPINormalizer.createNormalizer(openAPI, Collections.emptyMap()).normalize();
+        return openAPI;
+    }
+
+    @Benchmark
+    public OpenAPI flatten() {
+        new InlineModelResolver().flatten(openAPI);
+        return openAPI;
+    }
+}
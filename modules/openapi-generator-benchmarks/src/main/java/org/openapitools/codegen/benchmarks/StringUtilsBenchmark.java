@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import org.openapitools.codegen.utils.CamelizeOption;
+import org.openapitools.codegen.utils.StringUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The name conversions used for every model, property, operation and parameter name. An operation converts all
+ * {@code words} identifiers once. The conversions are cached, so a small number of identifiers mostly measures the
+ * cache lookups and a number larger than the caches mostly measures the conversions themselves.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StringUtilsBenchmark {
+    private static final String[] STYLES = {"%s_%s_id", "%s-%s-list", "%sOf%sValue", "HTTP%s%sURL", "%s %s name", "$%s.%s"};
+    private static final String[] NAMES = {"pet", "store", "order", "user", "address", "payment", "category", "tag"};
+
+    @Param({"64", "4096"})
+    public int words;
+
+    private String[] identifiers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        identifiers = new String[words];
+        for (int i = 0; i < words; i++) {
+            String first = NAMES[i % NAMES.length];
+            String second = NAMES[(i / NAMES.length) % NAMES.length] + i;
+            identifiers[i] = String.format(STYLES[i % STYLES.length], first, second);
+        }
+    }
+
+    @Benchmark
+    public void camelize(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(StringUtils.camelize(identifier));
+        }
+    }
+
+    @Benchmark
+    public void camelizeLowercaseFirstLetter(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(StringUtils.camelize(identifier, CamelizeOption.LOWERCASE_FIRST_LETTER));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(StringUtils.underscore(identifier));
+        }
+    }
+}
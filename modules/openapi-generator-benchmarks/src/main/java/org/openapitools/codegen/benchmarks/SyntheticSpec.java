@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.*;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.*;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds a spec of a given size and shape, so that benchmarks can show how a stage scales.
+ * <p>
+ * Each of the {@code schemas} models has scalar, array and map properties, an enum of {@code enumSize} values, an
+ * inline object nested {@code depth} levels deep and a {@code oneOf} of {@code oneOfFanOut} other models. Each model
+ * has list, create, get and delete operations, spread over 10 tags.
+ * <p>
+ * Specs are described as {@code synthetic} (the defaults) or e.g.
+ * {@code synthetic:schemas=1000,depth=4,oneOf=8,enum=50}.
+ */
+public final class SyntheticSpec {
+    static final String PREFIX = "synthetic";
+    private static final int TAGS = 10;
+
+    private int schemas = 200;
+    private int depth = 3;
+    private int oneOfFanOut = 4;
+    private int enumSize = 16;
+
+    /**
+     * @param description {@code synthetic}, optionally followed by {@code :} and comma-separated settings
+     * @return the spec
+     * @throws IllegalArgumentException the description is invalid
+     */
+    public static SyntheticSpec parse(String description) {
+        SyntheticSpec spec = new SyntheticSpec();
+        if (!description.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Not a synthetic spec: " + description);
+        }
+        String settings = description.substring(PREFIX.length());
+        if (settings.isEmpty()) {
+            return spec;
+        }
+        if (!settings.startsWith(":")) {
+            throw new IllegalArgumentException("Expected synthetic:<setting>=<value>,... but got " + description);
+        }
+        for (String setting : settings.substring(1).split(",")) {
+            String[] pair = setting.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected <setting>=<value> but got " + setting);
+            }
+            int value = Integer.parseInt(pair[1].trim());
+            switch (pair[0].trim()) {
+                case "schemas":
+                    spec.schemas = Math.max(1, value);
+                    break;
+                case "depth":
+                    spec.depth = Math.max(0, value);
+                    break;
+                case "oneOf":
+                    spec.oneOfFanOut = Math.max(0, value);
+                    break;
+                case "enum":
+                    spec.enumSize = Math.max(1, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown setting " + pair[0] + ", expected schemas, depth, oneOf or enum");
+            }
+        }
+        return spec;
+    }
+
+    /**
+     * @return a name for the spec, usable as a file name
+     */
+    public String getName() {
+        return String.format(Locale.ROOT, "synthetic-%d-%d-%d-%d", schemas, depth, oneOfFanOut, enumSize);
+    }
+
+    public OpenAPI build() {
+        OpenAPI openAPI = new OpenAPI()
+                .openapi("3.0.3")
+                .info(new Info().title("Synthetic " + getName()).version("1.0.0"))
+                .components(new Components())
+                .paths(new Paths());
+        for (int i = 0; i < schemas; i++) {
+            openAPI.getComponents().addSchemas(modelName(i), model(i));
+            addOperations(openAPI.getPaths(), i);
+        }
+        return openAPI;
+    }
+
+    private static String modelName(int i) {
+        return "Model" + i;
+    }
+
+    private static Schema<?> ref(int i) {
+        return new Schema<>().$ref("#/components/schemas/" + modelName(i));
+    }
+
+    private Schema<?> model(int i) {
+        List<String> values = new ArrayList<>();
+        for (int v = 0; v < enumSize; v++) {
+            values.add("status-value_" + v);
+        }
+
+        ObjectSchema model = new ObjectSchema();
+        model.description("Model " + i);
+        model.required(Arrays.asList("id", "name"));
+        model.addProperty("id", new IntegerSchema().format("int64"));
+        model.addProperty("name", new StringSchema().maxLength(64));
+        model.addProperty("createdAt", new DateTimeSchema());
+        model.addProperty("price", new NumberSchema().format("double").minimum(BigDecimal.ZERO));
+        model.addProperty("tags", new ArraySchema().items(new StringSchema()));
+        model.addProperty("status", new StringSchema()._enum(values));
+        model.addProperty("attributes", new MapSchema().additionalProperties(new StringSchema()));
+        model.addProperty("related", new ArraySchema().items(ref((i + 1) % schemas)));
+        if (depth > 0) {
+            model.addProperty("nested", nested(depth));
+        }
+        if (oneOfFanOut > 0) {
+            ComposedSchema variant = new ComposedSchema();
+            for (int k = 1; k <= oneOfFanOut; k++) {
+                variant.addOneOfItem(ref((i + k) % schemas));
+            }
+            model.addProperty("variant", variant);
+        }
+        return model;
+    }
+
+    private static Schema<?> nested(int level) {
+        ObjectSchema nested = new ObjectSchema();
+        nested.addProperty("label", new StringSchema());
+        nested.addProperty("level", new IntegerSchema());
+        if (level > 1) {
+            nested.addProperty("child", nested(level - 1));
+        }
+        return nested;
+    }
+
+    private static void addOperations(Paths paths, int i) {
+        String tag = "Group" + (i % TAGS);
+        String model = modelName(i);
+
+        Operation list = new Operation()
+                .operationId("list" + model)
+                .addTagsItem(tag)
+                .addParametersItem(new Parameter().name("limit").in("query").schema(new IntegerSchema()))
+                .addParametersItem(new Parameter().name("offset").in("query").schema(new IntegerSchema()))
+                .addParametersItem(new Parameter().name("sort_by").in("query").schema(new StringSchema()))
+                .responses(responses(new ArraySchema().items(ref(i))));
+        Operation create = new Operation()
+                .operationId("create" + model)
+                .addTagsItem(tag)
+                .requestBody(new RequestBody().required(true).content(json(ref(i))))
+                .responses(responses(ref(i)));
+        paths.addPathItem("/model" + i, new PathItem().get(list).post(create));
+
+        Parameter id = new Parameter().name("id").in("path").required(true).schema(new IntegerSchema().format("int64"));
+        Operation get = new Operation()
+                .operationId("get" + model)
+                .addTagsItem(tag)
+                .addParametersItem(id)
+                .responses(responses(ref(i)));
+        Operation delete = new Operation()
+                .operationId("delete" + model)
+                .addTagsItem(tag)
+                .addParametersItem(id)
+                .responses(new ApiResponses().addApiResponse("204", new ApiResponse().description("Deleted")));
+        paths.addPathItem("/model" + i + "/{id}", new PathItem().get(get).delete(delete));
+    }
+
+    private static Content json(Schema<?> schema) {
+        return new Content().addMediaType("application/json", new MediaType().schema(schema));
+    }
+
+    private static ApiResponses responses(Schema<?> schema) {
+        return new ApiResponses()
+                .addApiResponse("200", new ApiResponse().description("OK").content(json(schema)))
+                .addApiResponse("404", new ApiResponse().description("Not found"));
+    }
+}
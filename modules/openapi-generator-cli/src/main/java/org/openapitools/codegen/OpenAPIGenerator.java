@@ -35,6 +35,15 @@ import static org.openapitools.codegen.Constants.CLI_NAME;
 public class OpenAPIGenerator {
 
     public static void main(String[] args) {
+        // generate and batch run in the daemon started from the working directory, if any
+        Integer daemonStatus = DaemonClient.run(args);
+        if (daemonStatus != null) {
+            if (daemonStatus != 0) {
+                System.exit(daemonStatus);
+            }
+            return;
+        }
+
         BuildInfo buildInfo = new BuildInfo();
         Cli.CliBuilder<OpenApiGeneratorCommand> builder =
                 Cli.<OpenApiGeneratorCommand>builder(CLI_NAME)
@@ -54,7 +63,8 @@ public class OpenAPIGenerator {
                                 Validate.class,
                                 Version.class,
                                 CompletionCommand.class,
-                                GenerateBatch.class
+                                GenerateBatch.class,
+                                Daemon.class
                         );
 
         builder.withGroup("author")
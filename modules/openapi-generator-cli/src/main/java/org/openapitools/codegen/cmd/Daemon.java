@@ -0,0 +1,337 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.joran.spi.JoranException;
+import io.airlift.airline.Cli;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.airlift.airline.ParseArgumentsUnexpectedException;
+import io.airlift.airline.ParseOptionMissingException;
+import io.airlift.airline.ParseOptionMissingValueException;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.ParsedSpecCache;
+import org.openapitools.codegen.templating.CompiledTemplateCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.openapitools.codegen.Constants.CLI_NAME;
+
+/**
+ * Runs {@code generate} and {@code batch} commands sent by {@link DaemonClient} in a long-lived process, which keeps
+ * generator classes loaded and JIT compiled, and shares compiled templates and parsed specs between commands.
+ * <p>
+ * Commands run one at a time, each on a fresh thread whose {@link GlobalSettings} hold the system properties of the
+ * client, with {@link System#out} and {@link System#err} sent to the client. The daemon only accepts commands from its
+ * own working directory, so that relative paths resolve the same way as they would in the client, and with the same
+ * environment variables for generators (e.g. {@code JAVA_POST_PROCESS_FILE}), which it can't change for a command.
+ */
+@SuppressWarnings({"java:S106"})
+@Command(name = "daemon", description = "Run generate and batch commands started from the current directory in a long-lived process.")
+public class Daemon extends OpenApiGeneratorCommand {
+    // for clients to send their request, a command may then run as long as it takes
+    private static final int REQUEST_TIMEOUT_MILLIS = 10_000;
+    private static final String[] LOGGERS = {Logger.ROOT_LOGGER_NAME, "io.swagger", "org.openapitools"};
+
+    @Option(name = {"--port"}, title = "port",
+            description = "loopback port to listen on (any free port by default)")
+    private Integer port;
+
+    @Option(name = {"--idle-timeout"}, title = "minutes",
+            description = "stop after this many minutes without a command (180 by default, 0 to never stop)")
+    private Integer idleTimeout;
+
+    @Option(name = {"--stop"}, description = "stop the daemon running for the current directory")
+    private Boolean stop;
+
+    private final Cli<OpenApiGeneratorCommand> cli = Cli.<OpenApiGeneratorCommand>builder(CLI_NAME)
+            .withCommands(Generate.class, GenerateBatch.class)
+            .build();
+    // specs are parsed again when they change between commands
+    private final ParsedSpecCache parsedSpecCache = new ParsedSpecCache(true);
+    private final AtomicInteger commandCount = new AtomicInteger();
+
+    private String workingDirectory;
+    private String token;
+
+    @Override
+    void execute() {
+        workingDirectory = DaemonRegistration.currentWorkingDirectory();
+        Path file = DaemonRegistration.file(workingDirectory);
+        DaemonRegistration existing = DaemonRegistration.read(file);
+
+        if (Boolean.TRUE.equals(stop)) {
+            if (existing == null || !DaemonClient.isRunning(existing)) {
+                System.out.println("No daemon is running for " + workingDirectory);
+                return;
+            }
+            try {
+                DaemonClient.stop(existing);
+                System.out.println("Stopped the daemon for " + workingDirectory);
+            } catch (IOException e) {
+                System.err.println("[error] Unable to stop the daemon: " + e.getMessage());
+                exit(1);
+            }
+            return;
+        }
+
+        if (existing != null && DaemonClient.isRunning(existing)) {
+            System.err.printf(Locale.ROOT, "[error] A daemon is already running for %s on port %d%n", workingDirectory, existing.getPort());
+            exit(1);
+        }
+
+        try (ServerSocket server = new ServerSocket(port == null ? 0 : port, 50, InetAddress.getLoopbackAddress())) {
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : secret) {
+                hex.append(String.format(Locale.ROOT, "%02x", b));
+            }
+            token = hex.toString();
+
+            DaemonRegistration registration = new DaemonRegistration(server.getLocalPort(), token, buildInfo.getVersion(), workingDirectory);
+            registration.write(file);
+            Thread cleanup = new Thread(() -> registration.delete(file));
+            Runtime.getRuntime().addShutdownHook(cleanup);
+
+            int idleMinutes = idleTimeout == null ? 180 : Math.max(idleTimeout, 0);
+            server.setSoTimeout((int) Math.min(TimeUnit.MINUTES.toMillis(idleMinutes), Integer.MAX_VALUE));
+            System.out.printf(Locale.ROOT, "Daemon listening on port %d for commands started from %s%n", server.getLocalPort(), workingDirectory);
+
+            boolean running = true;
+            while (running) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    System.out.printf(Locale.ROOT, "No command for %d minutes, stopping%n", idleMinutes);
+                    break;
+                }
+                running = serve(socket);
+            }
+
+            registration.delete(file);
+            Runtime.getRuntime().removeShutdownHook(cleanup);
+        } catch (IOException e) {
+            System.err.println("[error] Unable to run the daemon: " + e.getMessage());
+            exit(1);
+        }
+    }
+
+    /**
+     * Serves one connection.
+     *
+     * @return false if the daemon was asked to stop
+     */
+    private boolean serve(Socket socket) {
+        try (Socket s = socket) {
+            s.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+
+            byte type = in.readByte();
+            if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), DaemonClient.readString(in).getBytes(StandardCharsets.UTF_8))) {
+                return true;
+            }
+            if (type == DaemonClient.STOP) {
+                writeExit(out, 0);
+                return false;
+            }
+
+            String clientDirectory = DaemonClient.readString(in);
+            String[] args = new String[in.readInt()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = DaemonClient.readString(in);
+            }
+            Map<String, String> properties = DaemonClient.readMap(in);
+            Map<String, String> environment = DaemonClient.readMap(in);
+            if (type != DaemonClient.RUN || !workingDirectory.equals(clientDirectory)
+                    || args.length == 0 || !DaemonClient.COMMANDS.contains(args[0])) {
+                writeExit(out, DaemonClient.REJECTED);
+                return true;
+            }
+            if (!DaemonClient.generatorEnvironment().equals(environment)) {
+                // the client runs the command itself
+                System.out.printf(Locale.ROOT, "Declined %s, the client's environment variables for generators differ from the daemon's%n", args[0]);
+                writeExit(out, DaemonClient.REJECTED);
+                return true;
+            }
+
+            s.setSoTimeout(0);
+            long start = System.nanoTime();
+            int status = run(args, properties, out);
+            writeExit(out, status);
+            System.out.printf(Locale.ROOT, "Ran %s in %d ms (exit status %d)%n", args[0],
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), status);
+        } catch (EOFException e) {
+            // e.g. a client checking whether the daemon is running
+        } catch (IOException e) {
+            System.err.println("[error] Lost the connection to a client: " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Runs a command on a fresh thread, which has its own {@link GlobalSettings}, sending its output to the client.
+     *
+     * @param properties the system properties of the client
+     * @return the exit status of the command
+     */
+    private int run(String[] args, Map<String, String> properties, DataOutputStream out) {
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        // the client decodes the output as UTF-8 and prints it with its own charset
+        PrintStream clientOut = new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonClient.OUT)), true, StandardCharsets.UTF_8);
+        PrintStream clientErr = new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonClient.ERR)), true, StandardCharsets.UTF_8);
+        List<Object> loggingState = loggingState();
+
+        int[] status = {1};
+        Thread thread = new Thread(() -> status[0] = runCommand(args, properties), "openapi-generator-daemon-" + commandCount.incrementAndGet());
+        System.setOut(clientOut);
+        System.setErr(clientErr);
+        try {
+            thread.start();
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            clientOut.flush();
+            clientErr.flush();
+            System.setOut(stdout);
+            System.setErr(stderr);
+            // commands may change the log levels or appenders, e.g. --log-to-stderr
+            if (!loggingState.equals(loggingState())) {
+                resetLogging();
+            }
+        }
+        return status[0];
+    }
+
+    private int runCommand(String[] args, Map<String, String> properties) {
+        try {
+            GlobalSettings.setProperties(properties);
+            if (GlobalSettings.getProperty(CompiledTemplateCache.SHARED_TEMPLATE_CACHE) == null) {
+                GlobalSettings.setProperty(CompiledTemplateCache.SHARED_TEMPLATE_CACHE, "true");
+            }
+            OpenApiGeneratorCommand command = cli.parse(args);
+            command.inDaemon = true;
+            if (command instanceof Generate) {
+                ((Generate) command).parsedSpecCache = parsedSpecCache;
+            } else if (command instanceof GenerateBatch) {
+                ((GenerateBatch) command).sharedSpecCache = parsedSpecCache;
+            }
+            command.run();
+            return 0;
+        } catch (ExitException e) {
+            return e.getStatus();
+        } catch (ParseArgumentsUnexpectedException e) {
+            System.err.printf(Locale.ROOT, "[error] %s%n%nSee '%s help' for usage.%n", e.getMessage(), CLI_NAME);
+            return 1;
+        } catch (ParseOptionMissingException | ParseOptionMissingValueException e) {
+            System.err.printf(Locale.ROOT, "[error] %s%n", e.getMessage());
+            return 1;
+        } catch (RuntimeException | Error e) {
+            // what the JVM would print for an uncaught exception
+            System.err.print("Exception in thread \"main\" ");
+            e.printStackTrace();
+            return 1;
+        } finally {
+            GlobalSettings.reset();
+        }
+    }
+
+    private static void writeExit(DataOutputStream out, int status) throws IOException {
+        synchronized (out) {
+            out.writeByte(DaemonClient.EXIT);
+            out.writeInt(status);
+            out.flush();
+        }
+    }
+
+    private static List<Object> loggingState() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        List<Object> state = new ArrayList<>();
+        Stream.of(LOGGERS).map(context::getLogger).forEach(logger -> {
+            state.add(logger.getLevel());
+            logger.iteratorForAppenders().forEachRemaining(appender -> {
+                state.add(appender);
+                state.add(appender.getCopyOfAttachedFiltersList());
+            });
+        });
+        return state;
+    }
+
+    private static void resetLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        try {
+            new ContextInitializer(context).autoConfig();
+        } catch (JoranException e) {
+            System.err.println("[error] Unable to reset the logging configuration: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sends what's written to it to the client, as frames of the given type.
+     */
+    private static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+
+        private FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+                out.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Sends commands to the daemon started from the working directory (see {@link Daemon}), so that they run in a warm
+ * process.
+ * <p>
+ * Requests are a type ({@link #RUN} or {@link #STOP}), the daemon's token, the working directory, the command line
+ * arguments, the system properties of the client and the environment variables generators read (see
+ * {@link #generatorEnvironment()}). The daemon runs the command with the client's system properties, and declines it
+ * if its own environment variables differ, as they can't be changed for a single command. The daemon answers with
+ * {@link #OUT} and {@link #ERR} frames holding the UTF-8 encoded output of the command, then an {@link #EXIT} frame
+ * holding its exit status.
+ */
+@SuppressWarnings({"java:S106"})
+public final class DaemonClient {
+    /**
+     * Set this environment variable to {@code false} to always run commands in the calling process.
+     */
+    public static final String DAEMON_ENV = "OPENAPI_GENERATOR_DAEMON";
+
+    static final Set<String> COMMANDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("generate", "batch")));
+
+    static final byte RUN = 'R';
+    static final byte STOP = 'S';
+    static final byte OUT = 1;
+    static final byte ERR = 2;
+    static final byte EXIT = 3;
+    // exit status of a command the daemon declined to run
+    static final int REJECTED = Integer.MIN_VALUE;
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+    // guards against allocating a huge buffer for a garbled request
+    private static final int MAX_STRING_BYTES = 64 * 1024 * 1024;
+    // e.g. JAVA_POST_PROCESS_FILE, read by generators when post-processing files is enabled
+    private static final String POST_PROCESS_FILE_ENV_SUFFIX = "_POST_PROCESS_FILE";
+
+    private DaemonClient() {
+    }
+
+    /**
+     * Runs a command in the daemon started from the working directory, if there is one.
+     *
+     * @param args the command line arguments
+     * @return the exit status of the command, or null if the command must run in this process
+     */
+    public static Integer run(String[] args) {
+        Map<String, String> properties = new HashMap<>();
+        System.getProperties().stringPropertyNames().forEach(name -> properties.put(name, System.getProperty(name)));
+        return run(args, properties, System.out, System.err);
+    }
+
+    /**
+     * Runs a command in the daemon started from the working directory, if there is one.
+     *
+     * @param args       the command line arguments
+     * @param properties the system properties to run the command with
+     * @param stdout     receives the standard output of the command
+     * @param stderr     receives the standard error of the command
+     * @return the exit status of the command, or null if the command must run in this process
+     */
+    static Integer run(String[] args, Map<String, String> properties, PrintStream stdout, PrintStream stderr) {
+        if (args.length == 0 || !COMMANDS.contains(args[0]) || "false".equalsIgnoreCase(System.getenv(DAEMON_ENV))) {
+            return null;
+        }
+        String workingDirectory = DaemonRegistration.currentWorkingDirectory();
+        DaemonRegistration registration = DaemonRegistration.read(DaemonRegistration.file(workingDirectory));
+        if (registration == null || !new BuildInfo().getVersion().equals(registration.getVersion())) {
+            return null;
+        }
+
+        boolean started = false;
+        try (Socket socket = connect(registration)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeByte(RUN);
+            writeString(out, registration.getToken());
+            writeString(out, workingDirectory);
+            out.writeInt(args.length);
+            for (String arg : args) {
+                writeString(out, arg);
+            }
+            writeMap(out, properties);
+            writeMap(out, generatorEnvironment());
+            out.flush();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            OutputDecoder outDecoder = new OutputDecoder(stdout);
+            OutputDecoder errDecoder = new OutputDecoder(stderr);
+            while (true) {
+                byte type = in.readByte();
+                if (type == EXIT) {
+                    int status = in.readInt();
+                    return status == REJECTED ? null : status;
+                }
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                started = true;
+                (type == ERR ? errDecoder : outDecoder).print(bytes);
+            }
+        } catch (IOException e) {
+            if (!started) {
+                // e.g. the daemon is gone without removing its registration
+                return null;
+            }
+            stderr.println("[error] Lost the connection to the daemon: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * @return the environment variables of this process which generators read
+     */
+    static Map<String, String> generatorEnvironment() {
+        Map<String, String> environment = new HashMap<>();
+        System.getenv().forEach((name, value) -> {
+            if (name.endsWith(POST_PROCESS_FILE_ENV_SUFFIX)) {
+                environment.put(name, value);
+            }
+        });
+        return environment;
+    }
+
+    static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    static Map<String, String> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+        return map;
+    }
+
+    // unlike writeUTF, not limited to 64 KB, which values such as java.class.path or long arguments may exceed
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param registration the registration of a daemon
+     * @return whether the daemon accepts connections
+     */
+    static boolean isRunning(DaemonRegistration registration) {
+        try (Socket ignored = connect(registration)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops a daemon once it's done with the command it's running.
+     *
+     * @param registration the registration of the daemon
+     * @throws IOException the daemon can't be reached
+     */
+    static void stop(DaemonRegistration registration) throws IOException {
+        try (Socket socket = connect(registration)) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeByte(STOP);
+            writeString(out, registration.getToken());
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            if (in.readByte() != EXIT) {
+                throw new IOException("Unexpected answer from the daemon");
+            }
+            in.readInt();
+        }
+    }
+
+    private static Socket connect(DaemonRegistration registration) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), registration.getPort()), CONNECT_TIMEOUT_MILLIS);
+            return socket;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Prints the output of the daemon, which may split a character across frames.
+     */
+    private static final class OutputDecoder {
+        private final PrintStream target;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // the start of a character whose remaining bytes are in the next frame
+        private ByteBuffer pending = ByteBuffer.allocate(0);
+
+        private OutputDecoder(PrintStream target) {
+            this.target = target;
+        }
+
+        private void print(byte[] bytes) {
+            ByteBuffer input = ByteBuffer.allocate(pending.remaining() + bytes.length);
+            input.put(pending).put(bytes).flip();
+            CharBuffer chars = CharBuffer.allocate(input.remaining());
+            decoder.decode(input, chars, false);
+            pending = input;
+            chars.flip();
+            target.print(chars.toString());
+            target.flush();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Tells clients how to reach the daemon started from a working directory. The registration is written to a file in
+ * the user's home directory, only readable by the user, since the token it holds lets anyone run commands in the
+ * daemon.
+ */
+final class DaemonRegistration {
+    private static final String PORT = "port";
+    private static final String TOKEN = "token";
+    private static final String VERSION = "version";
+    private static final String WORKING_DIRECTORY = "workingDirectory";
+
+    private final int port;
+    private final String token;
+    private final String version;
+    private final String workingDirectory;
+
+    DaemonRegistration(int port, String token, String version, String workingDirectory) {
+        this.port = port;
+        this.token = token;
+        this.version = version;
+        this.workingDirectory = workingDirectory;
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    String getWorkingDirectory() {
+        return workingDirectory;
+    }
+
+    /**
+     * @return the working directory of this process, which clients and the daemon must share
+     */
+    static String currentWorkingDirectory() {
+        return Paths.get("").toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * @param workingDirectory the working directory the daemon was started from
+     * @return the registration file of a daemon started from the working directory
+     */
+    static Path file(String workingDirectory) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(workingDirectory.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                name.append(String.format(Locale.ROOT, "%02x", digest[i]));
+            }
+            return Paths.get(System.getProperty("user.home"), ".openapi-generator", "daemons", name + ".properties");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @param file the registration file
+     * @return the registration, or null if there is none or it can't be read
+     */
+    static DaemonRegistration read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            if (properties.getProperty(TOKEN) == null) {
+                return null;
+            }
+            return new DaemonRegistration(Integer.parseInt(properties.getProperty(PORT)), properties.getProperty(TOKEN),
+                    properties.getProperty(VERSION), properties.getProperty(WORKING_DIRECTORY));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    void write(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(PORT, String.valueOf(port));
+        properties.setProperty(TOKEN, token);
+        properties.setProperty(VERSION, version);
+        properties.setProperty(WORKING_DIRECTORY, workingDirectory);
+
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "daemon", ".tmp");
+        try {
+            try {
+                Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                // not a POSIX file system, the home directory is expected to be private
+            }
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "openapi-generator daemon");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Deletes the registration file, unless another daemon has replaced this registration in the meantime.
+     *
+     * @param file the registration file
+     */
+    void delete(Path file) {
+        DaemonRegistration current = read(file);
+        if (current != null && token.equals(current.token)) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // left behind, clients fall back to running commands in their own process
+            }
+        }
+    }
+}
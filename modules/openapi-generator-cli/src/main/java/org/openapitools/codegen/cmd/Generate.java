@@ -25,10 +25,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.MergedSpecBuilder;
+import org.openapitools.codegen.config.ParsedSpecCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -42,6 +44,8 @@ public class Generate extends OpenApiGeneratorCommand {
 
     CodegenConfigurator configurator;
     Generator generator;
+    // shared by the runs of the daemon
+    ParsedSpecCache parsedSpecCache;
 
     @Option(name = {"-v", "--verbose"}, description = "verbose mode")
     private Boolean verbose;
@@ -331,6 +335,46 @@ public class Generate extends OpenApiGeneratorCommand {
             description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--incremental"},
+            title = "Incremental generation",
+            description = "Only render model and API files whose inputs changed since the last incremental run, and delete files which are no longer generated. "
+                    + "The inputs of each file are recorded in .openapi-generator/MANIFEST.")
+    private Boolean incremental;
+
+    @Option(name = {"--low-memory"},
+            title = "Low-memory generation",
+            description = "Release the data of models and APIs once their files are rendered, keeping only what supporting files declare they need "
+                    + "(e.g. {{! aggregates: models:summary apiInfo }}), and share the additional properties between all template bundles.")
+    private Boolean lowMemory;
+
+    @Option(name = {"--parallelism"},
+            title = "Number of rendering threads",
+            description = "Render and write model and API files using this many threads (1 by default, which renders on a single thread). "
+                    + "Templates relying on stateful lambdas such as copy/paste or onchange across files may not be safe to render concurrently.")
+    private Integer parallelism;
+
+    @Option(name = {"--conversion-parallelism"},
+            title = "Number of conversion threads",
+            description = "Convert schemas to models and operations to codegen operations using this many threads (1 by default, which converts on a single thread). "
+                    + "Generators whose model or operation conversion keeps state across models or operations, or changes the schemas of the document, may not be safe to run concurrently.")
+    private Integer conversionParallelism;
+
+    @Option(name = {"--post-process-batch-size"},
+            title = "Number of files per post-processor invocation",
+            description = "Pass up to this many files to each invocation of the file post-processor (1 by default, which invokes it once per file). "
+                    + "Post-processing then runs once all files are written. Requires --enable-post-process-file.")
+    private Integer postProcessBatchSize;
+
+    @Option(name = {"--post-process-parallelism"},
+            title = "Number of concurrent post-processor invocations",
+            description = "Run up to this many invocations of the file post-processor at the same time (1 by default). Requires --enable-post-process-file.")
+    private Integer postProcessParallelism;
+
+    @Option(name = {"--timings"},
+            title = "timings report file",
+            description = "Write the time spent in each generation phase, per model and per template, with the bytes written and allocated, as JSON to this file.")
+    private String timings;
+
     @Override
     public void execute() {
         if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
@@ -357,7 +401,7 @@ public class Generate extends OpenApiGeneratorCommand {
             } else if (StringUtils.isEmpty(spec)) {
                 // if user doesn't pass configFile and does not pass spec, we can fail immediately because one of these two is required to run.
                 System.err.println("[error] Required option '-i' is missing");
-                System.exit(1);
+                exit(1);
             }
 
             // if a config file wasn't specified, or we were unable to read it
@@ -384,7 +428,7 @@ public class Generate extends OpenApiGeneratorCommand {
             if (!spec.matches("^http(s)?://.*") && !new File(spec).exists()) {
                 System.err.println("[error] The spec file is not found: " + spec);
                 System.err.println("[error] Check the path of the OpenAPI spec and try again.");
-                System.exit(1);
+                exit(1);
             }
             configurator.setInputSpec(spec);
         }
@@ -498,6 +542,30 @@ public class Generate extends OpenApiGeneratorCommand {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (incremental != null) {
+            configurator.setIncrementalGeneration(incremental);
+        }
+
+        if (lowMemory != null) {
+            configurator.setLowMemoryGeneration(lowMemory);
+        }
+
+        if (parallelism != null) {
+            configurator.setGeneratorParallelism(parallelism);
+        }
+
+        if (conversionParallelism != null) {
+            configurator.setConversionParallelism(conversionParallelism);
+        }
+
+        if (postProcessBatchSize != null) {
+            configurator.setPostProcessBatchSize(postProcessBatchSize);
+        }
+
+        if (postProcessParallelism != null) {
+            configurator.setPostProcessParallelism(postProcessParallelism);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
@@ -523,6 +591,10 @@ public class Generate extends OpenApiGeneratorCommand {
         applyReservedWordsMappingsKvpList(reservedWordsMappings, configurator);
         applyServerVariablesKvpList(serverVariableOverrides, configurator);
 
+        if (parsedSpecCache != null) {
+            configurator.setParsedSpecCache(parsedSpecCache);
+        }
+
         try {
             final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
@@ -531,12 +603,34 @@ public class Generate extends OpenApiGeneratorCommand {
                 generator = new DefaultGenerator(isDryRun);
             }
 
+            GenerationTimings generationTimings = null;
+            if (isNotEmpty(timings) && generator instanceof DefaultGenerator) {
+                generationTimings = new GenerationTimings();
+                ((DefaultGenerator) generator).addGenerationListener(generationTimings);
+            }
+
             generator.opts(clientOptInput);
             generator.generate();
+
+            if (generationTimings != null) {
+                writeTimings(generationTimings);
+            }
         } catch (GeneratorNotFoundException e) {
             System.err.println(e.getMessage());
             System.err.println("[error] Check the spelling of the generator's name and try again.");
-            System.exit(1);
+            exit(1);
+        }
+    }
+
+    private void writeTimings(GenerationTimings generationTimings) {
+        File report = new File(timings);
+        try {
+            generationTimings.writeReport(report);
+            generationTimings.summary().forEach(System.out::println);
+            System.out.println("Wrote the timings report to " + report.getAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("[error] Unable to write the timings report " + report + ": " + e.getMessage());
+            exit(1);
         }
     }
 }
@@ -36,6 +36,7 @@ import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.DynamicSettings;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.ParsedSpecCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +48,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -57,8 +59,8 @@ import java.util.stream.Stream;
 @SuppressWarnings({"unused", "MismatchedQueryAndUpdateOfCollection", "java:S106"})
 @Command(name = "batch", description = "Generate code in batch via external configs.")
 public class GenerateBatch extends OpenApiGeneratorCommand {
-    private static AtomicInteger failures = new AtomicInteger(0);
-    private static AtomicInteger successes = new AtomicInteger(0);
+    private final AtomicInteger failures = new AtomicInteger(0);
+    private final AtomicInteger successes = new AtomicInteger(0);
     private final Logger LOGGER = LoggerFactory.getLogger(GenerateBatch.class);
 
     @Option(name = {"-v", "--verbose"}, description = "verbose mode")
@@ -85,6 +87,12 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     @Option(name = {"--root-dir"}, description = "root directory used output/includes (includes can be overridden)")
     private String root;
 
+    @Option(name = {"--no-spec-cache"}, description = "parse the input spec separately for every config, instead of once per distinct spec")
+    private Boolean noSpecCache;
+
+    // shared by the runs of the daemon
+    ParsedSpecCache sharedSpecCache;
+
     /**
      * When an object implementing interface <code>Runnable</code> is used
      * to create a thread, starting the thread causes the object's
@@ -100,7 +108,7 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     public void execute() {
         if (configs.size() < 1) {
             LOGGER.error("No configuration file inputs specified");
-            System.exit(1);
+            exit(1);
         }
 
         int cores = Runtime.getRuntime().availableProcessors();
@@ -139,6 +147,13 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         SimpleModule module = getCustomDeserializationModel(includesDir);
         List<CodegenConfigurator> configurators = configs.stream().map(config -> CodegenConfigurator.fromFile(config, module)).collect(Collectors.toList());
 
+        // Configs frequently share an input spec (one spec, many target languages); parse each distinct spec once.
+        ParsedSpecCache parsedSpecCache = Boolean.TRUE.equals(noSpecCache) ? null
+                : sharedSpecCache != null ? sharedSpecCache : new ParsedSpecCache();
+        if (parsedSpecCache != null) {
+            configurators.forEach(configurator -> configurator.setParsedSpecCache(parsedSpecCache));
+        }
+
         // it doesn't make sense to interleave INFO level logs, so limit these to only ERROR.
         LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
         Stream.of(Logger.ROOT_LOGGER_NAME, "io.swagger", "org.openapitools")
@@ -146,10 +161,12 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
                 .forEach(logger -> logger.setLevel(Level.ERROR));
 
         ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        // the system properties of this command, which differ from those of this process when it runs in the daemon
+        Map<String, String> properties = GlobalSettings.getProperties();
 
         // Execute each configurator on a separate pooled thread.
         configurators.forEach(configurator -> {
-            GenerationRunner runner = new GenerationRunner(configurator, rootDir, Boolean.TRUE.equals(failFast), Boolean.TRUE.equals(clean));
+            GenerationRunner runner = new GenerationRunner(configurator, rootDir, Boolean.TRUE.equals(failFast), Boolean.TRUE.equals(clean), executor, properties);
             executor.execute(runner);
         });
 
@@ -162,10 +179,17 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
 
             executor.awaitTermination(awaitFor, TimeUnit.MINUTES);
 
+            // the counts of a shared cache span several runs
+            if (parsedSpecCache != null && parsedSpecCache != sharedSpecCache && parsedSpecCache.getReuseCount() > 0) {
+                System.out.println(String.format(Locale.ROOT, "[INFO] Parsed %d distinct spec(s) for %d generators in %d ms; reusing them saved about %d ms of parsing (copies took %d ms).",
+                        parsedSpecCache.getParseCount(), parsedSpecCache.getParseCount() + parsedSpecCache.getReuseCount(),
+                        parsedSpecCache.getParseMillis(), parsedSpecCache.getSavedMillis(), parsedSpecCache.getCopyMillis()));
+            }
+
             int failCount = failures.intValue();
             if (failCount > 0) {
                 System.err.println(String.format(Locale.ROOT, "[FAIL] Completed with %d failures, %d successes", failCount, successes.intValue()));
-                System.exit(1);
+                exit(1);
             } else {
                 System.out.println(String.format(Locale.ROOT, "[SUCCESS] Batch generation finished %d generators successfully.", successes.intValue()));
             }
@@ -176,17 +200,22 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         }
     }
 
-    private static class GenerationRunner implements Runnable {
+    private class GenerationRunner implements Runnable {
         private final CodegenConfigurator configurator;
         private final Path rootDir;
         private final boolean exitOnError;
         private final boolean clean;
+        private final ExecutorService executor;
+        private final Map<String, String> properties;
 
-        private GenerationRunner(CodegenConfigurator configurator, Path rootDir, boolean failFast, boolean clean) {
+        private GenerationRunner(CodegenConfigurator configurator, Path rootDir, boolean failFast, boolean clean, ExecutorService executor,
+                                 Map<String, String> properties) {
             this.configurator = configurator;
             this.rootDir = rootDir;
             this.exitOnError = failFast;
             this.clean = clean;
+            this.executor = executor;
+            this.properties = properties;
         }
 
         /**
@@ -204,7 +233,7 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         public void run() {
             String name = null;
             try {
-                GlobalSettings.reset();
+                GlobalSettings.setProperties(properties);
 
                 ClientOptInput opts = configurator.toClientOptInput();
                 CodegenConfig config = opts.getConfig();
@@ -236,7 +265,12 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
                 System.err.printf(Locale.ROOT, "[%s] Generation failed for %s: (%s) %s%n", Thread.currentThread().getName(), failedOn, e.getClass().getSimpleName(), e.getMessage());
                 e.printStackTrace(System.err);
                 if (exitOnError) {
-                    System.exit(1);
+                    if (inDaemon) {
+                        // the daemon keeps running, skip the remaining generators instead
+                        executor.shutdownNow();
+                    } else {
+                        System.exit(1);
+                    }
                 }
             } finally {
                 GlobalSettings.reset();
@@ -15,6 +15,9 @@ public abstract class OpenApiGeneratorCommand implements Runnable {
 
     protected BuildInfo buildInfo = new BuildInfo();
 
+    // set when the command runs in the daemon, which must keep running whatever the outcome
+    boolean inDaemon;
+
     @Override
     public void run() {
         if (globalOptions.version) {
@@ -36,4 +39,32 @@ public abstract class OpenApiGeneratorCommand implements Runnable {
      * Logic to be executed by implementing commands
      */
     abstract void execute();
+
+    /**
+     * Ends the command with the given exit status. This exits the JVM, unless the command runs in the daemon.
+     *
+     * @param status the exit status
+     */
+    void exit(int status) {
+        if (inDaemon) {
+            throw new ExitException(status);
+        }
+        System.exit(status);
+    }
+
+    /**
+     * Ends a command running in the daemon, see {@link #exit(int)}.
+     */
+    static final class ExitException extends RuntimeException {
+        private final int status;
+
+        ExitException(int status) {
+            super("exit " + status, null, false, false);
+            this.status = status;
+        }
+
+        int getStatus() {
+            return status;
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package org.openapitools.codegen.cmd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public class DaemonTest {
+    private String userHome;
+    private Path home;
+    private Thread daemon;
+
+    @BeforeMethod
+    public void startDaemon() throws IOException, InterruptedException {
+        // the daemon registers itself in the user's home directory
+        userHome = System.getProperty("user.home");
+        home = Files.createTempDirectory("DaemonTest");
+        System.setProperty("user.home", home.toString());
+
+        daemon = new Thread(new Daemon()::execute, "DaemonTest");
+        daemon.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (registration() == null) {
+            assertTrue(System.nanoTime() < deadline, "the daemon didn't start");
+            Thread.sleep(50);
+        }
+    }
+
+    @AfterMethod
+    public void stopDaemon() throws IOException, InterruptedException {
+        DaemonRegistration registration = registration();
+        if (registration != null) {
+            DaemonClient.stop(registration);
+        }
+        daemon.join(TimeUnit.SECONDS.toMillis(30));
+        System.setProperty("user.home", userHome);
+        FileUtils.deleteDirectory(home.toFile());
+    }
+
+    @Test
+    public void batchRunsWithTheSystemPropertiesOfTheClient() throws IOException {
+        Path output = Files.createTempDirectory("DaemonTest");
+        try {
+            Map<String, Object> generator = new HashMap<>();
+            generator.put("generatorName", "java");
+            generator.put("inputSpec", Paths.get("src/test/resources/batch/specs/petstore.yaml").toAbsolutePath().toString());
+            generator.put("outputDir", output.resolve("java").toString());
+            Path config = output.resolve("java.json");
+            new ObjectMapper().writeValue(config.toFile(), generator);
+
+            // as if the client was started with -Dmodels=Pet
+            Map<String, String> properties = GlobalSettings.getProperties();
+            properties.put(CodegenConstants.MODELS, "Pet");
+            ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+            ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+            Integer status = DaemonClient.run(new String[]{"batch", config.toString()}, properties,
+                    new PrintStream(stdout, true, StandardCharsets.UTF_8), new PrintStream(stderr, true, StandardCharsets.UTF_8));
+
+            assertEquals(status, Integer.valueOf(0), stderr.toString(StandardCharsets.UTF_8));
+            assertTrue(stdout.toString(StandardCharsets.UTF_8).contains("[SUCCESS]"));
+            // non-ASCII output arrives intact, whatever the default charset of the daemon
+            assertTrue(stdout.toString(StandardCharsets.UTF_8).contains("Finished generating java\u2026"));
+            Path sources = output.resolve("java/src/main/java/org/openapitools/client");
+            assertTrue(Files.exists(sources.resolve("model/Pet.java")));
+            assertFalse(Files.exists(sources.resolve("model/Error.java")));
+            assertFalse(Files.exists(sources.resolve("api/PetsApi.java")));
+            assertNull(System.getProperty(CodegenConstants.MODELS));
+        } finally {
+            FileUtils.deleteDirectory(output.toFile());
+        }
+    }
+
+    private static DaemonRegistration registration() {
+        return DaemonRegistration.read(DaemonRegistration.file(DaemonRegistration.currentWorkingDirectory()));
+    }
+}
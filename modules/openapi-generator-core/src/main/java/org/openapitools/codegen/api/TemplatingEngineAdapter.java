@@ -67,6 +67,26 @@ public interface TemplatingEngineAdapter {
     String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle,
                            String templateFile) throws IOException;
 
+    /**
+     * Number of {@link #compileTemplate(TemplatingExecutor, Map, String)} calls which reused a previously compiled template.
+     * Adapters which don't cache compiled templates report 0.
+     *
+     * @return the number of compiled template cache hits
+     */
+    default long getTemplateCacheHits() {
+        return 0L;
+    }
+
+    /**
+     * Number of {@link #compileTemplate(TemplatingExecutor, Map, String)} calls which had to read and compile the template.
+     * Adapters which don't cache compiled templates report 0.
+     *
+     * @return the number of compiled template cache misses
+     */
+    default long getTemplateCacheMisses() {
+        return 0L;
+    }
+
     /**
      * Determines whether the template file with supported extensions exists. This may be on the filesystem,
      * external filesystem, or classpath (implementation is up to TemplatingGenerator).
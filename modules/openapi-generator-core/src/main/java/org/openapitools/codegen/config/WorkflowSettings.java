@@ -44,8 +44,14 @@ public class WorkflowSettings {
     public static final boolean DEFAULT_VALIDATE_SPEC = true;
     public static final boolean DEFAULT_ENABLE_POST_PROCESS_FILE = false;
     public static final boolean DEFAULT_ENABLE_MINIMAL_UPDATE = false;
+    public static final boolean DEFAULT_INCREMENTAL_GENERATION = false;
+    public static final boolean DEFAULT_LOW_MEMORY_GENERATION = false;
     public static final boolean DEFAULT_STRICT_SPEC_BEHAVIOR = true;
     public static final boolean DEFAULT_GENERATE_ALIAS_AS_MODEL = false;
+    public static final int DEFAULT_GENERATOR_PARALLELISM = 1;
+    public static final int DEFAULT_CONVERSION_PARALLELISM = 1;
+    public static final int DEFAULT_POST_PROCESS_BATCH_SIZE = 1;
+    public static final int DEFAULT_POST_PROCESS_PARALLELISM = 1;
     public static final String DEFAULT_TEMPLATING_ENGINE_NAME = null; // this is set by the generator
     public static final Map<String, String> DEFAULT_GLOBAL_PROPERTIES = Collections.unmodifiableMap(new HashMap<>());
 
@@ -59,8 +65,14 @@ public class WorkflowSettings {
     private boolean validateSpec = DEFAULT_VALIDATE_SPEC;
     private boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
     private boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+    private boolean incrementalGeneration = DEFAULT_INCREMENTAL_GENERATION;
+    private boolean lowMemoryGeneration = DEFAULT_LOW_MEMORY_GENERATION;
     private boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
     private boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+    private int generatorParallelism = DEFAULT_GENERATOR_PARALLELISM;
+    private int conversionParallelism = DEFAULT_CONVERSION_PARALLELISM;
+    private int postProcessBatchSize = DEFAULT_POST_PROCESS_BATCH_SIZE;
+    private int postProcessParallelism = DEFAULT_POST_PROCESS_PARALLELISM;
     private String templateDir;
     private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
     private String ignoreFileOverride;
@@ -77,12 +89,18 @@ public class WorkflowSettings {
         this.validateSpec = builder.validateSpec;
         this.enablePostProcessFile = builder.enablePostProcessFile;
         this.enableMinimalUpdate = builder.enableMinimalUpdate;
+        this.incrementalGeneration = builder.incrementalGeneration;
+        this.lowMemoryGeneration = builder.lowMemoryGeneration;
         this.strictSpecBehavior = builder.strictSpecBehavior;
         this.templateDir = builder.templateDir;
         this.templatingEngineName = builder.templatingEngineName;
         this.ignoreFileOverride = builder.ignoreFileOverride;
         this.globalProperties = Collections.unmodifiableMap(builder.globalProperties);
         this.generateAliasAsModel = builder.generateAliasAsModel;
+        this.generatorParallelism = builder.generatorParallelism;
+        this.conversionParallelism = builder.conversionParallelism;
+        this.postProcessBatchSize = builder.postProcessBatchSize;
+        this.postProcessParallelism = builder.postProcessParallelism;
     }
 
     /**
@@ -109,7 +127,13 @@ public class WorkflowSettings {
         builder.validateSpec = copy.isValidateSpec();
         builder.enablePostProcessFile = copy.isEnablePostProcessFile();
         builder.enableMinimalUpdate = copy.isEnableMinimalUpdate();
+        builder.incrementalGeneration = copy.isIncrementalGeneration();
+        builder.lowMemoryGeneration = copy.isLowMemoryGeneration();
         builder.generateAliasAsModel = copy.isGenerateAliasAsModel();
+        builder.generatorParallelism = copy.getGeneratorParallelism();
+        builder.conversionParallelism = copy.getConversionParallelism();
+        builder.postProcessBatchSize = copy.getPostProcessBatchSize();
+        builder.postProcessParallelism = copy.getPostProcessParallelism();
         builder.strictSpecBehavior = copy.isStrictSpecBehavior();
         builder.templatingEngineName = copy.getTemplatingEngineName();
         builder.ignoreFileOverride = copy.getIgnoreFileOverride();
@@ -227,6 +251,67 @@ public class WorkflowSettings {
         return enableMinimalUpdate;
     }
 
+    /**
+     * Indicates whether or not model and API files are only rendered when their inputs changed since the last run.
+     * The inputs of each file are recorded in a manifest in the output directory, and files which are no longer
+     * generated are deleted.
+     *
+     * @return <code>true</code> if incremental generation is enabled, otherwise <code>false</code>.
+     */
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    /**
+     * Indicates whether or not the data of models and APIs is released or reduced to summaries once their files are
+     * rendered, as far as the supporting files still need it. Supporting file templates may declare which aggregates
+     * they use; the additional properties are shared by all bundles instead of being copied into each of them.
+     *
+     * @return <code>true</code> if low-memory generation is enabled, otherwise <code>false</code>.
+     */
+    public boolean isLowMemoryGeneration() {
+        return lowMemoryGeneration;
+    }
+
+    /**
+     * Gets the number of threads used to render and write model and API files. Defaults to 1, which renders
+     * everything on the calling thread.
+     *
+     * @return the generator parallelism
+     */
+    public int getGeneratorParallelism() {
+        return generatorParallelism;
+    }
+
+    /**
+     * Gets the number of threads used to convert schemas to models and operations to codegen operations. Defaults to
+     * 1, which converts everything on the calling thread.
+     *
+     * @return the conversion parallelism
+     */
+    public int getConversionParallelism() {
+        return conversionParallelism;
+    }
+
+    /**
+     * Gets the maximum number of files passed to a single invocation of the file post-processor. Defaults to 1, which
+     * invokes the post-processor once per file, right after the file has been written.
+     *
+     * @return the post-process batch size
+     */
+    public int getPostProcessBatchSize() {
+        return postProcessBatchSize;
+    }
+
+    /**
+     * Gets the number of file post-processor invocations which may run at the same time. Defaults to 1.
+     *
+     * @return the post-process parallelism
+     */
+    public int getPostProcessParallelism() {
+        return postProcessParallelism;
+    }
+
     /**
      * Indicates whether or not the generation should convert aliases (primitives defined as schema for use within documents) as models.
      *
@@ -307,8 +392,14 @@ public class WorkflowSettings {
         private Boolean validateSpec = DEFAULT_VALIDATE_SPEC;
         private Boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
         private Boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+        private Boolean incrementalGeneration = DEFAULT_INCREMENTAL_GENERATION;
+        private Boolean lowMemoryGeneration = DEFAULT_LOW_MEMORY_GENERATION;
         private Boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
         private Boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+        private Integer generatorParallelism = DEFAULT_GENERATOR_PARALLELISM;
+        private Integer conversionParallelism = DEFAULT_CONVERSION_PARALLELISM;
+        private Integer postProcessBatchSize = DEFAULT_POST_PROCESS_BATCH_SIZE;
+        private Integer postProcessParallelism = DEFAULT_POST_PROCESS_PARALLELISM;
         private String templateDir;
         private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
         private String ignoreFileOverride;
@@ -436,6 +527,72 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code incrementalGeneration} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param incrementalGeneration the {@code incrementalGeneration} to set
+         * @return a reference to this Builder
+         */
+        public Builder withIncrementalGeneration(Boolean incrementalGeneration) {
+            this.incrementalGeneration = incrementalGeneration != null ? incrementalGeneration : Boolean.valueOf(DEFAULT_INCREMENTAL_GENERATION);
+            return this;
+        }
+
+        /**
+         * Sets the {@code lowMemoryGeneration} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param lowMemoryGeneration the {@code lowMemoryGeneration} to set
+         * @return a reference to this Builder
+         */
+        public Builder withLowMemoryGeneration(Boolean lowMemoryGeneration) {
+            this.lowMemoryGeneration = lowMemoryGeneration != null ? lowMemoryGeneration : Boolean.valueOf(DEFAULT_LOW_MEMORY_GENERATION);
+            return this;
+        }
+
+        /**
+         * Sets the {@code generatorParallelism} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param generatorParallelism the {@code generatorParallelism} to set; values below 1 fall back to the default
+         * @return a reference to this Builder
+         */
+        public Builder withGeneratorParallelism(Integer generatorParallelism) {
+            this.generatorParallelism = generatorParallelism != null && generatorParallelism > 0 ? generatorParallelism : Integer.valueOf(DEFAULT_GENERATOR_PARALLELISM);
+            return this;
+        }
+
+        /**
+         * Sets the {@code conversionParallelism} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param conversionParallelism the {@code conversionParallelism} to set; values below 1 fall back to the default
+         * @return a reference to this Builder
+         */
+        public Builder withConversionParallelism(Integer conversionParallelism) {
+            this.conversionParallelism = conversionParallelism != null && conversionParallelism > 0 ? conversionParallelism : Integer.valueOf(DEFAULT_CONVERSION_PARALLELISM);
+            return this;
+        }
+
+        /**
+         * Sets the {@code postProcessBatchSize} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param postProcessBatchSize the {@code postProcessBatchSize} to set; values below 1 fall back to the default
+         * @return a reference to this Builder
+         */
+        public Builder withPostProcessBatchSize(Integer postProcessBatchSize) {
+            this.postProcessBatchSize = postProcessBatchSize != null && postProcessBatchSize > 0 ? postProcessBatchSize : Integer.valueOf(DEFAULT_POST_PROCESS_BATCH_SIZE);
+            return this;
+        }
+
+        /**
+         * Sets the {@code postProcessParallelism} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param postProcessParallelism the {@code postProcessParallelism} to set; values below 1 fall back to the default
+         * @return a reference to this Builder
+         */
+        public Builder withPostProcessParallelism(Integer postProcessParallelism) {
+            this.postProcessParallelism = postProcessParallelism != null && postProcessParallelism > 0 ? postProcessParallelism : Integer.valueOf(DEFAULT_POST_PROCESS_PARALLELISM);
+            return this;
+        }
+
         /**
          * Sets the {@code strictSpecBehavior} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -580,12 +737,18 @@ public class WorkflowSettings {
                 ", validateSpec=" + validateSpec +
                 ", enablePostProcessFile=" + enablePostProcessFile +
                 ", enableMinimalUpdate=" + enableMinimalUpdate +
+                ", incrementalGeneration=" + incrementalGeneration +
+                ", lowMemoryGeneration=" + lowMemoryGeneration +
                 ", strictSpecBehavior=" + strictSpecBehavior +
                 ", templateDir='" + templateDir + '\'' +
                 ", templatingEngineName='" + templatingEngineName + '\'' +
                 ", ignoreFileOverride='" + ignoreFileOverride + '\'' +
                 ", globalProperties=" + globalProperties +
                 ", generateAliasAsModel=" + generateAliasAsModel +
+                ", generatorParallelism=" + generatorParallelism +
+                ", conversionParallelism=" + conversionParallelism +
+                ", postProcessBatchSize=" + postProcessBatchSize +
+                ", postProcessParallelism=" + postProcessParallelism +
                 '}';
     }
 
@@ -602,8 +765,14 @@ public class WorkflowSettings {
                 isValidateSpec() == that.isValidateSpec() &&
                 isEnablePostProcessFile() == that.isEnablePostProcessFile() &&
                 isEnableMinimalUpdate() == that.isEnableMinimalUpdate() &&
+                isIncrementalGeneration() == that.isIncrementalGeneration() &&
+                isLowMemoryGeneration() == that.isLowMemoryGeneration() &&
                 isStrictSpecBehavior() == that.isStrictSpecBehavior() &&
                 isGenerateAliasAsModel() == that.isGenerateAliasAsModel() &&
+                getGeneratorParallelism() == that.getGeneratorParallelism() &&
+                getConversionParallelism() == that.getConversionParallelism() &&
+                getPostProcessBatchSize() == that.getPostProcessBatchSize() &&
+                getPostProcessParallelism() == that.getPostProcessParallelism() &&
                 Objects.equals(getInputSpec(), that.getInputSpec()) &&
                 Objects.equals(getOutputDir(), that.getOutputDir()) &&
                 Objects.equals(getTemplateDir(), that.getTemplateDir()) &&
@@ -626,7 +795,13 @@ public class WorkflowSettings {
                 isGenerateAliasAsModel(),
                 isEnablePostProcessFile(),
                 isEnableMinimalUpdate(),
+                isIncrementalGeneration(),
+                isLowMemoryGeneration(),
                 isStrictSpecBehavior(),
+                getGeneratorParallelism(),
+                getConversionParallelism(),
+                getPostProcessBatchSize(),
+                getPostProcessParallelism(),
                 getTemplateDir(),
                 getTemplatingEngineName(),
                 getIgnoreFileOverride(),
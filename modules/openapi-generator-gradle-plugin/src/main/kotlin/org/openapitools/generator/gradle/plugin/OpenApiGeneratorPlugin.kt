@@ -154,6 +154,8 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
                     engine.set(generate.engine)
                     cleanupOutput.set(generate.cleanupOutput)
                     dryRun.set(generate.dryRun)
+                    logTimings.set(generate.logTimings)
+                    timingsReport.set(generate.timingsReport)
                 }
             }
         }
@@ -407,6 +407,16 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val dryRun = project.objects.property<Boolean>()
 
+    /**
+     * Log the time spent in each generation phase, and the slowest models and templates.
+     */
+    val logTimings = project.objects.property<Boolean>()
+
+    /**
+     * Write the time spent in each generation phase, per model and per template, as JSON to this file.
+     */
+    val timingsReport = project.objects.property<String>()
+
     init {
         applyDefaults()
     }
@@ -430,5 +440,6 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
         generateAliasAsModel.set(false)
         cleanupOutput.set(false)
         dryRun.set(false)
+        logTimings.set(false)
     }
 }
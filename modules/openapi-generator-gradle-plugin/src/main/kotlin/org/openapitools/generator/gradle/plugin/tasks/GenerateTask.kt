@@ -16,6 +16,7 @@
 
 package org.openapitools.generator.gradle.plugin.tasks
 
+import java.io.File
 import javax.inject.Inject
 import org.gradle.api.DefaultTask
 import org.gradle.api.GradleException
@@ -42,6 +43,7 @@ import org.gradle.kotlin.dsl.property
 import org.gradle.util.GradleVersion
 import org.openapitools.codegen.CodegenConstants
 import org.openapitools.codegen.DefaultGenerator
+import org.openapitools.codegen.GenerationTimings
 import org.openapitools.codegen.config.CodegenConfigurator
 import org.openapitools.codegen.config.GlobalSettings
 import org.openapitools.codegen.config.MergedSpecBuilder
@@ -598,6 +600,19 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
     @Input
     val dryRun = project.objects.property<Boolean>()
 
+    /**
+     * Log the time spent in each generation phase, and the slowest models and templates.
+     */
+    @Internal
+    val logTimings = project.objects.property<Boolean>()
+
+    /**
+     * Write the time spent in each generation phase, per model and per template, as JSON to this file.
+     * The summary is logged as with [logTimings].
+     */
+    @Internal
+    val timingsReport = project.objects.property<String>()
+
     private fun <T : Any?> Property<T>.ifNotEmpty(block: Property<T>.(T) -> Unit) {
         if (isPresent) {
             val item: T? = get()
@@ -980,9 +995,24 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
                 val out = services.get(StyledTextOutputFactory::class.java).create("openapi")
                 out.withStyle(StyledTextOutput.Style.Success)
 
-                DefaultGenerator(dryRunSetting).opts(clientOptInput).generate()
+                val generator = DefaultGenerator(dryRunSetting)
+                val generationTimings = if (logTimings.getOrElse(false) || timingsReport.isPresent) {
+                    GenerationTimings().also { generator.addGenerationListener(it) }
+                } else {
+                    null
+                }
+                generator.opts(clientOptInput).generate()
 
                 out.println("Successfully generated code to ${outputDir.get()}")
+
+                generationTimings?.let { timings ->
+                    timings.summary().forEach { logger.lifecycle(it) }
+                    timingsReport.ifNotEmpty { path ->
+                        val report = File(path)
+                        timings.writeReport(report)
+                        logger.lifecycle("Wrote the timings report to ${report.absolutePath}")
+                    }
+                }
             } catch (e: RuntimeException) {
                 throw GradleException("Code generation failed.", e)
             }
@@ -17,9 +17,7 @@
 
 package org.openapitools.codegen.plugin;
 
-import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.parser.OpenAPIResolver;
@@ -44,6 +42,7 @@ import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
 import org.openapitools.codegen.config.MergedSpecBuilder;
+import org.openapitools.codegen.utils.ImplementationVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonatype.plexus.build.incremental.BuildContext;
@@ -51,6 +50,8 @@ import org.sonatype.plexus.build.incremental.DefaultBuildContext;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -201,6 +202,55 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "skipOverwrite", property = "openapi.generator.maven.plugin.skipOverwrite")
     private Boolean skipOverwrite;
 
+    /**
+     * Number of threads used to render and write model and API files.
+     */
+    @Parameter(name = "generatorParallelism", property = "openapi.generator.maven.plugin.generatorParallelism")
+    private Integer generatorParallelism;
+
+    /**
+     * Number of threads used to convert schemas to models and operations to codegen operations.
+     */
+    @Parameter(name = "conversionParallelism", property = "openapi.generator.maven.plugin.conversionParallelism")
+    private Integer conversionParallelism;
+
+    /**
+     * Log the time spent in each generation phase, and the slowest models and templates.
+     */
+    @Parameter(name = "logTimings", property = "openapi.generator.maven.plugin.logTimings", defaultValue = "false")
+    private boolean logTimings;
+
+    /**
+     * Write the time spent in each generation phase, per model and per template, as JSON to this file. The summary
+     * is logged as with {@code logTimings}.
+     */
+    @Parameter(name = "timingsReport", property = "openapi.generator.maven.plugin.timingsReport")
+    private File timingsReport;
+
+    /**
+     * Only render model and API files whose inputs changed since the last incremental run.
+     */
+    @Parameter(name = "incrementalGeneration", property = "openapi.generator.maven.plugin.incrementalGeneration")
+    private Boolean incrementalGeneration;
+
+    /**
+     * Release the data of models and APIs once their files are rendered, as far as supporting files don't need it.
+     */
+    @Parameter(name = "lowMemoryGeneration", property = "openapi.generator.maven.plugin.lowMemoryGeneration")
+    private Boolean lowMemoryGeneration;
+
+    /**
+     * Maximum number of files passed to a single invocation of the file post-processor.
+     */
+    @Parameter(name = "postProcessBatchSize", property = "openapi.generator.maven.plugin.postProcessBatchSize")
+    private Integer postProcessBatchSize;
+
+    /**
+     * Number of file post-processor invocations which may run at the same time.
+     */
+    @Parameter(name = "postProcessParallelism", property = "openapi.generator.maven.plugin.postProcessParallelism")
+    private Integer postProcessParallelism;
+
     /**
      * The package to use for generated api objects/classes
      */
@@ -502,7 +552,8 @@ public class CodeGenMojo extends AbstractMojo {
     private Boolean skip;
 
     /**
-     * Skip the execution if the source file is older than the output folder.
+     * Skip the execution if the inputs are unchanged since the last generation: the spec and the local files it
+     * references, the configuration file, the custom templates, the plugin configuration and the generator version.
      */
     @Parameter(name = "skipIfSpecIsUnchanged", property = "codegen.skipIfSpecIsUnchanged", defaultValue = "false")
     private Boolean skipIfSpecIsUnchanged;
@@ -606,11 +657,13 @@ public class CodeGenMojo extends AbstractMojo {
                 }
             }
 
+            // computed before generating, so that inputs changing during the run are picked up by the next one
+            final String inputSpecHash = calculateInputSpecHash(inputSpec);
             if (Boolean.TRUE.equals(skipIfSpecIsUnchanged)) {
                 final File storedInputSpecHashFile = getHashFile(inputSpecFile);
                 if (storedInputSpecHashFile.exists()) {
                     String storedInputSpecHash = Files.asCharSource(storedInputSpecHashFile, StandardCharsets.UTF_8).read();
-                    if (storedInputSpecHash.equals(calculateInputSpecHash(inputSpec))) {
+                    if (storedInputSpecHash.equals(inputSpecHash)) {
                         getLog().info("Code generation is skipped because input was unchanged");
                         return;
                     }
@@ -640,6 +693,30 @@ public class CodeGenMojo extends AbstractMojo {
                 configurator.setSkipOverwrite(skipOverwrite);
             }
 
+            if (generatorParallelism != null) {
+                configurator.setGeneratorParallelism(generatorParallelism);
+            }
+
+            if (conversionParallelism != null) {
+                configurator.setConversionParallelism(conversionParallelism);
+            }
+
+            if (incrementalGeneration != null) {
+                configurator.setIncrementalGeneration(incrementalGeneration);
+            }
+
+            if (lowMemoryGeneration != null) {
+                configurator.setLowMemoryGeneration(lowMemoryGeneration);
+            }
+
+            if (postProcessBatchSize != null) {
+                configurator.setPostProcessBatchSize(postProcessBatchSize);
+            }
+
+            if (postProcessParallelism != null) {
+                configurator.setPostProcessParallelism(postProcessParallelism);
+            }
+
             if (removeOperationIdPrefix != null) {
                 configurator.setRemoveOperationIdPrefix(removeOperationIdPrefix);
             }
@@ -986,7 +1063,21 @@ public class CodeGenMojo extends AbstractMojo {
             }
             adjustAdditionalProperties(config);
             GlobalSettings.log();
-            new DefaultGenerator(dryRun).opts(input).generate();
+            DefaultGenerator generator = new DefaultGenerator(dryRun);
+            GenerationTimings generationTimings = null;
+            if (logTimings || timingsReport != null) {
+                generationTimings = new GenerationTimings();
+                generator.addGenerationListener(generationTimings);
+            }
+            generator.opts(input).generate();
+
+            if (generationTimings != null) {
+                generationTimings.summary().forEach(getLog()::info);
+                if (timingsReport != null) {
+                    generationTimings.writeReport(timingsReport);
+                    getLog().info("Wrote the timings report to " + timingsReport.getAbsolutePath());
+                }
+            }
 
             if (buildContext != null) {
                 buildContext.refresh(new File(getCompileSourceRoot()));
@@ -1002,7 +1093,7 @@ public class CodeGenMojo extends AbstractMojo {
                 }
             }
 
-            Files.asCharSink(storedInputSpecHashFile, StandardCharsets.UTF_8).write(calculateInputSpecHash(inputSpec));
+            Files.asCharSink(storedInputSpecHashFile, StandardCharsets.UTF_8).write(inputSpecHash);
         } catch (Exception e) {
             // Maven logs exceptions thrown by plugins only if invoked with -e
             // I find it annoying to jump through hoops to get basic diagnostic information,
@@ -1017,23 +1108,43 @@ public class CodeGenMojo extends AbstractMojo {
     }
 
     /**
-     * Calculate an SHA256 hash for the openapi specification.
+     * Calculate an SHA256 hash of the generation inputs without parsing the specification: the bytes of the
+     * specification and the local files it references, the configuration file, the custom templates, the plugin
+     * configuration and the generator version.
      * If the specification is hosted on a remote resource it is downloaded first.
      *
      * @param inputSpec - Openapi specification input file. Can denote a URL or file path.
      * @return openapi specification hash
+     * @throws IOException if an input can't be read
      */
-    private String calculateInputSpecHash(String inputSpec) {
-        final ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-
+    private String calculateInputSpecHash(String inputSpec) throws IOException {
         final URL remoteUrl = inputSpecRemoteUrl();
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
 
-        return Hashing.sha256().hashBytes(
-                new OpenAPIParser().readLocation(remoteUrl == null ? inputSpec : remoteUrl.toString(), authorizationValues, parseOptions)
-                        .getOpenAPI().toString().getBytes(StandardCharsets.UTF_8)
-        ).toString();
+        final InputFingerprint fingerprint = new InputFingerprint()
+                .putSpec(remoteUrl == null ? inputSpec : remoteUrl.toString(), authorizationValues)
+                .putFile("configurationFile", configurationFile == null ? null : new File(configurationFile))
+                .putDirectory("templateDirectory", templateDirectory)
+                .putValue("generatorVersion", ImplementationVersion.read());
+
+        // the effective plugin configuration, i.e. all parameters as injected by Maven
+        for (Field field : CodeGenMojo.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || !isConfigurationType(field.getType())
+                    || "skip".equals(field.getName()) || "skipIfSpecIsUnchanged".equals(field.getName())) {
+                continue;
+            }
+            try {
+                fingerprint.putValue(field.getName(), field.get(this));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to read parameter " + field.getName(), e);
+            }
+        }
+        return fingerprint.hash();
+    }
+
+    private static boolean isConfigurationType(Class<?> type) {
+        return type.isPrimitive() || type == String.class || type == Boolean.class || type == Integer.class
+                || type == File.class || Map.class.isAssignableFrom(type) || List.class.isAssignableFrom(type);
     }
 
     /**
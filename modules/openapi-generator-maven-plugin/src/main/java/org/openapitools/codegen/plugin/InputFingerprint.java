@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.plugin;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.util.ClasspathHelper;
+import io.swagger.v3.parser.util.RemoteUrl;
+import org.openapitools.codegen.utils.ExternalRefUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A SHA-256 fingerprint of the inputs of a generation run, computed from raw bytes so that {@code skipIfSpecIsUnchanged}
+ * can tell whether anything changed without parsing the spec.
+ * <p>
+ * Besides the spec itself, local files it references through {@code $ref} are included, as found by
+ * {@link ExternalRefUtils}; references of remote or classpath specs aren't followed.
+ */
+class InputFingerprint {
+    private final Hasher hasher = Hashing.sha256().newHasher();
+
+    /**
+     * Adds the spec and the local files it references.
+     *
+     * @param location            the spec location: a file path, URL or classpath resource
+     * @param authorizationValues used to fetch a remote spec
+     * @return this fingerprint
+     * @throws IOException if a file can't be read
+     */
+    InputFingerprint putSpec(String location, List<AuthorizationValue> authorizationValues) throws IOException {
+        String normalized = location.replace('\\', '/');
+        if (normalized.toLowerCase(Locale.ROOT).startsWith("http")) {
+            try {
+                return putBytes("spec", RemoteUrl.urlToString(normalized, authorizationValues).getBytes(StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                throw new IOException("Unable to read " + location, e);
+            }
+        }
+
+        Path path = normalized.toLowerCase(Locale.ROOT).startsWith("file:") ? Paths.get(URI.create(normalized)) : Paths.get(location);
+        if (Files.exists(path)) {
+            return putSpecFiles(path.toAbsolutePath().normalize());
+        }
+        try {
+            return putBytes("spec", ClasspathHelper.loadFileFromClasspath(location).getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new IOException("Unable to read " + location, e);
+        }
+    }
+
+    private InputFingerprint putSpecFiles(Path root) throws IOException {
+        Path baseDir = root.getParent();
+        Set<Path> visited = new HashSet<>();
+        Deque<Path> queue = new ArrayDeque<>();
+        queue.add(root);
+        visited.add(root);
+        while (!queue.isEmpty()) {
+            Path file = queue.poll();
+            // relative names keep the fingerprint stable when the project is moved
+            String name = baseDir == null ? file.toString() : baseDir.relativize(file).toString().replace(File.separatorChar, '/');
+            if (!Files.isRegularFile(file)) {
+                putValue("missing", name);
+                continue;
+            }
+
+            byte[] content = Files.readAllBytes(file);
+            putValue("file", name);
+            putBytes("content", content);
+
+            for (String ref : ExternalRefUtils.localReferences(new String(content, StandardCharsets.UTF_8))) {
+                Path target = file.resolveSibling(ref).normalize();
+                if (visited.add(target)) {
+                    queue.add(target);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds all files below a directory, by relative path.
+     *
+     * @param label describes the directory
+     * @param dir   the directory, may be null
+     * @return this fingerprint
+     * @throws IOException if a file can't be read
+     */
+    InputFingerprint putDirectory(String label, File dir) throws IOException {
+        if (dir == null || !dir.isDirectory()) {
+            return putValue(label, dir);
+        }
+        Path root = dir.toPath();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        putValue(label, files.size());
+        for (Path file : files) {
+            putValue("file", root.relativize(file).toString().replace(File.separatorChar, '/'));
+            putFileContent(file);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the content of a file.
+     *
+     * @param label describes the file
+     * @param file  the file, may be null
+     * @return this fingerprint
+     * @throws IOException if the file can't be read
+     */
+    InputFingerprint putFile(String label, File file) throws IOException {
+        if (file == null || !file.isFile()) {
+            return putValue(label, file);
+        }
+        putValue(label, file.getName());
+        return putFileContent(file.toPath());
+    }
+
+    private InputFingerprint putFileContent(Path file) throws IOException {
+        putValue("size", Files.size(file));
+        try (InputStream in = Files.newInputStream(file)) {
+            OutputStream out = Funnels.asOutputStream(hasher);
+            ByteStreams.copy(in, out);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a named value. Maps are added in key order, so that equal maps give equal fingerprints.
+     *
+     * @param name  the value name
+     * @param value the value, may be null
+     * @return this fingerprint
+     */
+    InputFingerprint putValue(String name, Object value) {
+        Object normalized = value instanceof Map ? new TreeMap<>(((Map<?, ?>) value).entrySet().stream()
+                .collect(Collectors.toMap(e -> String.valueOf(e.getKey()), e -> String.valueOf(e.getValue()), (a, b) -> b))) : value;
+        return putBytes(name, String.valueOf(normalized).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private InputFingerprint putBytes(String name, byte[] bytes) {
+        // length prefixes keep adjacent entries from running into each other
+        byte[] label = name.getBytes(StandardCharsets.UTF_8);
+        hasher.putInt(label.length).putBytes(label).putInt(bytes.length).putBytes(bytes);
+        return this;
+    }
+
+    /**
+     * @return the hex encoded fingerprint; the fingerprint can't be extended afterwards
+     */
+    String hash() {
+        return hasher.hash().toString();
+    }
+}
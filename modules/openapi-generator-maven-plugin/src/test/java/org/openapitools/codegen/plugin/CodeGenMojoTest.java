@@ -255,6 +255,44 @@ public class CodeGenMojoTest extends BaseTestCase {
         assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
     }
 
+    public void test_skipIfSpecIsUnchanged_skipsWhenSpecAndExternalFilesAreUnchanged() throws Exception {
+
+        //GIVEN
+        final Path tempDir = newTempFolder();
+        final Path generatedDir = tempDir.resolve("target/generated-sources/issue-16489");
+        final CodeGenMojo mojo = loadMojo(tempDir, "src/test/resources/issue-16489", null);
+        mojo.execute(); // Perform an initial generation
+        FileUtils.deleteDirectory(generatedDir.resolve("src").toFile());    // Remove the generated source
+
+        // WHEN
+        mojo.execute(); // Execute the mojo again
+
+        // THEN
+        assertFalse("Src directory should not have been regenerated", Files.exists(generatedDir.resolve("src")));
+    }
+
+    public void test_skipIfSpecIsUnchanged_recognizesConfigurationChanges() throws Exception {
+
+        //GIVEN
+        final Path tempDir = newTempFolder();
+        final Path generatedDir = tempDir.resolve("target/generated-sources/issue-16489");
+        final Path hashFile = generatedDir.resolve(".openapi-generator/petstore.yaml-default.sha256");
+        final CodeGenMojo mojo = loadMojo(tempDir, "src/test/resources/issue-16489", null);
+        mojo.execute(); // Perform an initial generation
+        var currentHash = Files.readString(hashFile);   // read hash
+        FileUtils.deleteDirectory(generatedDir.resolve("src").toFile());    // Remove the generated source
+        setVariableValueToObject(mojo, "modelPackage", "org.example.changed");
+
+        // WHEN
+        mojo.execute(); // Execute the mojo again
+
+        // THEN
+        assertNotEquals(
+                Files.readString(hashFile), currentHash, "Checksum should not be the same after a configuration change"
+        );
+        assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
+    }
+
     protected CodeGenMojo loadMojo(Path temporaryFolder, String projectRoot, String profile) throws Exception {
         return loadMojo(temporaryFolder, projectRoot, profile, "default");
     }
@@ -19,10 +19,13 @@ package org.openapitools.codegen.online.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.openapitools.codegen.online.service.GeneratedArchive;
 
 @Getter
 @Setter
 public class Generated {
-    private String filename;
+    private GeneratedArchive archive;
     private String friendlyName;
+    // when the archive was generated, in milliseconds since the epoch
+    private long createdAt;
 }
@@ -17,18 +17,19 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
+import org.openapitools.codegen.GeneratorDescriptor;
 import org.openapitools.codegen.online.api.GenApiDelegate;
 import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.openapitools.codegen.online.model.ResponseCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -39,29 +40,36 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class GenApiService implements GenApiDelegate {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenApiService.class);
+
+    /**
+     * Default time (30 minutes) after which an archive which hasn't been downloaded is released, which can be
+     * overridden with the {@code GENERATOR_ARCHIVE_EXPIRY_MINUTES} environment variable.
+     */
+    public static final long DEFAULT_ARCHIVE_EXPIRY_MINUTES = 30;
+
+    private static final long ARCHIVE_EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(archiveExpiryFromEnvironment());
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
+    private static Map<String, Generated> fileMap = new ConcurrentHashMap<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        for (GeneratorDescriptor generator : CodegenConfigLoader.getDescriptors()) {
+            if (generator.getType() == CodegenType.CLIENT
+                    || generator.getType() == CodegenType.DOCUMENTATION) {
+                clients.add(generator.getName());
+            } else if (generator.getType() == CodegenType.SERVER) {
+                servers.add(generator.getName());
             }
         }
 
@@ -72,6 +80,18 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    private static long archiveExpiryFromEnvironment() {
+        String value = System.getenv("GENERATOR_ARCHIVE_EXPIRY_MINUTES");
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring invalid GENERATOR_ARCHIVE_EXPIRY_MINUTES {}", value);
+            }
+        }
+        return DEFAULT_ARCHIVE_EXPIRY_MINUTES;
+    }
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
@@ -79,39 +99,45 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
+        removeExpired(System.currentTimeMillis());
+        // an archive can be downloaded once, it's released as soon as it has been streamed
+        Generated g = fileMap.remove(fileId);
+        if (g == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
+        }
+        LOGGER.debug("Downloading {}", fileId);
 
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
+        GeneratedArchive archive = g.getArchive();
+        InputStream stream;
         try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
+            stream = new FilterInputStream(archive.openStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        archive.close();
+                    }
+                }
+            };
         } catch (IOException e) {
+            archive.close();
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
         }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
-        }
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
+                .contentLength(archive.size())
                 .header("Content-Disposition",
                         "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
                 .header("Accept-Range", "bytes")
-                //.header("Content-Length", bytes.length)
-                .body(resource);
+                .body(new InputStreamResource(stream));
     }
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        GeneratedArchive archive = Generator.generateClient(language, generatorInput);
+        return getResponse(archive, language + "-client");
     }
 
     @Override
@@ -151,13 +177,12 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        GeneratedArchive archive = Generator.generateServer(framework, generatorInput);
 
-        return getResponse(filename, framework + "-server");
+        return getResponse(archive, framework + "-server");
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    private ResponseEntity<ResponseCode> getResponse(GeneratedArchive archive, String friendlyName) {
         String host = System.getenv("GENERATOR_HOST");
 
         UriComponentsBuilder uriBuilder;
@@ -167,13 +192,11 @@ public class GenApiService implements GenApiDelegate {
             uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
         }
 
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
+        if (archive != null) {
+            long now = System.currentTimeMillis();
+            removeExpired(now);
+            String code = store(archive, friendlyName, now);
+            LOGGER.debug("Generated {} for {}", code, friendlyName);
             String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
             return ResponseEntity.ok().body(new ResponseCode(code, link));
         } else {
@@ -181,4 +204,34 @@ public class GenApiService implements GenApiDelegate {
         }
     }
 
+    /**
+     * Keeps an archive until it's downloaded or expires.
+     *
+     * @return the id to download the archive with
+     */
+    static String store(GeneratedArchive archive, String friendlyName, long now) {
+        String code = UUID.randomUUID().toString();
+        Generated g = new Generated();
+        g.setArchive(archive);
+        g.setFriendlyName(friendlyName);
+        g.setCreatedAt(now);
+        fileMap.put(code, g);
+        return code;
+    }
+
+    /**
+     * Releases the archives which were generated longer than the expiry time ago and never downloaded. Runs whenever
+     * an archive is generated or downloaded, so that abandoned archives don't pile up in memory or on disk.
+     */
+    static void removeExpired(long now) {
+        for (Map.Entry<String, Generated> entry : fileMap.entrySet()) {
+            Generated g = entry.getValue();
+            // a download may take the archive at the same time, only one of them releases it
+            if (now - g.getCreatedAt() > ARCHIVE_EXPIRY_MILLIS && fileMap.remove(entry.getKey(), g)) {
+                LOGGER.debug("Releasing {}, which wasn't downloaded", entry.getKey());
+                g.getArchive().close();
+            }
+        }
+    }
+
 }
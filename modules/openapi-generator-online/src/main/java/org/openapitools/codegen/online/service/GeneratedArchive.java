@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The bytes of a generated zip archive. Content is kept in memory up to a threshold and spilled to a temporary file
+ * beyond it, so small archives never touch the disk and large ones don't occupy the heap.
+ * <p>
+ * Write the archive through {@link #getOutputStream()}, close that stream, then read it back with
+ * {@link #openStream()}. {@link #close()} releases the memory or spill file.
+ */
+public class GeneratedArchive implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedArchive.class);
+
+    /**
+     * Default in-memory size limit (4 MB), which can be overridden with the {@code GENERATOR_ZIP_MEMORY_THRESHOLD}
+     * environment variable (in bytes).
+     */
+    public static final int DEFAULT_MEMORY_THRESHOLD = 4 * 1024 * 1024;
+
+    private final int memoryThreshold;
+    private final SpillingOutputStream out = new SpillingOutputStream();
+    private MemoryOutputStream memory = new MemoryOutputStream();
+    private Path spillFile;
+    private OutputStream fileOut;
+    private long size;
+    private boolean closedForWriting;
+
+    public GeneratedArchive() {
+        this(memoryThresholdFromEnvironment());
+    }
+
+    public GeneratedArchive(int memoryThreshold) {
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    private static int memoryThresholdFromEnvironment() {
+        String value = System.getenv("GENERATOR_ZIP_MEMORY_THRESHOLD");
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring invalid GENERATOR_ZIP_MEMORY_THRESHOLD {}", value);
+            }
+        }
+        return DEFAULT_MEMORY_THRESHOLD;
+    }
+
+    /**
+     * @return the stream the archive is written to
+     */
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    /**
+     * @return the number of bytes written
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * @return true if the content no longer fits in memory and was moved to a temporary file
+     */
+    public synchronized boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Opens a stream over the written content. The output stream must have been closed before.
+     *
+     * @return a new stream over the archive bytes
+     * @throws IOException if the spill file cannot be read
+     */
+    public synchronized InputStream openStream() throws IOException {
+        if (!closedForWriting) {
+            throw new IllegalStateException("The archive is still being written");
+        }
+        if (spillFile != null) {
+            return new BufferedInputStream(Files.newInputStream(spillFile));
+        }
+        if (memory == null) {
+            throw new IOException("The archive has been released");
+        }
+        return memory.toInputStream();
+    }
+
+    /**
+     * Releases the in-memory content or deletes the spill file.
+     */
+    @Override
+    public synchronized void close() {
+        closedForWriting = true;
+        memory = null;
+        if (fileOut != null) {
+            try {
+                fileOut.close();
+            } catch (IOException e) {
+                LOGGER.debug("Unable to close {}", spillFile, e);
+            }
+            fileOut = null;
+        }
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to delete {}", spillFile, e);
+            }
+        }
+    }
+
+    private synchronized OutputStream target(int length) throws IOException {
+        if (closedForWriting) {
+            throw new IOException("The archive is closed for writing");
+        }
+        if (fileOut == null && size + length > memoryThreshold) {
+            spillFile = Files.createTempFile("codegen-", "-bundle.zip");
+            fileOut = new BufferedOutputStream(Files.newOutputStream(spillFile), 64 * 1024);
+            memory.writeTo(fileOut);
+            memory = null;
+        }
+        size += length;
+        return fileOut != null ? fileOut : memory;
+    }
+
+    private static class MemoryOutputStream extends ByteArrayOutputStream {
+        MemoryOutputStream() {
+            super(8192);
+        }
+
+        // reads the buffer in place rather than through a copy made by toByteArray()
+        synchronized InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+
+    private class SpillingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            target(1).write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target(len).write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (GeneratedArchive.this) {
+                if (fileOut != null) {
+                    fileOut.flush();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized (GeneratedArchive.this) {
+                if (closedForWriting) {
+                    return;
+                }
+                closedForWriting = true;
+                if (fileOut != null) {
+                    fileOut.close();
+                    fileOut = null;
+                }
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.slf4j.Logger;
@@ -29,8 +30,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.File;
-import java.nio.file.Files;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class Generator {
@@ -65,15 +67,15 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
+    public static GeneratedArchive generateClient(String language, GeneratorInput opts) {
         return generate(language, opts, Type.CLIENT);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) {
+    public static GeneratedArchive generateServer(String language, GeneratorInput opts) {
         return generate(language, opts, Type.SERVER);
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    private static GeneratedArchive generate(String language, GeneratorInput opts, Type type) {
         LOGGER.debug(String.format(Locale.ROOT, "generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
@@ -116,8 +118,9 @@ public class Generator {
         String destPath = language + "-" + type.getTypeName();
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        // files are rendered into a zip archive, this directory is only created by generators writing straight to disk
+        Path rootDir = Paths.get(System.getProperty("java.io.tmpdir"), "codegen-" + UUID.randomUUID());
+        String outputFolder = rootDir.resolve(destPath).toString();
 
         clientOptInput.openAPI(openapi);
 
@@ -147,44 +150,60 @@ public class Generator {
 
         clientOptInput.config(codegenConfig);
 
+        GeneratedArchive archive = new GeneratedArchive();
         try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
+            ZipGenerator generator = new ZipGenerator(rootDir, archive);
+            generator.opts(clientOptInput).generate();
+            if (generator.finish() == 0) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                         "A target generation was attempted, but no files were created!");
             }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+            LOGGER.debug("generated {} bytes for {} ({})", archive.size(), outputFolder, archive.isSpilled() ? "spilled to disk" : "in memory");
+        } catch (ResponseStatusException e) {
+            archive.close();
+            throw e;
         } catch (Exception e) {
+            archive.close();
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
+        } finally {
+            try {
+                FileUtils.deleteDirectory(rootDir.toFile());
+            } catch (IOException e) {
+                LOGGER.error("unable to delete output folder {}", rootDir, e);
+            }
         }
-        return outputFilename;
+        return archive;
     }
 
-    private static File getTmpFolder() {
-        try {
-            File outputFolder = Files.createTempDirectory("codegen-tmp").toFile();
-            outputFolder.deleteOnExit();
-            return outputFolder;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Cannot access tmp folder");
+    /**
+     * Renders through a {@link ZipTemplateProcessor}, so that no file is written to the output directory.
+     */
+    private static class ZipGenerator extends DefaultGenerator {
+        private final Path rootDir;
+        private final GeneratedArchive archive;
+        private ZipTemplateProcessor zipTemplateProcessor;
+
+        private ZipGenerator(Path rootDir, GeneratedArchive archive) {
+            this.rootDir = rootDir;
+            this.archive = archive;
+        }
+
+        @Override
+        public org.openapitools.codegen.Generator opts(ClientOptInput opts) {
+            super.opts(opts);
+            zipTemplateProcessor = new ZipTemplateProcessor((TemplateManager) this.templateProcessor, rootDir, archive);
+            this.templateProcessor = zipTemplateProcessor;
+            return this;
+        }
+
+        @Override
+        protected boolean writesToFileSystem() {
+            return false;
+        }
+
+        private int finish() throws IOException {
+            zipTemplateProcessor.finish();
+            return zipTemplateProcessor.getEntryCount();
         }
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplateProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A {@link TemplateProcessor} which renders files straight into a zip archive instead of writing them to disk.
+ * <p>
+ * Entry names are the target paths relative to a root directory, which doesn't need to exist. Files targeting a
+ * location outside the root are skipped. An entry can't be replaced once it has been streamed, so when a file is
+ * written twice the first contents are kept, where writing to disk would keep the last ones.
+ */
+public class ZipTemplateProcessor implements TemplateProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipTemplateProcessor.class);
+
+    private final TemplateManager templateManager;
+    private final Path rootDir;
+    private final ZipOutputStream zip;
+    private final Set<String> entries = new HashSet<>();
+
+    /**
+     * @param templateManager Renders the templates
+     * @param rootDir         The directory entry names are relative to
+     * @param archive         The archive to write to
+     */
+    public ZipTemplateProcessor(TemplateManager templateManager, Path rootDir, GeneratedArchive archive) {
+        this.templateManager = templateManager;
+        this.rootDir = rootDir.toAbsolutePath().normalize();
+        this.zip = new ZipOutputStream(archive.getOutputStream());
+    }
+
+    @Override
+    public File write(Map<String, Object> data, String template, File target) throws IOException {
+        return writeToFile(target.getPath(), templateManager.render(data, template));
+    }
+
+    @Override
+    public synchronized File writeToFile(String filename, byte[] contents) throws IOException {
+        Path path = Paths.get(filename).toAbsolutePath().normalize();
+        if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+            LOGGER.warn("Skipping {} as it's outside of the output directory", filename);
+            return path.toFile();
+        }
+
+        String name = rootDir.relativize(path).toString().replace(File.separatorChar, '/');
+        if (!entries.add(name)) {
+            LOGGER.warn("Skipping {} as it has already been written, the archive keeps its first contents", name);
+            return path.toFile();
+        }
+
+        LOGGER.debug("adding {}", name);
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(contents);
+        zip.closeEntry();
+        return path.toFile();
+    }
+
+    @Override
+    public void ignore(Path path, String context) {
+        LOGGER.debug("Ignored {} ({})", path, context);
+    }
+
+    @Override
+    public void skip(Path path, String context) {
+        LOGGER.debug("Skipped {} ({})", path, context);
+    }
+
+    /**
+     * @return the number of files written to the archive
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Writes the zip central directory and closes the underlying archive stream.
+     *
+     * @throws IOException if the archive cannot be written
+     */
+    public synchronized void finish() throws IOException {
+        zip.close();
+    }
+}
@@ -0,0 +1,40 @@
+package org.openapitools.codegen.online.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenApiServiceTest {
+
+    private static GeneratedArchive archive() throws IOException {
+        GeneratedArchive archive = new GeneratedArchive(1024);
+        try (OutputStream out = archive.getOutputStream()) {
+            out.write(new byte[10]);
+        }
+        return archive;
+    }
+
+    @Test
+    public void releasesArchivesWhichAreNeverDownloaded() throws IOException {
+        long now = System.currentTimeMillis();
+        GeneratedArchive expired = archive();
+        GeneratedArchive recent = archive();
+        String expiredCode = GenApiService.store(expired, "expired", now - TimeUnit.MINUTES.toMillis(GenApiService.DEFAULT_ARCHIVE_EXPIRY_MINUTES + 1));
+        String recentCode = GenApiService.store(recent, "recent", now);
+
+        GenApiService.removeExpired(now);
+
+        assertThrows(IOException.class, expired::openStream);
+        GenApiService service = new GenApiService();
+        assertThrows(ResponseStatusException.class, () -> service.downloadFile(expiredCode));
+        try (InputStream in = service.downloadFile(recentCode).getBody().getInputStream()) {
+            assertEquals(10, in.readAllBytes().length);
+        }
+    }
+}
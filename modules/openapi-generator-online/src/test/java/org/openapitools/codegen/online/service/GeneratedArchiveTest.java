@@ -0,0 +1,52 @@
+package org.openapitools.codegen.online.service;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedArchiveTest {
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) 'x');
+        return bytes;
+    }
+
+    @Test
+    public void keepsSmallArchivesInMemory() throws IOException {
+        GeneratedArchive archive = new GeneratedArchive(1024);
+        try (OutputStream out = archive.getOutputStream()) {
+            out.write(bytes(100));
+        }
+
+        assertFalse(archive.isSpilled());
+        assertEquals(100, archive.size());
+        try (InputStream in = archive.openStream()) {
+            assertArrayEquals(bytes(100), IOUtils.toByteArray(in));
+        }
+        archive.close();
+    }
+
+    @Test
+    public void spillsLargeArchivesToDisk() throws IOException {
+        GeneratedArchive archive = new GeneratedArchive(1024);
+        try (OutputStream out = archive.getOutputStream()) {
+            out.write(bytes(1000));
+            out.write(bytes(1000));
+        }
+
+        assertTrue(archive.isSpilled());
+        assertEquals(2000, archive.size());
+        try (InputStream in = archive.openStream()) {
+            assertArrayEquals(bytes(2000), IOUtils.toByteArray(in));
+        }
+        archive.close();
+        assertThrows(IOException.class, archive::openStream);
+    }
+}
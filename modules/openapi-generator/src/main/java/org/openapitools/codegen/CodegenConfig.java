@@ -31,6 +31,8 @@ import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.model.WebhooksMap;
+import org.openapitools.codegen.utils.BatchPostProcessor;
+import org.openapitools.codegen.utils.SchemaIndex;
 
 import java.io.File;
 import java.util.List;
@@ -224,6 +226,15 @@ public interface CodegenConfig {
 
     Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs);
 
+    /**
+     * Declares which aggregates of the supporting file data {@link #postProcessSupportingFileData(Map)} reads, so
+     * that low-memory generation can release the others. Generators overriding the hook without overriding this
+     * declaration are assumed to read all of them.
+     *
+     * @return the aggregates read by the hook, or null if it may read all of them
+     */
+    SupportingFileAggregates getSupportingFileDataAggregates();
+
     void postProcessModelProperty(CodegenModel model, CodegenProperty property);
 
     void postProcessResponseWithProperty(CodegenResponse response, CodegenProperty property);
@@ -324,6 +335,8 @@ public interface CodegenConfig {
      */
     void setOpenAPI(OpenAPI openAPI);
 
+    SchemaIndex getSchemaIndex();
+
     void setTemplatingEngine(TemplatingEngineAdapter s);
 
     TemplatingEngineAdapter getTemplatingEngine();
@@ -332,6 +345,42 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    boolean isIncrementalGeneration();
+
+    void setIncrementalGeneration(boolean incrementalGeneration);
+
+    boolean isLowMemoryGeneration();
+
+    void setLowMemoryGeneration(boolean lowMemoryGeneration);
+
+    int getGeneratorParallelism();
+
+    void setGeneratorParallelism(int generatorParallelism);
+
+    int getConversionParallelism();
+
+    void setConversionParallelism(int conversionParallelism);
+
+    int getPostProcessBatchSize();
+
+    void setPostProcessBatchSize(int postProcessBatchSize);
+
+    int getPostProcessParallelism();
+
+    void setPostProcessParallelism(int postProcessParallelism);
+
+    /**
+     * Runs the file post-processing commands deferred by batched post-processing, see {@link #getPostProcessBatchSize()}.
+     *
+     * @return the outcome of the deferred commands
+     */
+    BatchPostProcessor.Result finishPostProcessing();
+
+    /**
+     * @return the properties converted by {@code fromProperty}, with the cache's hit and miss counts
+     */
+    CodegenPropertyCache getCodegenPropertyCache();
+
     boolean isStrictSpecBehavior();
 
     void setStrictSpecBehavior(boolean strictSpecBehavior);
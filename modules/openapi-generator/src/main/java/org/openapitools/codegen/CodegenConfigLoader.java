@@ -20,7 +20,14 @@ package org.openapitools.codegen;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.stream.Collectors;
 
+/**
+ * Loads generators registered as {@link CodegenConfig} services.
+ * <p>
+ * Generators listed in the {@link GeneratorIndex} are looked up and described without instantiating any other
+ * generator; only generators contributed by other jars without an index need to be instantiated to learn their name.
+ */
 public class CodegenConfigLoader {
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
@@ -29,11 +36,25 @@ public class CodegenConfigLoader {
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        GeneratorIndex index = GeneratorIndex.get();
+        GeneratorDescriptor indexed = index.findByName(name);
+        if (indexed != null) {
+            CodegenConfig config = instantiate(indexed.getClassName());
+            if (config != null && config.getName().equals(name)) {
+                return config;
+            }
+        }
 
         StringBuilder availableConfigs = new StringBuilder();
+        for (ServiceLoader.Provider<CodegenConfig> provider : providers()) {
+            GeneratorDescriptor descriptor = index.findByClassName(provider.type().getName());
+            if (descriptor != null) {
+                // indexed generators are only instantiated when their name matches, see above
+                availableConfigs.append(descriptor.getName()).append("\n");
+                continue;
+            }
 
-        for (CodegenConfig config : loader) {
+            CodegenConfig config = provider.get();
             if (config.getName().equals(name)) {
                 return config;
             }
@@ -50,11 +71,35 @@ public class CodegenConfigLoader {
     }
 
     public static List<CodegenConfig> getAll() {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
-        List<CodegenConfig> output = new ArrayList<CodegenConfig>();
-        for (CodegenConfig aLoader : loader) {
-            output.add(aLoader);
+        return providers().stream().map(ServiceLoader.Provider::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Describes all generators registered as services. Only generators missing from the {@link GeneratorIndex} are
+     * instantiated.
+     *
+     * @return the generators, in registration order
+     */
+    public static List<GeneratorDescriptor> getDescriptors() {
+        GeneratorIndex index = GeneratorIndex.get();
+        List<GeneratorDescriptor> output = new ArrayList<>();
+        for (ServiceLoader.Provider<CodegenConfig> provider : providers()) {
+            GeneratorDescriptor descriptor = index.findByClassName(provider.type().getName());
+            output.add(descriptor != null ? descriptor : GeneratorDescriptor.of(provider.get()));
         }
         return output;
     }
+
+    private static List<ServiceLoader.Provider<CodegenConfig>> providers() {
+        // providers expose the implementation class without instantiating it
+        return ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader()).stream().collect(Collectors.toList());
+    }
+
+    private static CodegenConfig instantiate(String className) {
+        try {
+            return (CodegenConfig) Class.forName(className, true, CodegenConfig.class.getClassLoader()).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
 }
@@ -1174,6 +1174,30 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         readWriteVars = removeDuplicatedProperty(readWriteVars);
     }
 
+    /**
+     * Reduces the model to a summary, once its own files are rendered and only e.g. its names and flags are still
+     * needed. The property lists, the items, additional properties and composed schemas, the test cases and the
+     * model JSON are dropped; the names, flags, vendor extensions and relations to other models are kept.
+     */
+    public void summarize() {
+        vars = new ArrayList<>();
+        allVars = new ArrayList<>();
+        requiredVars = new ArrayList<>();
+        optionalVars = new ArrayList<>();
+        readOnlyVars = new ArrayList<>();
+        readWriteVars = new ArrayList<>();
+        parentVars = new ArrayList<>();
+        parentRequiredVars = new ArrayList<>();
+        nonNullableVars = new ArrayList<>();
+        requiredVarsMap = null;
+        items = null;
+        additionalProperties = null;
+        contains = null;
+        composedSchemas = null;
+        testCases = new HashMap<>();
+        modelJson = null;
+    }
+
     private List<CodegenProperty> removeDuplicatedProperty(List<CodegenProperty> vars) {
         // clone the list first
         List<CodegenProperty> newList = new ArrayList<>();
@@ -380,6 +380,165 @@ public class CodegenOperation {
         return ("/{" + id + "}").equals(pathWithoutBaseName());
     }
 
+    /**
+     * Copies the operation, e.g. to add it to the group of each of its tags. Whatever post-processing the operations
+     * of a group commonly changes is copied: the collections, the parameters, the responses, the auth methods, the
+     * return property and the vendor extensions. Other elements (e.g. the properties of responses) are shared with
+     * this operation.
+     *
+     * @return a copy of the operation
+     */
+    public CodegenOperation copy() {
+        CodegenOperation output = new CodegenOperation();
+        output.responseHeaders.addAll(this.responseHeaders);
+        output.hasAuthMethods = this.hasAuthMethods;
+        output.hasConsumes = this.hasConsumes;
+        output.hasProduces = this.hasProduces;
+        output.hasOptionalParams = this.hasOptionalParams;
+        output.returnTypeIsPrimitive = this.returnTypeIsPrimitive;
+        output.returnSimpleType = this.returnSimpleType;
+        output.subresourceOperation = this.subresourceOperation;
+        output.isMap = this.isMap;
+        output.isArray = this.isArray;
+        output.isMultipart = this.isMultipart;
+        output.isVoid = this.isVoid;
+        output.hasVersionHeaders = this.hasVersionHeaders;
+        output.hasVersionQueryParams = this.hasVersionQueryParams;
+        output.isResponseBinary = this.isResponseBinary;
+        output.isResponseFile = this.isResponseFile;
+        output.isResponseOptional = this.isResponseOptional;
+        output.hasReference = this.hasReference;
+        output.defaultReturnType = this.defaultReturnType;
+        output.isDeprecated = this.isDeprecated;
+        output.isCallbackRequest = this.isCallbackRequest;
+        output.uniqueItems = this.uniqueItems;
+        output.hasErrorResponseObject = this.hasErrorResponseObject;
+        output.returnProperty = this.returnProperty == null ? null : this.returnProperty.clone();
+        output.path = this.path;
+        output.operationId = this.operationId;
+        output.returnType = this.returnType;
+        output.returnFormat = this.returnFormat;
+        output.httpMethod = this.httpMethod;
+        output.returnBaseType = this.returnBaseType;
+        output.returnContainer = this.returnContainer;
+        output.summary = this.summary;
+        output.unescapedNotes = this.unescapedNotes;
+        output.notes = this.notes;
+        output.baseName = this.baseName;
+        output.defaultResponse = this.defaultResponse;
+        output.discriminator = this.discriminator;
+        output.consumes = copyOf(this.consumes);
+        output.produces = copyOf(this.produces);
+        output.prioritizedContentTypes = copyOf(this.prioritizedContentTypes);
+        output.servers = copyOf(this.servers);
+
+        // a parameter may be in several lists, e.g. allParams and queryParams
+        Map<CodegenParameter, CodegenParameter> parameters = new IdentityHashMap<>();
+        output.bodyParam = copyOf(this.bodyParam, parameters);
+        output.allParams = copyOf(this.allParams, parameters);
+        output.bodyParams = copyOf(this.bodyParams, parameters);
+        output.pathParams = copyOf(this.pathParams, parameters);
+        output.queryParams = copyOf(this.queryParams, parameters);
+        output.headerParams = copyOf(this.headerParams, parameters);
+        output.implicitHeadersParams = copyOf(this.implicitHeadersParams, parameters);
+        output.constantParams = copyOf(this.constantParams, parameters);
+        output.formParams = copyOf(this.formParams, parameters);
+        output.cookieParams = copyOf(this.cookieParams, parameters);
+        output.requiredParams = copyOf(this.requiredParams, parameters);
+        output.optionalParams = copyOf(this.optionalParams, parameters);
+        output.requiredAndNotNullableParams = copyOf(this.requiredAndNotNullableParams, parameters);
+        output.notNullableParams = copyOf(this.notNullableParams, parameters);
+
+        output.authMethods = copyOfAuthMethods(this.authMethods);
+        output.tags = copyOf(this.tags);
+        if (this.responses != null) {
+            output.responses = new ArrayList<>(this.responses.size());
+            for (CodegenResponse response : this.responses) {
+                output.responses.add(response.copy());
+            }
+        }
+        output.callbacks = copyOf(this.callbacks);
+        output.imports = this.imports == null ? null : new HashSet<>(this.imports);
+        output.examples = copyOf(this.examples);
+        output.requestBodyExamples = copyOf(this.requestBodyExamples);
+        output.externalDocs = this.externalDocs;
+        output.vendorExtensions = copyOfExtensions(this.vendorExtensions);
+        output.nickname = this.nickname;
+        output.operationIdOriginal = this.operationIdOriginal;
+        output.operationIdLowerCase = this.operationIdLowerCase;
+        output.operationIdCamelCase = this.operationIdCamelCase;
+        output.operationIdSnakeCase = this.operationIdSnakeCase;
+        return output;
+    }
+
+    /**
+     * Copies vendor extensions, including the maps and lists they hold, which post-processing may change as well.
+     *
+     * @param extensions the vendor extensions, may be null
+     * @return the copy
+     */
+    static Map<String, Object> copyOfExtensions(Map<String, Object> extensions) {
+        return extensions == null ? null : new HashMap<>(copyOfExtensionValues(extensions));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copyOfExtensionValues(T value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> copy.put(k, copyOfExtensionValues(v)));
+            return (T) copy;
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            ((List<?>) value).forEach(item -> copy.add(copyOfExtensionValues(item)));
+            return (T) copy;
+        }
+        return value;
+    }
+
+    /**
+     * Copies auth methods, with their vendor extensions and scopes.
+     *
+     * @param authMethods the auth methods, may be null
+     * @return the copy
+     */
+    static List<CodegenSecurity> copyOfAuthMethods(List<CodegenSecurity> authMethods) {
+        if (authMethods == null) {
+            return null;
+        }
+        List<CodegenSecurity> output = new ArrayList<>(authMethods.size());
+        for (CodegenSecurity security : authMethods) {
+            if (security == null) {
+                output.add(null);
+                continue;
+            }
+            CodegenSecurity copy = new CodegenSecurity(security);
+            copy.vendorExtensions = copyOfExtensions(security.vendorExtensions);
+            copy.scopes = copyOfExtensionValues(security.scopes);
+            output.add(copy);
+        }
+        return output;
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static CodegenParameter copyOf(CodegenParameter parameter, Map<CodegenParameter, CodegenParameter> copies) {
+        return parameter == null ? null : copies.computeIfAbsent(parameter, CodegenParameter::copy);
+    }
+
+    private static List<CodegenParameter> copyOf(List<CodegenParameter> parameters, Map<CodegenParameter, CodegenParameter> copies) {
+        if (parameters == null) {
+            return null;
+        }
+        List<CodegenParameter> output = new ArrayList<>(parameters.size());
+        for (CodegenParameter parameter : parameters) {
+            output.add(copyOf(parameter, copies));
+        }
+        return output;
+    }
+
     @Override
     public String toString() {
         final StringBuffer sb = new StringBuffer("CodegenOperation{");
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.*;
+
+/**
+ * The properties converted by {@link DefaultCodegen#fromProperty(String, Schema, boolean, boolean)}, by property name
+ * and schema.
+ * <p>
+ * Structurally equal schemas share their converted properties, as if schemas were compared with
+ * {@link Schema#equals(Object)}. Comparing whole schema trees on every lookup is costly though, so each schema
+ * instance is compared once, the first time it's looked up, and is then known by a fingerprint: the hash code of its
+ * structure and the first equal schema seen. Later lookups of the same instance only cost an identity lookup.
+ * <p>
+ * Fingerprints reflect the schemas when they were first seen. Code changing a schema after it has been looked up must
+ * {@link #invalidate(Schema)} it, or {@link #clear()} the cache when it changes many schemas, e.g. when normalizing
+ * or flattening a spec. {@link DefaultCodegen#setOpenAPI} clears the cache.
+ * <p>
+ * The cache is thread-safe, as schemas may be converted by several threads (see
+ * {@link CodegenConfig#getConversionParallelism()}). Hash codes of schemas are computed outside of its lock.
+ */
+public class CodegenPropertyCache {
+    private final Map<Schema, Fingerprint> fingerprints = new IdentityHashMap<>();
+    private final Map<Integer, List<Fingerprint>> fingerprintsByHash = new HashMap<>();
+    private final Map<Key, CodegenProperty> properties = new HashMap<>();
+    private long hits;
+    private long misses;
+
+    /**
+     * @return the property converted from an equal schema with the same name and flags, or null
+     */
+    public CodegenProperty get(String name, Schema schema, boolean required, boolean schemaIsFromAdditionalProperties) {
+        Fingerprint fingerprint = fingerprint(schema);
+        synchronized (this) {
+            CodegenProperty property = properties.get(new Key(name, fingerprint, required, schemaIsFromAdditionalProperties));
+            if (property == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+            return property;
+        }
+    }
+
+    public void put(String name, Schema schema, boolean required, boolean schemaIsFromAdditionalProperties, CodegenProperty property) {
+        Fingerprint fingerprint = fingerprint(schema);
+        synchronized (this) {
+            properties.put(new Key(name, fingerprint, required, schemaIsFromAdditionalProperties), property);
+        }
+    }
+
+    /**
+     * Forgets the fingerprint of a schema which has changed, so that it's compared again with other schemas the next
+     * time it's looked up. Schemas containing it are not affected.
+     *
+     * @param schema the changed schema
+     */
+    public synchronized void invalidate(Schema schema) {
+        Fingerprint fingerprint = fingerprints.remove(schema);
+        if (fingerprint != null && fingerprint.schema == schema) {
+            // other instances may still share the fingerprint, but new ones mustn't be compared with the changed schema
+            List<Fingerprint> candidates = fingerprintsByHash.get(fingerprint.hash);
+            candidates.remove(fingerprint);
+            if (candidates.isEmpty()) {
+                fingerprintsByHash.remove(fingerprint.hash);
+            }
+        }
+    }
+
+    /**
+     * Forgets all properties and fingerprints. The hit and miss counts are kept.
+     */
+    public synchronized void clear() {
+        fingerprints.clear();
+        fingerprintsByHash.clear();
+        properties.clear();
+    }
+
+    /**
+     * @return the number of lookups which found a property
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups which didn't find a property
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized int size() {
+        return properties.size();
+    }
+
+    private Fingerprint fingerprint(Schema schema) {
+        synchronized (this) {
+            Fingerprint fingerprint = fingerprints.get(schema);
+            if (fingerprint != null) {
+                return fingerprint;
+            }
+        }
+
+        // hashing walks the whole schema, so other threads may use the cache meanwhile
+        int hash = schema.hashCode();
+        synchronized (this) {
+            Fingerprint fingerprint = fingerprints.get(schema);
+            if (fingerprint != null) {
+                return fingerprint;
+            }
+            List<Fingerprint> candidates = fingerprintsByHash.computeIfAbsent(hash, h -> new ArrayList<>(1));
+            for (Fingerprint candidate : candidates) {
+                if (candidate.schema.equals(schema)) {
+                    fingerprint = candidate;
+                    break;
+                }
+            }
+            if (fingerprint == null) {
+                fingerprint = new Fingerprint(hash, schema);
+                candidates.add(fingerprint);
+            }
+            fingerprints.put(schema, fingerprint);
+            return fingerprint;
+        }
+    }
+
+    /**
+     * Identifies the schemas equal to {@link #schema} when they were first looked up. Compared by identity.
+     */
+    private static final class Fingerprint {
+        private final int hash;
+        private final Schema schema;
+
+        private Fingerprint(int hash, Schema schema) {
+            this.hash = hash;
+            this.schema = schema;
+        }
+    }
+
+    private static final class Key {
+        private final String name;
+        private final Fingerprint fingerprint;
+        private final boolean required;
+        private final boolean schemaIsFromAdditionalProperties;
+
+        private Key(String name, Fingerprint fingerprint, boolean required, boolean schemaIsFromAdditionalProperties) {
+            this.name = name;
+            this.fingerprint = fingerprint;
+            this.required = required;
+            this.schemaIsFromAdditionalProperties = schemaIsFromAdditionalProperties;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return fingerprint == that.fingerprint &&
+                    required == that.required &&
+                    schemaIsFromAdditionalProperties == that.schemaIsFromAdditionalProperties &&
+                    Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(name);
+            result = 31 * result + fingerprint.hash;
+            result = 31 * result + (required ? 1 : 0);
+            return 31 * result + (schemaIsFromAdditionalProperties ? 1 : 0);
+        }
+    }
+}
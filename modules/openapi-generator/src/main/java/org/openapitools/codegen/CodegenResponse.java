@@ -107,6 +107,95 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public CodegenProperty returnProperty;
     private boolean schemaIsFromAdditionalProperties;
 
+    /**
+     * Copies the response, e.g. for a copy of its operation (see {@link CodegenOperation#copy()}). The vendor
+     * extensions, the lists and the return property are copied, the other properties are shared with this response.
+     *
+     * @return a copy of the response
+     */
+    public CodegenResponse copy() {
+        CodegenResponse output = new CodegenResponse();
+        output.headers.addAll(this.headers);
+        output.responseHeaders = this.responseHeaders == null ? null : new ArrayList<>(this.responseHeaders);
+        output.code = this.code;
+        output.is1xx = this.is1xx;
+        output.is2xx = this.is2xx;
+        output.is3xx = this.is3xx;
+        output.is4xx = this.is4xx;
+        output.is5xx = this.is5xx;
+        output.message = this.message;
+        output.examples = this.examples == null ? null : new ArrayList<>(this.examples);
+        output.dataType = this.dataType;
+        output.baseType = this.baseType;
+        output.containerType = this.containerType;
+        output.containerTypeMapped = this.containerTypeMapped;
+        output.hasHeaders = this.hasHeaders;
+        output.isString = this.isString;
+        output.isNumeric = this.isNumeric;
+        output.isInteger = this.isInteger;
+        output.isShort = this.isShort;
+        output.isLong = this.isLong;
+        output.isUnboundedInteger = this.isUnboundedInteger;
+        output.isNumber = this.isNumber;
+        output.isFloat = this.isFloat;
+        output.isDouble = this.isDouble;
+        output.isDecimal = this.isDecimal;
+        output.isByteArray = this.isByteArray;
+        output.isBoolean = this.isBoolean;
+        output.isDate = this.isDate;
+        output.isDateTime = this.isDateTime;
+        output.isUuid = this.isUuid;
+        output.isEmail = this.isEmail;
+        output.isPassword = this.isPassword;
+        output.isModel = this.isModel;
+        output.isFreeFormObject = this.isFreeFormObject;
+        output.isAnyType = this.isAnyType;
+        output.isDefault = this.isDefault;
+        output.simpleType = this.simpleType;
+        output.primitiveType = this.primitiveType;
+        output.isMap = this.isMap;
+        output.isOptional = this.isOptional;
+        output.isArray = this.isArray;
+        output.isBinary = this.isBinary;
+        output.isFile = this.isFile;
+        output.isNull = this.isNull;
+        output.isVoid = this.isVoid;
+        output.schema = this.schema;
+        output.jsonSchema = this.jsonSchema;
+        output.vendorExtensions = CodegenOperation.copyOfExtensions(this.vendorExtensions);
+        output.maxProperties = this.maxProperties;
+        output.minProperties = this.minProperties;
+        output.uniqueItems = this.uniqueItems;
+        output.uniqueItemsBoolean = this.uniqueItemsBoolean;
+        output.maxItems = this.maxItems;
+        output.minItems = this.minItems;
+        output.maxLength = this.maxLength;
+        output.minLength = this.minLength;
+        output.exclusiveMinimum = this.exclusiveMinimum;
+        output.exclusiveMaximum = this.exclusiveMaximum;
+        output.minimum = this.minimum;
+        output.maximum = this.maximum;
+        output.pattern = this.pattern;
+        output.multipleOf = this.multipleOf;
+        output.items = this.items;
+        output.additionalProperties = this.additionalProperties;
+        output.vars = this.vars == null ? null : new ArrayList<>(this.vars);
+        output.requiredVars = this.requiredVars == null ? null : new ArrayList<>(this.requiredVars);
+        output.hasValidation = this.hasValidation;
+        output.additionalPropertiesIsAnyType = this.additionalPropertiesIsAnyType;
+        output.hasVars = this.hasVars;
+        output.hasRequired = this.hasRequired;
+        output.hasDiscriminatorWithNonEmptyMapping = this.hasDiscriminatorWithNonEmptyMapping;
+        output.composedSchemas = this.composedSchemas;
+        output.hasMultipleTypes = this.hasMultipleTypes;
+        output.content = this.content;
+        output.requiredVarsMap = this.requiredVarsMap;
+        output.ref = this.ref;
+        output.returnProperty = this.returnProperty == null ? null : this.returnProperty.clone();
+        output.schemaIsFromAdditionalProperties = this.schemaIsFromAdditionalProperties;
+        return output;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(headers, code, message, examples, dataType, baseType, containerType, containerTypeMapped, hasHeaders,
@@ -74,6 +74,7 @@ public class CodegenSecurity {
         this.authorizationUrl = original.authorizationUrl;
         this.refreshUrl = original.refreshUrl;
         this.openIdConnectUrl = original.openIdConnectUrl;
+        this.hasScopes = original.hasScopes;
 
         // It is not possible to deep copy the extensions, as we have no idea what types they are.
         // So the filtered method *will* refer to the original extensions, if any.
@@ -65,9 +65,12 @@ import org.openapitools.codegen.model.WebhooksMap;
 import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.mustache.*;
+import org.openapitools.codegen.utils.BatchPostProcessor;
 import org.openapitools.codegen.utils.ExamplesUtils;
+import org.openapitools.codegen.utils.ModelDependencyGraph;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.OneOfImplementorAdditionalData;
+import org.openapitools.codegen.utils.SchemaIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +81,7 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -295,6 +299,24 @@ public class DefaultCodegen implements CodegenConfig {
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
 
+    // flag to indicate whether to only render files whose inputs have changed since the last run
+    protected boolean incrementalGeneration = false;
+
+    // flag to indicate whether to release the data of models and APIs once their files are rendered
+    protected boolean lowMemoryGeneration = false;
+
+    // number of threads used to render and write model and API files
+    protected int generatorParallelism = 1;
+
+    // number of threads used to convert schemas and operations, see DefaultGenerator
+    protected int conversionParallelism = 1;
+
+    // maximum number of files per post-processor invocation, and number of concurrent invocations
+    protected int postProcessBatchSize = 1;
+    protected int postProcessParallelism = 1;
+    // post-processing commands deferred until all files are written, see executePostProcessor
+    private BatchPostProcessor batchPostProcessor;
+
     // acts strictly upon a spec, potentially modifying it to have consistent behavior across generators.
     protected boolean strictSpecBehavior = true;
     // flag to indicate whether enum value prefixes are removed
@@ -315,11 +337,12 @@ public class DefaultCodegen implements CodegenConfig {
     // make openapi available to all methods
     protected OpenAPI openAPI;
 
-    // A cache to efficiently lookup a Schema instance based on the return value of `toModelName()`.
-    private Map<String, Schema> modelNameToSchemaCache;
+    // Lookups by model name, $ref and allOf parent over the schemas of openAPI, see getSchemaIndex()
+    // (volatile as schemas and operations may be converted by several threads, see conversionParallelism)
+    private volatile SchemaIndex schemaIndex;
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final Map<String, String> schemaKeyToModelNameCache = new ConcurrentHashMap<>();
 
     protected boolean loadDeepObjectIntoItems = true;
 
@@ -565,13 +588,33 @@ public class DefaultCodegen implements CodegenConfig {
      * @return map from model name to Schema.
      */
     protected Map<String, Schema> getModelNameToSchemaCache() {
-        if (modelNameToSchemaCache == null) {
-            // Create a cache to efficiently lookup schema based on model name.
-            Map<String, Schema> m = new HashMap<>();
-            ModelUtils.getSchemas(openAPI).forEach((key, schema) -> m.put(toModelName(key), schema));
-            modelNameToSchemaCache = Collections.unmodifiableMap(m);
+        return getSchemaIndex().getSchemasByModelName();
+    }
+
+    /**
+     * Return the index of the schemas of the current document. The index is built on first use and rebuilt when the
+     * number of schemas of the document changed since (see {@link SchemaIndex#isStale(Map)}). Code replacing schemas
+     * of the document once the index may have been used must call {@link #resetSchemaIndex()}.
+     *
+     * @return the schema index
+     */
+    @Override
+    public SchemaIndex getSchemaIndex() {
+        Map<String, Schema> schemas = ModelUtils.getSchemas(openAPI);
+        SchemaIndex index = schemaIndex;
+        if (index == null || index.isStale(schemas)) {
+            // threads racing here build equal indexes, any of them will do
+            index = new SchemaIndex(schemas, this::toModelName);
+            schemaIndex = index;
         }
-        return modelNameToSchemaCache;
+        return index;
+    }
+
+    /**
+     * Drops the schema index, so that it's rebuilt from the schemas of the current document on next use.
+     */
+    protected void resetSchemaIndex() {
+        schemaIndex = null;
     }
 
     /**
@@ -712,13 +755,13 @@ public class DefaultCodegen implements CodegenConfig {
         final Map<String, List<CodegenProperty>> allVarsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getAllVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap));
+        setCircularReferencesOnProperties(allVarsDependencyMap);
 
         // for vars
         final Map<String, List<CodegenProperty>> varsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap));
+        setCircularReferencesOnProperties(varsDependencyMap);
 
         // for oneOf
         final Map<String, List<CodegenProperty>> oneOfDependencyMap = models.entrySet().stream()
@@ -726,7 +769,7 @@ public class DefaultCodegen implements CodegenConfig {
                         (entry.getValue().getComposedSchemas() != null && entry.getValue().getComposedSchemas().getOneOf() != null)
                                 ? entry.getValue().getComposedSchemas().getOneOf() : new ArrayList<CodegenProperty>())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap));
+        setCircularReferencesOnProperties(oneOfDependencyMap);
     }
 
     private List<CodegenProperty> getModelDependencies(List<CodegenProperty> vars) {
@@ -741,35 +784,22 @@ public class DefaultCodegen implements CodegenConfig {
                 .collect(Collectors.toList());
     }
 
-    private void setCircularReferencesOnProperties(final String root,
-                                                   final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>())
-                .forEach(prop -> {
-                    final List<String> unvisited =
-                            Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                    prop.isCircularReference = isCircularReference(root,
-                            new HashSet<>(),
-                            new ArrayList<>(unvisited),
-                            dependencyMap);
-                });
-    }
-
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
-                }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                        .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
-            }
-        }
-        return false;
+    private static String getDependencyTarget(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
+    }
+
+    /**
+     * A property is a circular reference when its owner can be reached again from the property's data type, i.e.
+     * when both are in the same strongly connected component of the dependency graph.
+     */
+    private void setCircularReferencesOnProperties(final Map<String, List<CodegenProperty>> dependencyMap) {
+        final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        dependencyMap.forEach((name, props) -> dependencies.put(name,
+                props.stream().map(DefaultCodegen::getDependencyTarget).collect(Collectors.toList())));
+
+        final ModelDependencyGraph graph = new ModelDependencyGraph(dependencies);
+        dependencyMap.forEach((root, props) -> props.forEach(prop ->
+                prop.isCircularReference = graph.isCircular(root, getDependencyTarget(prop))));
     }
 
     // override with any special post-processing
@@ -947,6 +977,9 @@ public class DefaultCodegen implements CodegenConfig {
             LOGGER.warn(UNSUPPORTED_V310_SPEC_MSG);
         }
         this.openAPI = openAPI;
+        this.schemaIndex = null;
+        // the schemas may have changed since they were last converted
+        this.schemaCodegenPropertyCache.clear();
         // Set global settings such that helper functions in ModelUtils can lookup the value
         // of the CLI option.
         ModelUtils.setDisallowAdditionalPropertiesIfNotPresent(getDisallowAdditionalPropertiesIfNotPresent());
@@ -987,6 +1020,12 @@ public class DefaultCodegen implements CodegenConfig {
         return objs;
     }
 
+    // override along with postProcessSupportingFileData to declare which aggregates it reads
+    @Override
+    public SupportingFileAggregates getSupportingFileDataAggregates() {
+        return SupportingFileAggregates.none();
+    }
+
     // override to post-process any model properties
     @Override
     @SuppressWarnings("unused")
@@ -2270,8 +2309,8 @@ public class DefaultCodegen implements CodegenConfig {
         Schema<?> inner = ModelUtils.getAdditionalProperties(schema);
         if (inner == null) {
             LOGGER.error("`{}` (map property) does not have a proper inner type defined. Default to type:string", schema.getName());
+            // not stored in the schema, which may be shared with models converted on other threads
             inner = new StringSchema().description("TODO default missing map inner type to string");
-            schema.setAdditionalProperties(inner);
         }
         return inner;
     }
@@ -2601,46 +2640,13 @@ public class DefaultCodegen implements CodegenConfig {
             return modelNameMapping.get(name);
         }
 
-        if (schemaKeyToModelNameCache.containsKey(name)) {
-            return schemaKeyToModelNameCache.get(name);
-        }
-
-        String camelizedName = camelize(modelNamePrefix + "_" + name + "_" + modelNameSuffix);
-        schemaKeyToModelNameCache.put(name, camelizedName);
-        return camelizedName;
-    }
-
-    private static class NamedSchema {
-        private NamedSchema(String name, Schema s, boolean required, boolean schemaIsFromAdditionalProperties) {
-            this.name = name;
-            this.schema = s;
-            this.required = required;
-            this.schemaIsFromAdditionalProperties = schemaIsFromAdditionalProperties;
-        }
-
-        private String name;
-        private Schema schema;
-        private boolean required;
-        private boolean schemaIsFromAdditionalProperties;
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            NamedSchema that = (NamedSchema) o;
-            return Objects.equals(required, that.required) &&
-                    Objects.equals(name, that.name) &&
-                    Objects.equals(schema, that.schema) &&
-                    Objects.equals(schemaIsFromAdditionalProperties, that.schemaIsFromAdditionalProperties);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(name, schema, required, schemaIsFromAdditionalProperties);
+        if (name == null) {
+            return camelize(modelNamePrefix + "_" + name + "_" + modelNameSuffix);
         }
+        return schemaKeyToModelNameCache.computeIfAbsent(name, key -> camelize(modelNamePrefix + "_" + key + "_" + modelNameSuffix));
     }
 
-    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    final CodegenPropertyCache schemaCodegenPropertyCache = new CodegenPropertyCache();
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -3539,49 +3545,18 @@ public class DefaultCodegen implements CodegenConfig {
         return descendentSchemas;
     }
 
+    /**
+     * Return the schemas which (indirectly) extend a schema through allOf, as discriminator mappings.
+     *
+     * @param thisSchemaName the schema key
+     * @return the descendants, nearest first
+     * @throws InheritanceCycleException if descendants of the schema extend each other
+     */
     protected List<MappedModel> getAllOfDescendants(String thisSchemaName) {
-        ArrayList<String> queue = new ArrayList();
-        List<MappedModel> descendentSchemas = new ArrayList();
-        Map<String, Schema> schemas = ModelUtils.getSchemas(openAPI);
-        String currentSchemaName = thisSchemaName;
-        Set<String> keys = schemas.keySet();
-
-        int count = 0;
-        // hack: avoid infinite loop on potential self-references in event our checks fail.
-        while (100000 > count++) {
-            for (String childName : keys) {
-                if (childName.equals(thisSchemaName)) {
-                    continue;
-                }
-                Schema child = schemas.get(childName);
-                if (ModelUtils.isComposedSchema(child)) {
-                    List<Schema> parents = child.getAllOf();
-                    if (parents != null) {
-                        for (Schema parent : parents) {
-                            String ref = parent.get$ref();
-                            if (ref == null) {
-                                // for schemas with no ref, it is not possible to build the discriminator map
-                                // because ref is how we get the model name
-                                // we hit this use case when an allOf composed schema contains an inline schema
-                                continue;
-                            }
-                            String parentName = ModelUtils.getSimpleRef(ref);
-                            if (parentName != null && parentName.equals(currentSchemaName)) {
-                                if (queue.contains(childName) || descendentSchemas.stream().anyMatch(i -> childName.equals(i.getMappingName()))) {
-                                    throw new RuntimeException("Stack overflow hit when looking for " + thisSchemaName + " an infinite loop starting and ending at " + childName + " was seen");
-                                }
-                                queue.add(childName);
-                                break;
-                            }
-                        }
-                    }
-                }
-            }
-            if (queue.size() == 0) {
-                break;
-            }
-            currentSchemaName = queue.remove(0);
-            Schema cs = schemas.get(currentSchemaName);
+        SchemaIndex index = getSchemaIndex();
+        List<MappedModel> descendentSchemas = new ArrayList<>();
+        for (String currentSchemaName : index.getAllOfDescendants(thisSchemaName)) {
+            Schema cs = index.getSchema(currentSchemaName);
             Map<String, Object> vendorExtensions = cs.getExtensions();
             String mappingName =
                     Optional.ofNullable(vendorExtensions)
@@ -3781,8 +3756,8 @@ public class DefaultCodegen implements CodegenConfig {
         Schema innerSchema = unaliasSchema(ModelUtils.getAdditionalProperties(p));
         if (innerSchema == null) {
             LOGGER.error("Undefined map inner type for `{}`. Default to String.", p.getName());
+            // a local default: p may be shared with models or operations converted on other threads
             innerSchema = new StringSchema().description("//TODO automatically added by openapi-generator due to undefined type");
-            p.setAdditionalProperties(innerSchema);
         }
         CodegenProperty cp = fromProperty("inner", innerSchema, false);
         updatePropertyForMap(property, cp);
@@ -3933,8 +3908,8 @@ public class DefaultCodegen implements CodegenConfig {
             return null;
         }
         LOGGER.debug("debugging fromProperty for {}: {}", name, p);
-        NamedSchema ns = new NamedSchema(name, p, required, schemaIsFromAdditionalProperties);
-        CodegenProperty cpc = schemaCodegenPropertyCache.get(ns);
+        Schema cacheKey = p;
+        CodegenProperty cpc = schemaCodegenPropertyCache.get(name, cacheKey, required, schemaIsFromAdditionalProperties);
         if (cpc != null) {
             LOGGER.debug("Cached fromProperty for {} : {} required={}", name, p.getName(), required);
             return cpc;
@@ -4229,7 +4204,7 @@ public class DefaultCodegen implements CodegenConfig {
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
 
         LOGGER.debug("debugging from property return: {}", property);
-        schemaCodegenPropertyCache.put(ns, property);
+        schemaCodegenPropertyCache.put(name, cacheKey, required, schemaIsFromAdditionalProperties, property);
         return property;
     }
 
@@ -6722,10 +6697,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         String varDataType = var.mostInnerItems != null ? var.mostInnerItems.dataType : var.dataType;
-        Optional<Schema> referencedSchema = ModelUtils.getSchemas(openAPI).entrySet().stream()
-                .filter(entry -> Objects.equals(varDataType, toModelName(entry.getKey())))
-                .map(Map.Entry::getValue)
-                .findFirst();
+        Optional<Schema> referencedSchema = Optional.ofNullable(getSchemaIndex().getSchemaByModelName(varDataType));
         String dataType = (referencedSchema.isPresent()) ? getTypeDeclaration(referencedSchema.get()) : varDataType;
         List<Map<String, Object>> enumVars = buildEnumVars(values, dataType);
         postProcessEnumVars(enumVars);
@@ -7437,7 +7409,13 @@ public class DefaultCodegen implements CodegenConfig {
     protected void addBodyModelSchema(CodegenParameter codegenParameter, String name, Schema schema, Set<String> imports, String bodyParameterName, boolean forceSimpleRef) {
         CodegenModel codegenModel = null;
         if (StringUtils.isNotBlank(name)) {
-            schema.setName(name);
+            // the schema is usually shared with other operations, possibly converted at the same time (see
+            // conversionParallelism). The name is the key of the schema the body refers to, so every thread writes
+            // the same value, and only the first one has to.
+            if (!name.equals(schema.getName())) {
+                schema.setName(name);
+                schemaCodegenPropertyCache.invalidate(schema);
+            }
             codegenModel = fromModel(name, schema);
         }
         if (codegenModel != null) {
@@ -7533,9 +7511,10 @@ public class DefaultCodegen implements CodegenConfig {
         } else {
             Schema inner = ModelUtils.getAdditionalProperties(schema);
             if (inner == null) {
+                // not stored in the schema, which may be shared with operations converted on other threads;
+                // fromProperty defaults the inner type to string as well
                 LOGGER.error("No inner type supplied for map parameter `{}`. Default to type:string", schema.getName());
                 inner = new StringSchema().description("//TODO automatically added by openapi-generator");
-                schema.setAdditionalProperties(inner);
             }
             CodegenProperty codegenProperty = fromProperty("property", schema, false);
 
@@ -8216,11 +8195,19 @@ public class DefaultCodegen implements CodegenConfig {
 
     /**
      * Executes an external command for file post processing.
+     * <p>
+     * With a post-process batch size or parallelism greater than 1, commands whose last element is the file to
+     * process are queued instead, and run over many files at once by {@link #finishPostProcessing()}.
      *
      * @param commandArr an array of commands and arguments. They will be concatenated with space and tokenized again.
-     * @return Whether the execution passed (true) or failed (false)
+     * @return Whether the execution passed (true) or failed (false); true if the command has been queued
      */
     protected boolean executePostProcessor(String[] commandArr) {
+        if (commandArr.length > 1 && (postProcessBatchSize > 1 || postProcessParallelism > 1)) {
+            getBatchPostProcessor().add(commandArr);
+            return true;
+        }
+
         final String command = String.join(" ", commandArr);
         try {
             // we don't use the array variant here, because the command passed in by the user is often not only a single binary
@@ -8251,6 +8238,42 @@ public class DefaultCodegen implements CodegenConfig {
         return false;
     }
 
+    // synchronized as files are post-processed by several threads when generatorParallelism > 1
+    private synchronized BatchPostProcessor getBatchPostProcessor() {
+        if (batchPostProcessor == null) {
+            batchPostProcessor = new BatchPostProcessor(postProcessBatchSize, postProcessParallelism);
+        }
+        return batchPostProcessor;
+    }
+
+    @Override
+    public CodegenPropertyCache getCodegenPropertyCache() {
+        return schemaCodegenPropertyCache;
+    }
+
+    @Override
+    public BatchPostProcessor.Result finishPostProcessing() {
+        BatchPostProcessor pending;
+        synchronized (this) {
+            pending = batchPostProcessor;
+            batchPostProcessor = null;
+        }
+        if (pending == null) {
+            return new BatchPostProcessor.Result();
+        }
+
+        BatchPostProcessor.Result result = pending.run();
+        if (result.isSuccessful()) {
+            LOGGER.info("Post-processed {} files with {} command invocations", result.getSuccessCount(), result.getProcessCount());
+        } else {
+            StringBuilder sb = new StringBuilder();
+            result.getFailures().forEach((file, reason) -> sb.append(System.lineSeparator()).append("  - ").append(file).append(": ").append(reason));
+            LOGGER.error("Post-processing failed for {} of {} files:{}", result.getFailures().size(),
+                    result.getFailures().size() + result.getSuccessCount(), sb);
+        }
+        return result;
+    }
+
     /**
      * Boolean value indicating the state of the option for post-processing file using environment variables.
      *
@@ -8289,6 +8312,121 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the boolean value indicating the state of the option for rendering only files whose inputs have changed
+     */
+    @Override
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    /**
+     * Set the boolean value indicating the state of the option for rendering only files whose inputs have changed
+     *
+     * @param incrementalGeneration true to enable incremental generation
+     */
+    @Override
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
+    /**
+     * Get the boolean value indicating the state of the option for releasing model and API data after rendering
+     */
+    @Override
+    public boolean isLowMemoryGeneration() {
+        return lowMemoryGeneration;
+    }
+
+    /**
+     * Set the boolean value indicating the state of the option for releasing model and API data after rendering
+     *
+     * @param lowMemoryGeneration true to enable low-memory generation
+     */
+    @Override
+    public void setLowMemoryGeneration(boolean lowMemoryGeneration) {
+        this.lowMemoryGeneration = lowMemoryGeneration;
+    }
+
+    /**
+     * Get the number of threads used to render and write model and API files
+     */
+    @Override
+    public int getGeneratorParallelism() {
+        return generatorParallelism;
+    }
+
+    /**
+     * Set the number of threads used to render and write model and API files
+     *
+     * @param generatorParallelism number of threads; 1 renders all files on the calling thread
+     */
+    @Override
+    public void setGeneratorParallelism(int generatorParallelism) {
+        this.generatorParallelism = Math.max(1, generatorParallelism);
+    }
+
+    /**
+     * Get the number of threads used to convert schemas to models ({@link #fromModel}) and operations to codegen
+     * operations ({@link #fromOperation})
+     */
+    @Override
+    public int getConversionParallelism() {
+        return conversionParallelism;
+    }
+
+    /**
+     * Set the number of threads used to convert schemas to models and operations to codegen operations. With more
+     * than 1 thread, {@link #fromModel}, {@link #fromOperation} and {@link #postProcessModels} of the generator are
+     * called concurrently, so they must not change state shared between models or operations, such as the schemas
+     * of the OpenAPI document. Rewrites of the document belong in {@link #preprocessOpenAPI}, which runs on the
+     * calling thread before any conversion. The only write of the default conversion is the name of schemas used as
+     * request bodies, always the same name per schema (see {@link #addBodyModelSchema}).
+     *
+     * @param conversionParallelism number of threads; 1 converts everything on the calling thread
+     */
+    @Override
+    public void setConversionParallelism(int conversionParallelism) {
+        this.conversionParallelism = Math.max(1, conversionParallelism);
+    }
+
+    /**
+     * Get the maximum number of files passed to a single invocation of the file post-processor
+     */
+    @Override
+    public int getPostProcessBatchSize() {
+        return postProcessBatchSize;
+    }
+
+    /**
+     * Set the maximum number of files passed to a single invocation of the file post-processor
+     *
+     * @param postProcessBatchSize number of files; 1 post-processes each file right after it has been written,
+     *                             unless postProcessParallelism is greater than 1
+     */
+    @Override
+    public void setPostProcessBatchSize(int postProcessBatchSize) {
+        this.postProcessBatchSize = Math.max(1, postProcessBatchSize);
+    }
+
+    /**
+     * Get the number of file post-processor invocations which may run at the same time
+     */
+    @Override
+    public int getPostProcessParallelism() {
+        return postProcessParallelism;
+    }
+
+    /**
+     * Set the number of file post-processor invocations which may run at the same time
+     *
+     * @param postProcessParallelism number of concurrent invocations
+     */
+    @Override
+    public void setPostProcessParallelism(int postProcessParallelism) {
+        this.postProcessParallelism = Math.max(1, postProcessParallelism);
+    }
+
     /**
      * Indicates whether the codegen configuration should treat documents as strictly defined by the OpenAPI specification.
      *
@@ -8337,6 +8475,9 @@ public class DefaultCodegen implements CodegenConfig {
 
     /**
      * Add "x-one-of-name" extension to a given oneOf schema (assuming it has at least 1 oneOf elements)
+     * <p>
+     * This changes the schema, so it is only called from {@link #preprocessOpenAPI}, before schemas and operations
+     * are converted (possibly on several threads, see {@link #setConversionParallelism}).
      *
      * @param schema schema to add the extension to
      * @param name   name of the parent oneOf schema
@@ -8344,6 +8485,7 @@ public class DefaultCodegen implements CodegenConfig {
     public void addOneOfNameExtension(Schema schema, String name) {
         if (schema.getOneOf() != null && schema.getOneOf().size() > 0) {
             schema.addExtension("x-one-of-name", name);
+            schemaCodegenPropertyCache.invalidate(schema);
         }
     }
 
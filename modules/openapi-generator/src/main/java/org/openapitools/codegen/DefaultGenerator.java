@@ -55,7 +55,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -96,6 +103,23 @@ public class DefaultGenerator implements Generator {
     private String generatorCheck = "spring";
     private String templateCheck = "apiController.mustache";
 
+    // renders model/api files concurrently when generatorParallelism > 1, see startRenderStage()
+    private ExecutorService renderExecutor;
+    private final List<PendingFile> pendingFiles = new ArrayList<>();
+    // what the files submitted to the render executor are generated for (e.g. model 'Pet'), reported if they fail
+    private String renderSubject;
+    // input hashes of the rendered files when incrementalGeneration is enabled, see startIncrementalGeneration()
+    private GenerationManifest manifest;
+    // notified of the progress of generate(), see addGenerationListener()
+    private final List<GenerationListener> generationListeners = new CopyOnWriteArrayList<>();
+    // the auth methods of the operations by their security requirements, see fromSecurity(List)
+    private final Map<List<SecurityRequirement>, Optional<List<CodegenSecurity>>> authMethodsBySecurities = new ConcurrentHashMap<>();
+    // the aggregates which the supporting files use, all of them unless lowMemoryGeneration is enabled
+    private SupportingFileAggregates supportingFileAggregates = SupportingFileAggregates.all();
+    // the additional properties shared by the bundles when lowMemoryGeneration is enabled, see putAdditionalProperties()
+    private Map<String, Object> sharedAdditionalProperties;
+    // whether operations which weren't kept for the supporting files have servers
+    private boolean releasedOperationServers;
 
     public DefaultGenerator() {
         this(false);
@@ -106,12 +130,35 @@ public class DefaultGenerator implements Generator {
         LOGGER.info("Generating with dryRun={}", this.dryRun);
     }
 
+    /**
+     * Adds a listener notified of the phases of {@link #generate()}, and of the models and templates it processes.
+     *
+     * @param listener the listener, which must be thread-safe when generatorParallelism or conversionParallelism &gt; 1
+     * @return this generator
+     */
+    public DefaultGenerator addGenerationListener(GenerationListener listener) {
+        generationListeners.add(Objects.requireNonNull(listener, "listener"));
+        return this;
+    }
+
+    /**
+     * Determines whether generated files end up on the file system, i.e. whether output directories are created
+     * upfront and written files can be post-processed. This is not the case for a dry run, nor for subclasses which
+     * write through a {@link TemplateProcessor} storing files elsewhere.
+     *
+     * @return true if files are written to the file system
+     */
+    protected boolean writesToFileSystem() {
+        return !dryRun;
+    }
+
     @SuppressWarnings("deprecation")
     @Override
     public Generator opts(ClientOptInput opts) {
         this.opts = opts;
         this.openAPI = opts.getOpenAPI();
         this.config = opts.getConfig();
+        this.authMethodsBySecurities.clear();
 
         List<TemplateDefinition> userFiles = opts.getUserDefinedTemplates();
         if (userFiles != null) {
@@ -255,30 +302,43 @@ public class DefaultGenerator implements Generator {
         }
 
         // normalize the spec
-        try {
-            if (config.getUseOpenapiNormalizer()) {
+        if (config.getUseOpenapiNormalizer()) {
+            firePhaseStarted(GenerationListener.Phase.NORMALIZE);
+            try {
                 SemVer version = new SemVer(openAPI.getOpenapi());
                 if (version.atLeast("3.1.0")) {
                     config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
                 }
                 OpenAPINormalizer openapiNormalizer = OpenAPINormalizer.createNormalizer(openAPI, config.openapiNormalizer());
                 openapiNormalizer.normalize();
+            } catch (Exception e) {
+                LOGGER.error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
+                e.printStackTrace();
+            } finally {
+                firePhaseFinished(GenerationListener.Phase.NORMALIZE);
             }
-        } catch (Exception e) {
-            LOGGER.error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
-            e.printStackTrace();
         }
 
         // resolve inline models
         if (config.getUseInlineModelResolver()) {
-            InlineModelResolver inlineModelResolver = new InlineModelResolver();
-            inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
-            inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
+            firePhaseStarted(GenerationListener.Phase.INLINE_MODELS);
+            try {
+                InlineModelResolver inlineModelResolver = new InlineModelResolver();
+                inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
+                inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
 
-            inlineModelResolver.flatten(openAPI);
+                inlineModelResolver.flatten(openAPI);
+            } finally {
+                firePhaseFinished(GenerationListener.Phase.INLINE_MODELS);
+            }
         }
 
-        config.preprocessOpenAPI(openAPI);
+        firePhaseStarted(GenerationListener.Phase.PREPROCESS);
+        try {
+            config.preprocessOpenAPI(openAPI);
+        } finally {
+            firePhaseFinished(GenerationListener.Phase.PREPROCESS);
+        }
 
         // set OpenAPI to make these available to all methods
         config.setOpenAPI(openAPI);
@@ -377,10 +437,8 @@ public class DefaultGenerator implements Generator {
 
     private void generateModelTests(List<File> files, Map<String, Object> models, String modelName) throws IOException {
         // to generate model test files
-        for (Map.Entry<String, String> configModelTestTemplateFilesEntry : config.modelTestTemplateFiles().entrySet()) {
-            String templateName = configModelTestTemplateFilesEntry.getKey();
-            String suffix = configModelTestTemplateFilesEntry.getValue();
-            String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix;
+        for (String templateName : config.modelTestTemplateFiles().keySet()) {
+            String filename = modelTestFilename(templateName, modelName);
 
             if (generateModelTests) {
                 // do not overwrite test file that already exists (regardless of config's skipOverwrite setting)
@@ -388,13 +446,7 @@ public class DefaultGenerator implements Generator {
                 if (modelTestFile.exists()) {
                     this.templateProcessor.skip(modelTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                 } else {
-                    File written = processTemplateToFile(models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
-                        }
-                    }
+                    renderTemplateToFile(files, models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder(), "model-test");
                 }
             } else if (dryRun) {
                 Path skippedPath = java.nio.file.Paths.get(filename);
@@ -405,45 +457,142 @@ public class DefaultGenerator implements Generator {
 
     private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName) throws IOException {
         for (String templateName : config.modelDocTemplateFiles().keySet()) {
-            String docExtension = config.getDocExtension();
-            String suffix = docExtension != null ? docExtension : config.modelDocTemplateFiles().get(templateName);
-            String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
+            String filename = modelDocFilename(templateName, modelName);
+            renderTemplateToFile(files, models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS, null, "model-doc");
+        }
+    }
 
-            File written = processTemplateToFile(models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS);
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
+    private void generateModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+        for (String templateName : config.modelTemplateFiles().keySet()) {
+            String filename = modelFilename(templateName, modelName);
+            renderTemplateToFile(files, models, templateName, filename, generateModels, CodegenConstants.MODELS, templateOutputDir(templateName), "model");
+        }
+    }
+
+    /**
+     * @return the directory configured for the files of a template, or null if they go to their usual place
+     */
+    private String templateOutputDir(String templateName) {
+        return config.templateOutputDirs().containsKey(templateName)
+                ? config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName)
+                : null;
+    }
+
+    private String modelFilename(String templateName, String modelName) {
+        String outputDir = templateOutputDir(templateName);
+        return outputDir == null ? config.modelFilename(templateName, modelName) : config.modelFilename(templateName, modelName, outputDir);
+    }
+
+    private String modelTestFilename(String templateName, String modelName) {
+        return config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + config.modelTestTemplateFiles().get(templateName);
+    }
+
+    private String modelDocFilename(String templateName, String modelName) {
+        String docExtension = config.getDocExtension();
+        String suffix = docExtension != null ? docExtension : config.modelDocTemplateFiles().get(templateName);
+        return config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
+    }
+
+    private String apiFilename(String templateName, String tag) {
+        String outputDir = templateOutputDir(templateName);
+        return outputDir == null ? config.apiFilename(templateName, tag) : config.apiFilename(templateName, tag, outputDir);
+    }
+
+    /**
+     * @return the files rendered for a model, unless they're skipped by the generation options or ignored
+     */
+    private List<String> plannedModelFiles(String modelName) {
+        List<String> filenames = new ArrayList<>();
+        for (String templateName : config.modelTemplateFiles().keySet()) {
+            filenames.add(modelFilename(templateName, modelName));
+        }
+        if (generateModelTests) {
+            for (String templateName : config.modelTestTemplateFiles().keySet()) {
+                String filename = modelTestFilename(templateName, modelName);
+                if (!new File(filename).exists()) {
+                    filenames.add(filename);
                 }
             }
         }
+        if (generateModelDocumentation) {
+            for (String templateName : config.modelDocTemplateFiles().keySet()) {
+                filenames.add(modelDocFilename(templateName, modelName));
+            }
+        }
+        return filenames;
     }
 
-    private void generateModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
-        for (String templateName : config.modelTemplateFiles().keySet()) {
-            File written;
-            if (config.templateOutputDirs().containsKey(templateName)) {
-                String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                String filename = config.modelFilename(templateName, modelName, outputDir);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
-            } else {
-                String filename = config.modelFilename(templateName, modelName);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS);
+    /**
+     * @return the files rendered for the operations of a tag, unless they're skipped by the generation options or ignored
+     */
+    private List<String> plannedApiFiles(String tag) {
+        List<String> filenames = new ArrayList<>();
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            String filename = apiFilename(templateName, tag);
+            if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                filenames.add(filename);
             }
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
+        }
+        if (generateApiTests) {
+            for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                String filename = config.apiTestFilename(templateName, tag);
+                if (!new File(filename).exists()) {
+                    filenames.add(filename);
+                }
+            }
+        }
+        if (generateApiDocumentation) {
+            for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                filenames.add(config.apiDocFilename(templateName, tag));
+            }
+        }
+        return filenames;
+    }
+
+    /**
+     * Registers the files a stage is about to render, so that paths which differ only by case are reported before any
+     * of them is written. The files aren't registered again when they're rendered.
+     */
+    private void planOutputFiles(List<String> outputFilenames) {
+        for (String outputFilename : outputFilenames) {
+            File target = outputFile(outputFilename);
+            if (ignoreProcessor.allowsFile(target)) {
+                Path absoluteTarget = target.toPath().toAbsolutePath();
+                plannedPaths.merge(absoluteTarget, 1, Integer::sum);
+                if (outputFileRegistry.register(absoluteTarget)) {
+                    LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget);
                 }
             }
         }
     }
 
-    void generateModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels) {
+    /**
+     * Marks one planned rendering of a path as done, so that a path planned twice is only registered twice.
+     *
+     * @return true if the path was planned and had renderings left
+     */
+    private boolean unplan(Path absoluteTarget) {
+        Integer count = plannedPaths.get(absoluteTarget);
+        if (count == null) {
+            return false;
+        }
+        if (count > 1) {
+            plannedPaths.put(absoluteTarget, count - 1);
+        } else {
+            plannedPaths.remove(absoluteTarget);
+        }
+        return true;
+    }
+
+    private static File outputFile(String outputFilename) {
+        return new File(outputFilename.replaceAll("//", "/").replace('/', File.separatorChar));
+    }
+
+    void generateModels(List<File> files, List<ModelMap> allModels, Collection<String> unusedModels, List<ModelMap> aliasModels) {
         generateModels(files, allModels, unusedModels, aliasModels, new ArrayList<>(), DefaultGenerator.this::modelKeys);
     }
 
-    void generateModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, Supplier<Set<String>> modelKeysSupplier) {
+    void generateModels(List<File> files, List<ModelMap> allModels, Collection<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, Supplier<Set<String>> modelKeysSupplier) {
         if (!generateModels) {
             // TODO: Process these anyway and add to dryRun info
             LOGGER.info("Skipping generation of models.");
@@ -463,6 +612,7 @@ public class DefaultGenerator implements Generator {
                 getGeneratorPropertyDefaultSwitch(CodegenConstants.SKIP_FORM_MODEL, true);
 
         // process models only
+        List<String> modelNames = new ArrayList<>();
         for (String name : modelKeys) {
             processedModels.add(name);
             try {
@@ -508,17 +658,22 @@ public class DefaultGenerator implements Generator {
                     }
                 }
 
-                Map<String, Schema> schemaMap = new HashMap<>();
-                schemaMap.put(name, schema);
-                ModelsMap models = processModels(config, schemaMap);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
+                modelNames.add(name);
             } catch (Exception e) {
                 throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
             }
         }
 
+        // converted on up to conversionParallelism threads, but added in the order of the keys
+        List<ModelsMap> convertedModels = convertAll(modelNames, this::processModel);
+        for (int i = 0; i < modelNames.size(); i++) {
+            String name = modelNames.get(i);
+            ModelsMap models = convertedModels.get(i);
+            models.put("classname", config.toModelName(name));
+            putAdditionalProperties(models);
+            allProcessedModels.put(name, models);
+        }
+
         // loop through all models to update children models, isSelfReference, isCircularReference, etc
         allProcessedModels = config.updateAllModels(allProcessedModels);
 
@@ -543,8 +698,18 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        // all file names are known now, report collisions before writing any of them
+        List<String> plannedFiles = new ArrayList<>();
+        allProcessedModels.forEach((modelName, models) -> {
+            if (!config.schemaMapping().containsKey(modelName) && !isAlias(models)) {
+                plannedFiles.addAll(plannedModelFiles(modelName));
+            }
+        });
+        planOutputFiles(plannedFiles);
+
         // generate files based on processed models
         for (String modelName : allProcessedModels.keySet()) {
+            renderSubject = "model '" + modelName + "'";
             ModelsMap models = allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
             try {
@@ -582,16 +747,87 @@ public class DefaultGenerator implements Generator {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
+        awaitPendingFiles();
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
     }
 
+    private static boolean isAlias(ModelsMap models) {
+        List<ModelMap> modelList = models.getModels();
+        return modelList != null && !modelList.isEmpty() && modelList.get(0) != null
+                && modelList.get(0).getModel() != null && modelList.get(0).getModel().isAlias;
+    }
+
+    private ModelsMap processModel(String name) {
+        try {
+            long startNanos = System.nanoTime();
+            long startAllocated = generationListeners.isEmpty() ? -1L : GenerationTimings.currentThreadAllocatedBytes();
+            Map<String, Schema> schemaMap = new HashMap<>();
+            schemaMap.put(name, ModelUtils.getSchemas(this.openAPI).get(name));
+            ModelsMap models = processModels(config, schemaMap);
+            if (!generationListeners.isEmpty()) {
+                long nanos = System.nanoTime() - startNanos;
+                long allocated = startAllocated < 0 ? -1L : GenerationTimings.currentThreadAllocatedBytes() - startAllocated;
+                generationListeners.forEach(listener -> listener.modelProcessed(name, nanos, allocated));
+            }
+            return models;
+        } catch (Exception e) {
+            throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
+        }
+    }
+
+    /**
+     * Applies a conversion to each input, on up to {@link CodegenConfig#getConversionParallelism()} threads.
+     * <p>
+     * The threads are created for the call, from the generating thread, so they inherit its GlobalSettings.
+     *
+     * @return the results, in the order of the inputs
+     */
+    private <T, R> List<R> convertAll(List<T> inputs, Function<T, R> conversion) {
+        int parallelism = Math.min(config.getConversionParallelism(), inputs.size());
+        List<R> results = new ArrayList<>(inputs.size());
+        if (parallelism <= 1) {
+            for (T input : inputs) {
+                results.add(conversion.apply(input));
+            }
+            return results;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-convert-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<R>> futures = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                futures.add(executor.submit(() -> conversion.apply(input)));
+            }
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while converting the document", e);
+        } catch (ExecutionException e) {
+            // the conversions describe their failures themselves
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * this method guesses the schema type of in parent model used variable and if the schema type is available it let the generate the model for the type of this variable
      */
-    private void generateModelsForVariable(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, CodegenProperty variable) {
+    private void generateModelsForVariable(List<File> files, List<ModelMap> allModels, Collection<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, CodegenProperty variable) {
         if (variable == null) {
             return;
         }
@@ -614,16 +850,12 @@ public class DefaultGenerator implements Generator {
     }
 
     private String calculateModelKey(String type, String ref) {
-        Map<String, Schema> schemaMap = ModelUtils.getSchemas(this.openAPI);
-        Set<String> keys = schemaMap.keySet();
-        String simpleRef;
-        if (keys.contains(type)) {
-            return type;
-        } else if (keys.contains(simpleRef = ModelUtils.getSimpleRef(ref))) {
-            return simpleRef;
-        } else {
+        SchemaIndex schemaIndex = config.getSchemaIndex();
+        if (schemaIndex.containsSchema(type)) {
             return type;
         }
+        String simpleRef = schemaIndex.getSchemaKeyByRef(ref);
+        return simpleRef != null ? simpleRef : type;
     }
 
     private Set<String> modelKeys() {
@@ -675,7 +907,11 @@ public class DefaultGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        List<String> plannedFiles = new ArrayList<>();
+        paths.keySet().forEach(tag -> plannedFiles.addAll(plannedApiFiles(tag)));
+        planOutputFiles(plannedFiles);
         for (String tag : paths.keySet()) {
+            renderSubject = "api file for '" + tag + "'";
             try {
                 List<CodegenOperation> ops = paths.get(tag);
                 if (!this.config.isSkipSortingOperations()) {
@@ -704,7 +940,7 @@ public class DefaultGenerator implements Generator {
                 Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
                 operation.put("apiPackage", config.apiPackage());
                 operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                putAdditionalProperties(operation);
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -748,34 +984,21 @@ public class DefaultGenerator implements Generator {
                 processMimeTypes(swagger.getProduces(), operation, "produces");
                 */
 
-                allOperations.add(operation);
+                if (supportingFileAggregates.get(SupportingFileAggregates.API_INFO) != SupportingFileAggregates.Usage.NONE) {
+                    allOperations.add(operation);
+                } else if (hasOperationServers(operation)) {
+                    releasedOperationServers = true;
+                }
 
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
-                    if (config.templateOutputDirs().containsKey(templateName)) {
-                        String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                        String filename = config.apiFilename(templateName, tag, outputDir);
-                        // do not overwrite apiController file for spring server
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
+                    String filename = apiFilename(templateName, tag);
+                    // do not overwrite apiController file for spring server
+                    if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                        renderTemplateToFile(files, operation, templateName, filename, generateApis, CodegenConstants.APIS, templateOutputDir(templateName), "api");
                     } else {
-                        String filename = config.apiFilename(templateName, tag);
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
-                    }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
+                        LOGGER.info("Implementation file {} is not overwritten", filename);
                     }
                 }
 
@@ -787,32 +1010,21 @@ public class DefaultGenerator implements Generator {
                     if (apiTestFile.exists()) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        renderTemplateToFile(files, operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder(), "api-test");
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    renderTemplateToFile(files, operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS, null, "api-doc");
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        awaitPendingFiles();
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -842,6 +1054,7 @@ public class DefaultGenerator implements Generator {
             webhooks = Webhooks;
         }
         for (String tag : webhooks.keySet()) {
+            renderSubject = "api file for '" + tag + "'";
             try {
                 List<CodegenOperation> wks = webhooks.get(tag);
                 wks.sort((one, another) -> ObjectUtils.compare(one.operationId, another.operationId));
@@ -867,7 +1080,7 @@ public class DefaultGenerator implements Generator {
                 Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
                 operation.put("apiPackage", config.apiPackage());
                 operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                putAdditionalProperties(operation);
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -911,34 +1124,19 @@ public class DefaultGenerator implements Generator {
                 processMimeTypes(swagger.getProduces(), operation, "produces");
                 */
 
-                allWebhooks.add(operation);
+                if (supportingFileAggregates.get(SupportingFileAggregates.WEBHOOKS) != SupportingFileAggregates.Usage.NONE) {
+                    allWebhooks.add(operation);
+                }
 
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
-                    if (config.templateOutputDirs().containsKey(templateName)) {
-                        String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                        String filename = config.apiFilename(templateName, tag, outputDir);
-                        // do not overwrite apiController file for spring server
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, outputDir);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
+                    String filename = apiFilename(templateName, tag);
+                    // do not overwrite apiController file for spring server
+                    if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                        renderTemplateToFile(files, operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, templateOutputDir(templateName), "api");
                     } else {
-                        String filename = config.apiFilename(templateName, tag);
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
-                    }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
+                        LOGGER.info("Implementation file {} is not overwritten", filename);
                     }
                 }
 
@@ -950,32 +1148,21 @@ public class DefaultGenerator implements Generator {
                     if (apiTestFile.exists()) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        renderTemplateToFile(files, operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder(), "api-test");
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    renderTemplateToFile(files, operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS, null, "api-doc");
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        awaitPendingFiles();
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allWebhooks);
@@ -1083,7 +1270,7 @@ public class DefaultGenerator implements Generator {
 
                 if (!of.isDirectory()) {
                     // check that its not a dryrun and the files in the directory aren't ignored before we make the directory
-                    if (!dryRun && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
+                    if (writesToFileSystem() && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
                         once(LOGGER).debug("Output directory {} not created. It {}.", outputFolder, of.exists() ? "already exists." : "may not have appropriate permissions.");
                     }
                 }
@@ -1097,7 +1284,7 @@ public class DefaultGenerator implements Generator {
                 File written = processTemplateToFile(bundle, support.getTemplateFile(), outputFilename, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
                 if (written != null) {
                     files.add(written);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
+                    if (config.isEnablePostProcessFile() && writesToFileSystem()) {
                         config.postProcessFile(written, "supporting-file");
                     }
                 }
@@ -1122,7 +1309,7 @@ public class DefaultGenerator implements Generator {
                     File written = processTemplateToFile(bundle, openapiGeneratorIgnore, ignoreFileNameTarget, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
                     if (written != null) {
                         files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
+                        if (config.isEnablePostProcessFile() && writesToFileSystem()) {
                             config.postProcessFile(written, "openapi-generator-ignore");
                         }
                     }
@@ -1179,9 +1366,8 @@ public class DefaultGenerator implements Generator {
             bundle.put("hasServers", true);
         }
 
-        boolean hasOperationServers = allOperations != null && allOperations.stream()
-                .flatMap(om -> om.getOperations().getOperation().stream())
-                .anyMatch(o -> o.servers != null && !o.servers.isEmpty());
+        boolean hasOperationServers = releasedOperationServers
+                || (allOperations != null && allOperations.stream().anyMatch(DefaultGenerator::hasOperationServers));
         bundle.put("hasOperationServers", hasOperationServers);
 
         if (openAPI.getExternalDocs() != null) {
@@ -1202,6 +1388,137 @@ public class DefaultGenerator implements Generator {
         return bundle;
     }
 
+    private static boolean hasOperationServers(OperationsMap operations) {
+        return operations.getOperations().getOperation().stream()
+                .anyMatch(o -> o.servers != null && !o.servers.isEmpty());
+    }
+
+    /**
+     * Adds the additional properties to the bundle of a model or API file. They're copied into each bundle, unless
+     * lowMemoryGeneration is enabled: then all bundles share a snapshot of them, which is only taken again when the
+     * generator changed them.
+     */
+    private void putAdditionalProperties(BundleMap bundle) {
+        if (!config.isLowMemoryGeneration()) {
+            bundle.putAll(config.additionalProperties());
+            return;
+        }
+        Map<String, Object> additionalProperties = config.additionalProperties();
+        if (sharedAdditionalProperties == null || !sameEntries(sharedAdditionalProperties, additionalProperties)) {
+            sharedAdditionalProperties = Collections.unmodifiableMap(new HashMap<>(additionalProperties));
+        }
+        bundle.putAllShared(sharedAdditionalProperties);
+    }
+
+    /**
+     * @return true if both maps have the same keys, with the same (identical) values
+     */
+    private static boolean sameEntries(Map<String, Object> snapshot, Map<String, Object> current) {
+        if (snapshot.size() != current.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            Object value = snapshot.get(entry.getKey());
+            if (value != entry.getValue() || (value == null && !snapshot.containsKey(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines which aggregates of the supporting file bundle are used, by the supporting file templates (see
+     * {@link SupportingFileAggregates}) and by the generator. Unless lowMemoryGeneration is enabled, all of them
+     * are used in full.
+     *
+     * @return the aggregates to keep until the supporting files are rendered
+     */
+    SupportingFileAggregates findSupportingFileAggregates() {
+        if (!config.isLowMemoryGeneration() || !(templateProcessor instanceof TemplatingExecutor)
+                || GlobalSettings.getProperty("debugModels") != null
+                || GlobalSettings.getProperty("debugOperations") != null
+                || GlobalSettings.getProperty("debugSupportingFiles") != null) {
+            return SupportingFileAggregates.all();
+        }
+
+        // the generator's hook may read anything it's passed, unless the generator declares what it reads
+        SupportingFileAggregates hookAggregates = declaresSupportingFileDataAggregates() ? config.getSupportingFileDataAggregates() : null;
+        if (hookAggregates == null) {
+            return SupportingFileAggregates.all();
+        }
+        SupportingFileAggregates aggregates = SupportingFileAggregates.none().add(hookAggregates);
+        if (Boolean.FALSE.equals(generateSupportingFiles)) {
+            return aggregates;
+        }
+        TemplatingExecutor executor = (TemplatingExecutor) templateProcessor;
+        for (SupportingFile support : config.supportingFiles()) {
+            String templateFile = support.getTemplateFile();
+            // other files are copied as they are
+            if (config.getTemplatingEngine().handlesFile(templateFile)) {
+                String contents;
+                try {
+                    contents = executor.getFullTemplateContents(templateFile);
+                } catch (RuntimeException e) {
+                    // reported when the file is rendered
+                    LOGGER.debug("Unable to read supporting file template {}: {}", templateFile, e.getMessage());
+                    return SupportingFileAggregates.all();
+                }
+                try {
+                    aggregates.add(SupportingFileAggregates.declaredBy(contents));
+                } catch (IllegalArgumentException e) {
+                    throw new RuntimeException("Invalid aggregates declared by supporting file template '" + templateFile + "'", e);
+                }
+            }
+        }
+        LOGGER.info("Low-memory generation: supporting files use {}", aggregates);
+        return aggregates;
+    }
+
+    /**
+     * @return true if the aggregates declared by the generator apply to its postProcessSupportingFileData hook, i.e.
+     * they're declared by the class overriding the hook or by one of its subclasses
+     */
+    private boolean declaresSupportingFileDataAggregates() {
+        try {
+            Class<?> hook = config.getClass().getMethod("postProcessSupportingFileData", Map.class).getDeclaringClass();
+            Class<?> declaration = config.getClass().getMethod("getSupportingFileDataAggregates").getDeclaringClass();
+            return hook.isAssignableFrom(declaration);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the generator overrides a method of {@link DefaultCodegen}, or doesn't extend it
+     */
+    private boolean overridesCodegenMethod(String name, Class<?>... parameterTypes) {
+        try {
+            return config.getClass().getMethod(name, parameterTypes).getDeclaringClass() != DefaultCodegen.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Reduces the models, whose files are rendered, to summaries unless the supporting files use them in full.
+     */
+    private void summarizeModels(List<ModelMap> allModels, List<ModelMap> aliasModels) {
+        summarizeModels(allModels, supportingFileAggregates.get(SupportingFileAggregates.MODELS));
+        summarizeModels(aliasModels, supportingFileAggregates.get(SupportingFileAggregates.ALIAS_MODELS));
+    }
+
+    private static void summarizeModels(List<ModelMap> models, SupportingFileAggregates.Usage usage) {
+        if (usage == SupportingFileAggregates.Usage.FULL) {
+            return;
+        }
+        for (ModelMap modelMap : models) {
+            CodegenModel model = modelMap.getModel();
+            if (model != null) {
+                model.summarize();
+            }
+        }
+    }
+
     /**
      * Add authentication methods to the given map
      * This adds a boolean and a collection for each authentication type to the map.
@@ -1275,6 +1592,13 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        generationListeners.forEach(listener -> listener.generationStarted(config));
+        TemplatingEngineAdapter templatingEngine = config.getTemplatingEngine();
+        long templateCacheHits = templatingEngine == null ? 0L : templatingEngine.getTemplateCacheHits();
+        long templateCacheMisses = templatingEngine == null ? 0L : templatingEngine.getTemplateCacheMisses();
+        long propertyCacheHits = config.getCodegenPropertyCache().getHits();
+        long propertyCacheMisses = config.getCodegenPropertyCache().getMisses();
+
         configureGeneratorProperties();
         configureOpenAPIInfo();
 
@@ -1285,21 +1609,69 @@ public class DefaultGenerator implements Generator {
         // generate .openapi-generator-ignore if the option openapiGeneratorIgnoreFile is enabled
         generateOpenapiGeneratorIgnoreFile();
 
+        outputFileRegistry.clear();
+        plannedPaths.clear();
+        startIncrementalGeneration();
+
+        supportingFileAggregates = findSupportingFileAggregates();
+        releasedOperationServers = false;
+        // generators may keep the models they're passed after all of them were processed, and use them for the APIs
+        boolean apisUseModels = overridesCodegenMethod("postProcessAllModels", Map.class)
+                || overridesCodegenMethod("postProcessOperationsWithModels", OperationsMap.class, List.class)
+                || overridesCodegenMethod("postProcessWebhooksWithModels", WebhooksMap.class, List.class);
+
         List<File> files = new ArrayList<>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
         List<ModelMap> allModels = new ArrayList<>();
         List<ModelMap> aliasModels = new ArrayList<>();
-        generateModels(files, allModels, filteredSchemas, aliasModels);
-        // apis
         List<OperationsMap> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
-        // webhooks
         List<WebhooksMap> allWebhooks = new ArrayList<>();
-        generateWebhooks(files, allWebhooks, allModels);
+        startRenderStage();
+        try {
+            // models
+            firePhaseStarted(GenerationListener.Phase.MODELS);
+            try {
+                Set<String> filteredSchemas = ModelUtils.getSchemaUsage(openAPI).getSchemasUsedOnlyInFormParam();
+                generateModels(files, allModels, filteredSchemas, aliasModels);
+                if (!apisUseModels) {
+                    summarizeModels(allModels, aliasModels);
+                }
+            } finally {
+                firePhaseFinished(GenerationListener.Phase.MODELS);
+            }
+            // apis
+            firePhaseStarted(GenerationListener.Phase.APIS);
+            try {
+                generateApis(files, allOperations, allModels);
+            } finally {
+                firePhaseFinished(GenerationListener.Phase.APIS);
+            }
+            // webhooks
+            firePhaseStarted(GenerationListener.Phase.WEBHOOKS);
+            try {
+                generateWebhooks(files, allWebhooks, allModels);
+                if (apisUseModels) {
+                    summarizeModels(allModels, aliasModels);
+                }
+            } finally {
+                firePhaseFinished(GenerationListener.Phase.WEBHOOKS);
+            }
+        } finally {
+            stopRenderStage();
+        }
+        if (supportingFileAggregates.get(SupportingFileAggregates.MODELS) == SupportingFileAggregates.Usage.NONE) {
+            allModels.clear();
+        }
+        if (supportingFileAggregates.get(SupportingFileAggregates.ALIAS_MODELS) == SupportingFileAggregates.Usage.NONE) {
+            aliasModels.clear();
+        }
         // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
-        generateSupportingFiles(files, bundle);
+        firePhaseStarted(GenerationListener.Phase.SUPPORTING_FILES);
+        try {
+            Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
+            generateSupportingFiles(files, bundle);
+        } finally {
+            firePhaseFinished(GenerationListener.Phase.SUPPORTING_FILES);
+        }
 
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
@@ -1345,8 +1717,29 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        // post-process
-        config.postProcess();
+        firePhaseStarted(GenerationListener.Phase.POST_PROCESS);
+        try {
+            // run the file post-processor over the files queued while writing them (batched post-processing)
+            config.finishPostProcessing();
+
+            // post-process
+            config.postProcess();
+        } finally {
+            firePhaseFinished(GenerationListener.Phase.POST_PROCESS);
+        }
+
+        // after post-processing, so that the manifest records the final size of each file
+        finishIncrementalGeneration();
+
+        if (!generationListeners.isEmpty()) {
+            long hits = templatingEngine == null ? 0L : templatingEngine.getTemplateCacheHits() - templateCacheHits;
+            long misses = templatingEngine == null ? 0L : templatingEngine.getTemplateCacheMisses() - templateCacheMisses;
+            generationListeners.forEach(listener -> listener.templateCacheUsed(hits, misses));
+            long propertyHits = config.getCodegenPropertyCache().getHits() - propertyCacheHits;
+            long propertyMisses = config.getCodegenPropertyCache().getMisses() - propertyCacheMisses;
+            generationListeners.forEach(listener -> listener.propertyCacheUsed(propertyHits, propertyMisses));
+            generationListeners.forEach(GenerationListener::generationFinished);
+        }
 
         // reset GlobalSettings, so that the running thread can be reused for another generator-run
         GlobalSettings.reset();
@@ -1431,11 +1824,55 @@ public class DefaultGenerator implements Generator {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
-    private final Set<String> seenFiles = new HashSet<>();
+    /**
+     * The output files of the current run, registered before they're rendered. Cleared when a run starts.
+     */
+    @Getter private final OutputFileRegistry outputFileRegistry = new OutputFileRegistry();
+    // registered by planOutputFiles and not rendered yet, with the number of times each path was planned
+    private final Map<Path, Integer> plannedPaths = new HashMap<>();
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
-        String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
-        File target = new File(adjustedOutputFilename);
+        File target = resolveTemplateTarget(outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+        if (target == null) {
+            return null;
+        }
+        return writeTemplate(templateData, templateName, target);
+    }
+
+    /**
+     * Renders a template to a file through the template processor, and tells the listeners how long it took.
+     */
+    private File writeTemplate(Map<String, Object> templateData, String templateName, File target) throws IOException {
+        if (generationListeners.isEmpty()) {
+            return this.templateProcessor.write(templateData, templateName, target);
+        }
+        long startNanos = System.nanoTime();
+        long startAllocated = GenerationTimings.currentThreadAllocatedBytes();
+        File written = this.templateProcessor.write(templateData, templateName, target);
+        if (written != null) {
+            long nanos = System.nanoTime() - startNanos;
+            long allocated = startAllocated < 0 ? -1L : GenerationTimings.currentThreadAllocatedBytes() - startAllocated;
+            long bytes = writesToFileSystem() ? written.length() : 0L;
+            generationListeners.forEach(listener -> listener.templateRendered(templateName, written, nanos, bytes, allocated));
+        }
+        return written;
+    }
+
+    private void firePhaseStarted(GenerationListener.Phase phase) {
+        generationListeners.forEach(listener -> listener.phaseStarted(phase));
+    }
+
+    private void firePhaseFinished(GenerationListener.Phase phase) {
+        generationListeners.forEach(listener -> listener.phaseFinished(phase));
+    }
+
+    /**
+     * Applies the ignore file, the user's generation options and the output directory checks to an output file.
+     *
+     * @return the file to write, or null if it was ignored or skipped
+     */
+    private File resolveTemplateTarget(String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) {
+        File target = outputFile(outputFilename);
         if (ignoreProcessor.allowsFile(target)) {
             if (shouldGenerate) {
                 Path outDir = java.nio.file.Paths.get(intendedOutputDir).toAbsolutePath();
@@ -1444,18 +1881,222 @@ public class DefaultGenerator implements Generator {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().filter(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT))).findAny().isPresent()) {
+                // models and APIs were registered before rendering, see planOutputFiles
+                if (!unplan(absoluteTarget) && outputFileRegistry.register(absoluteTarget)) {
                     LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
                 }
-                seenFiles.add(absoluteTarget.toString());
-                return this.templateProcessor.write(templateData, templateName, target);
+                return target;
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
-                return null;
             }
         } else {
             this.templateProcessor.ignore(target.toPath(), "Ignored by rule in ignore file.");
-            return null;
+        }
+        if (manifest != null) {
+            // not rendered by choice of the user, so the file isn't deleted as one which is no longer generated
+            manifest.keep(target);
+        }
+        return null;
+    }
+
+    /**
+     * Renders a model/api template to a file, adds the written file to {@code files} and post-processes it.
+     * <p>
+     * While a render stage is active (generatorParallelism &gt; 1) the output file is checked and its slot in
+     * {@code files} reserved on the calling thread, but rendering, writing and post-processing happen on the render
+     * executor; {@link #awaitPendingFiles()} fills the reserved slots so that {@code files} keeps the serial ordering.
+     * <p>
+     * With incremental generation, a file whose inputs didn't change since the last run is added to {@code files}
+     * without being rendered or post-processed.
+     *
+     * @param intendedOutputDir the directory the file must be written to, or null for the configured output directory
+     */
+    private void renderTemplateToFile(List<File> files, Map<String, Object> templateData, String templateName, String outputFilename,
+                                      boolean shouldGenerate, String skippedByOption, String intendedOutputDir, String fileType) throws IOException {
+        if (renderExecutor == null && manifest == null) {
+            File written = intendedOutputDir == null
+                    ? processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption)
+                    : processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile() && writesToFileSystem()) {
+                    config.postProcessFile(written, fileType);
+                }
+            }
+            return;
+        }
+
+        File target = resolveTemplateTarget(outputFilename, shouldGenerate, skippedByOption,
+                intendedOutputDir == null ? this.config.getOutputDir() : intendedOutputDir);
+        if (target == null) {
+            return;
+        }
+        if (renderExecutor == null) {
+            File written = renderResolvedFile(templateData, templateName, target, fileType);
+            if (written != null) {
+                files.add(written);
+            }
+            return;
+        }
+        int index = files.size();
+        files.add(null);
+        Future<File> future = renderExecutor.submit(() -> renderResolvedFile(templateData, templateName, target, fileType));
+        pendingFiles.add(new PendingFile(files, index, target, renderSubject, future));
+    }
+
+    /**
+     * Renders and post-processes a file returned by {@link #resolveTemplateTarget}, unless incremental generation finds
+     * its inputs unchanged.
+     *
+     * @return the file, or null if the template processor declined to write it
+     */
+    private File renderResolvedFile(Map<String, Object> templateData, String templateName, File target, String fileType) throws IOException {
+        String inputHash = null;
+        if (manifest != null && !isWrittenOnce(templateName, fileType)) {
+            inputHash = manifest.hash(templateData, templateName, target);
+            if (manifest.isUnchanged(target, inputHash)) {
+                this.templateProcessor.skip(target.toPath(), "Inputs unchanged since the last incremental generation.");
+                return target;
+            }
+        }
+        File written = writeTemplate(templateData, templateName, target);
+        if (written != null) {
+            if (inputHash != null) {
+                manifest.record(written, inputHash);
+            }
+            if (config.isEnablePostProcessFile() && writesToFileSystem()) {
+                config.postProcessFile(written, fileType);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Waits for all files submitted to the render executor and stores the written files in their reserved slots.
+     */
+    private void awaitPendingFiles() {
+        if (pendingFiles.isEmpty()) {
+            return;
+        }
+        List<PendingFile> pending = new ArrayList<>(pendingFiles);
+        pendingFiles.clear();
+
+        Set<List<File>> lists = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (PendingFile file : pending) {
+            try {
+                file.files.set(file.index, file.future.get());
+                lists.add(file.files);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while generating file '" + file.target + "'", e);
+            } catch (ExecutionException e) {
+                // as the serial path reports it, with the file which failed
+                throw new RuntimeException("Could not generate " + file.subject + " (file '" + file.target + "')", e.getCause());
+            }
+        }
+        // the template processor may decline to write a file
+        lists.forEach(l -> l.removeIf(Objects::isNull));
+    }
+
+    private void startRenderStage() {
+        int parallelism = config.getGeneratorParallelism();
+        if (parallelism <= 1 || dryRun) {
+            return;
+        }
+        LOGGER.info("Rendering model and API files with {} threads", parallelism);
+        AtomicInteger threadCount = new AtomicInteger();
+        // threads are created from the generating thread, so they inherit its GlobalSettings
+        renderExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-render-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void stopRenderStage() {
+        if (renderExecutor != null) {
+            pendingFiles.clear();
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
+    }
+
+    /**
+     * Files which are only written when missing, and owned by the user afterwards: tests and the spring api
+     * controller, see {@link #apiFilePreCheck}. They are left out of the manifest so that they're never deleted.
+     */
+    private boolean isWrittenOnce(String templateName, String fileType) {
+        return "model-test".equals(fileType) || "api-test".equals(fileType)
+                || (config.getName().equals(generatorCheck) && templateName.equals(templateCheck));
+    }
+
+    /**
+     * Loads the manifest of the previous run when incremental generation is enabled and files are written to the file
+     * system.
+     */
+    private void startIncrementalGeneration() {
+        if (!config.isIncrementalGeneration() || !writesToFileSystem()) {
+            return;
+        }
+        try {
+            manifest = new GenerationManifest(config, METADATA_DIR);
+            LOGGER.info("Incremental generation: only rendering model and API files whose inputs changed");
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to fingerprint the generator options, rendering all files: {}", e.getMessage());
+            manifest = null;
+        }
+    }
+
+    /**
+     * Deletes the files generated by the previous incremental run which this run no longer generates, and writes the
+     * manifest of this run.
+     */
+    private void finishIncrementalGeneration() {
+        if (manifest == null) {
+            return;
+        }
+        // a file is only known to be gone when every model, API and webhook has been considered
+        boolean complete = generateModels && generateApis && generateWebhooks
+                && StringUtils.isEmpty(GlobalSettings.getProperty(CodegenConstants.MODELS))
+                && StringUtils.isEmpty(GlobalSettings.getProperty(CodegenConstants.APIS))
+                && StringUtils.isEmpty(GlobalSettings.getProperty(CodegenConstants.WEBHOOKS));
+        if (complete) {
+            for (File removed : manifest.getRemovedFiles()) {
+                if (removed.isFile() && ignoreProcessor.allowsFile(removed)) {
+                    try {
+                        Files.delete(removed.toPath());
+                        LOGGER.info("Deleted {} (no longer generated)", removed);
+                    } catch (IOException e) {
+                        LOGGER.warn("Unable to delete {}, which is no longer generated: {}", removed, e.getMessage());
+                    }
+                }
+            }
+        } else {
+            manifest.keepAll();
+        }
+
+        String targetFile = config.outputFolder() + File.separator + METADATA_DIR + File.separator + GenerationManifest.FILENAME;
+        try {
+            this.templateProcessor.writeToFile(targetFile, manifest.toBytes());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write the manifest for incremental generation: {}", e.getMessage());
+        }
+        manifest = null;
+    }
+
+    private static final class PendingFile {
+        private final List<File> files;
+        private final int index;
+        private final File target;
+        private final String subject;
+        private final Future<File> future;
+
+        private PendingFile(List<File> files, int index, File target, String subject, Future<File> future) {
+            this.files = files;
+            this.index = index;
+            this.target = target;
+            this.subject = subject;
+            this.future = future;
         }
     }
 
@@ -1465,18 +2106,7 @@ public class DefaultGenerator implements Generator {
         if (paths == null) {
             return ops;
         }
-        for (Map.Entry<String, PathItem> pathsEntry : paths.entrySet()) {
-            String resourcePath = pathsEntry.getKey();
-            PathItem path = pathsEntry.getValue();
-            processOperation(resourcePath, "get", path.getGet(), ops, path);
-            processOperation(resourcePath, "head", path.getHead(), ops, path);
-            processOperation(resourcePath, "put", path.getPut(), ops, path);
-            processOperation(resourcePath, "post", path.getPost(), ops, path);
-            processOperation(resourcePath, "delete", path.getDelete(), ops, path);
-            processOperation(resourcePath, "patch", path.getPatch(), ops, path);
-            processOperation(resourcePath, "options", path.getOptions(), ops, path);
-            processOperation(resourcePath, "trace", path.getTrace(), ops, path);
-        }
+        processOperations(paths, ops);
         return ops;
     }
 
@@ -1486,22 +2116,53 @@ public class DefaultGenerator implements Generator {
         if (webhooks == null) {
             return ops;
         }
-        for (Map.Entry<String, PathItem> webhooksEntry : webhooks.entrySet()) {
-            String resourceKey = webhooksEntry.getKey();
-            PathItem path = webhooksEntry.getValue();
-            processOperation(resourceKey, "get", path.getGet(), ops, path);
-            processOperation(resourceKey, "head", path.getHead(), ops, path);
-            processOperation(resourceKey, "put", path.getPut(), ops, path);
-            processOperation(resourceKey, "post", path.getPost(), ops, path);
-            processOperation(resourceKey, "delete", path.getDelete(), ops, path);
-            processOperation(resourceKey, "patch", path.getPatch(), ops, path);
-            processOperation(resourceKey, "options", path.getOptions(), ops, path);
-            processOperation(resourceKey, "trace", path.getTrace(), ops, path);
-        }
+        processOperations(webhooks, ops);
         return ops;
     }
 
-    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, PathItem path) {
+    /**
+     * Converts the operations of path items, on up to conversionParallelism threads, then adds them to the groups of
+     * their tags in document order, so that e.g. the operation ids made unique by addOperationToGroup don't depend on
+     * the order in which the conversions finish.
+     */
+    private void processOperations(Map<String, PathItem> pathItems, Map<String, List<CodegenOperation>> operations) {
+        List<PathOperation> pathOperations = new ArrayList<>();
+        for (Map.Entry<String, PathItem> pathsEntry : pathItems.entrySet()) {
+            String resourcePath = pathsEntry.getKey();
+            PathItem path = pathsEntry.getValue();
+            addPathOperation(pathOperations, resourcePath, "get", path.getGet(), path);
+            addPathOperation(pathOperations, resourcePath, "head", path.getHead(), path);
+            addPathOperation(pathOperations, resourcePath, "put", path.getPut(), path);
+            addPathOperation(pathOperations, resourcePath, "post", path.getPost(), path);
+            addPathOperation(pathOperations, resourcePath, "delete", path.getDelete(), path);
+            addPathOperation(pathOperations, resourcePath, "patch", path.getPatch(), path);
+            addPathOperation(pathOperations, resourcePath, "options", path.getOptions(), path);
+            addPathOperation(pathOperations, resourcePath, "trace", path.getTrace(), path);
+        }
+
+        List<List<CodegenOperation>> converted = convertAll(pathOperations, this::convertOperation);
+        for (int i = 0; i < pathOperations.size(); i++) {
+            PathOperation pathOperation = pathOperations.get(i);
+            List<CodegenOperation> codegenOperations = converted.get(i);
+            for (int j = 0; j < pathOperation.tags.size(); j++) {
+                Tag tag = pathOperation.tags.get(j);
+                if (codegenOperations == null) {
+                    // skip operation if x-internal sets to true
+                    LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
+                            pathOperation.httpMethod, pathOperation.resourcePath, pathOperation.operation.getOperationId());
+                    continue;
+                }
+                try {
+                    config.addOperationToGroup(config.sanitizeTag(tag.getName()), pathOperation.resourcePath,
+                            pathOperation.operation, codegenOperations.get(j), operations);
+                } catch (Exception ex) {
+                    throw operationException(pathOperation, tag, ex);
+                }
+            }
+        }
+    }
+
+    private void addPathOperation(List<PathOperation> pathOperations, String resourcePath, String httpMethod, Operation operation, PathItem path) {
         if (operation == null) {
             return;
         }
@@ -1562,50 +2223,139 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
-        final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
-        for (Tag tag : tags) {
+        pathOperations.add(new PathOperation(resourcePath, httpMethod, operation, path, tags));
+    }
+
+    /**
+     * Converts an operation once per tag. The operation is converted once, then copied for all tags but the last,
+     * which gets the converted operation itself; the copies are taken before addOperationToGroup changes it.
+     *
+     * @return the operation converted for each tag, or null if the operation is internal
+     */
+    private List<CodegenOperation> convertOperation(PathOperation pathOperation) {
+        Operation operation = pathOperation.operation;
+        if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
+            return null;
+        }
+
+        List<Tag> tags = pathOperation.tags;
+        List<CodegenOperation> codegenOperations = new ArrayList<>(tags.size());
+        CodegenOperation canonical = null;
+        for (int i = 0; i < tags.size(); i++) {
             try {
-                if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
-                    // skip operation if x-internal sets to true
-                    LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
-                            httpMethod, resourcePath, operation.getOperationId());
+                if (canonical == null) {
+                    canonical = fromOperation(pathOperation.resourcePath, pathOperation.httpMethod, operation, pathOperation.path, tags);
+                }
+                if (i == tags.size() - 1) {
+                    codegenOperations.add(canonical);
+                } else if (isCopyable(canonical)) {
+                    codegenOperations.add(canonical.copy());
                 } else {
-                    CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
-                    codegenOperation.tags = new ArrayList<>(tags);
-                    config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
+                    // a generator's own operation, response or auth method classes may have fields a copy wouldn't know of
+                    codegenOperations.add(fromOperation(pathOperation.resourcePath, pathOperation.httpMethod, operation, pathOperation.path, tags));
+                }
+            } catch (Exception ex) {
+                throw operationException(pathOperation, tags.get(i), ex);
+            }
+        }
+        return codegenOperations;
+    }
 
-                    List<SecurityRequirement> securities = operation.getSecurity();
-                    if (securities != null && securities.isEmpty()) {
-                        continue;
-                    }
+    /**
+     * @return whether the operation only consists of classes which {@link CodegenOperation#copy()} knows of
+     */
+    private static boolean isCopyable(CodegenOperation operation) {
+        return operation.getClass() == CodegenOperation.class
+                && (operation.responses == null || operation.responses.stream().allMatch(response -> response.getClass() == CodegenResponse.class))
+                && isCopyable(operation.authMethods);
+    }
 
-                    Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+    private static boolean isCopyable(List<CodegenSecurity> authMethods) {
+        return authMethods == null || authMethods.stream().allMatch(security -> security == null || security.getClass() == CodegenSecurity.class);
+    }
 
-                    if (authMethods != null && !authMethods.isEmpty()) {
-                        List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                        codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, securities);
-                        codegenOperation.hasAuthMethods = true;
-                    } else {
-                        authMethods = getAuthMethods(globalSecurities, securitySchemes);
+    private RuntimeException operationException(PathOperation pathOperation, Tag tag, Exception ex) {
+        String msg = "Could not process operation:\n" //
+                + "  Tag: " + tag + "\n"//
+                + "  Operation: " + pathOperation.operation.getOperationId() + "\n" //
+                + "  Resource: " + pathOperation.httpMethod + " " + pathOperation.resourcePath + "\n"//
+                + "  Schemas: " + openAPI.getComponents().getSchemas() + "\n"  //
+                + "  Exception: " + ex.getMessage();
+        return new RuntimeException(msg, ex);
+    }
 
-                        if (authMethods != null && !authMethods.isEmpty()) {
-                            List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                            codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, globalSecurities);
-                            codegenOperation.hasAuthMethods = true;
-                        }
-                    }
-                }
-            } catch (Exception ex) {
-                String msg = "Could not process operation:\n" //
-                        + "  Tag: " + tag + "\n"//
-                        + "  Operation: " + operation.getOperationId() + "\n" //
-                        + "  Resource: " + httpMethod + " " + resourcePath + "\n"//
-                        + "  Schemas: " + openAPI.getComponents().getSchemas() + "\n"  //
-                        + "  Exception: " + ex.getMessage();
-                throw new RuntimeException(msg, ex);
+    /**
+     * An operation of a path item, with the tags it's grouped by.
+     */
+    private static final class PathOperation {
+        private final String resourcePath;
+        private final String httpMethod;
+        private final Operation operation;
+        private final PathItem path;
+        private final List<Tag> tags;
+
+        private PathOperation(String resourcePath, String httpMethod, Operation operation, PathItem path, List<Tag> tags) {
+            this.resourcePath = resourcePath;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.path = path;
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * Converts an operation with its tags and auth methods.
+     */
+    private CodegenOperation fromOperation(String resourcePath, String httpMethod, Operation operation, PathItem path, List<Tag> tags) {
+        CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
+        codegenOperation.tags = new ArrayList<>(tags);
+
+        List<SecurityRequirement> securities = operation.getSecurity();
+        if (securities != null && securities.isEmpty()) {
+            return codegenOperation;
+        }
+
+        List<CodegenSecurity> fullAuthMethods = fromSecurity(securities);
+        if (fullAuthMethods != null) {
+            codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, securities);
+            codegenOperation.hasAuthMethods = true;
+        } else {
+            List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
+            fullAuthMethods = fromSecurity(globalSecurities);
+            if (fullAuthMethods != null) {
+                codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, globalSecurities);
+                codegenOperation.hasAuthMethods = true;
             }
         }
+        return codegenOperation;
+    }
+
+    /**
+     * Converts the security schemes required by security requirements. Most operations share their requirements, so
+     * the conversions are memoized by requirements. Every operation gets its own copy of the auth methods, as
+     * post-processing may change them.
+     *
+     * @return the auth methods, or null if the requirements don't refer to any security scheme
+     */
+    private List<CodegenSecurity> fromSecurity(List<SecurityRequirement> securities) {
+        if (securities == null) {
+            return null;
+        }
+        Optional<List<CodegenSecurity>> cached = authMethodsBySecurities.get(securities);
+        if (cached != null) {
+            return CodegenOperation.copyOfAuthMethods(cached.orElse(null));
+        }
+
+        Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
+        Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+        List<CodegenSecurity> fullAuthMethods = authMethods == null || authMethods.isEmpty() ? null : config.fromSecurity(authMethods);
+        if (!isCopyable(fullAuthMethods)) {
+            // a generator's own auth method class may have fields a copy wouldn't know of, so it isn't memoized
+            return fullAuthMethods;
+        }
+        // operations converted concurrently may convert the same requirements, the first conversion is kept
+        cached = authMethodsBySecurities.putIfAbsent(new ArrayList<>(securities), Optional.ofNullable(fullAuthMethods));
+        return CodegenOperation.copyOfAuthMethods(cached != null ? cached.orElse(null) : fullAuthMethods);
     }
 
     private static String generateParameterId(Parameter parameter) {
@@ -1941,7 +2691,7 @@ public class DefaultGenerator implements Generator {
                 File written = this.templateProcessor.writeToFile(versionMetadata, (ImplementationVersion.read() + "\n").getBytes(StandardCharsets.UTF_8));
                 if (written != null) {
                     files.add(versionMetadataFile);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
+                    if (config.isEnablePostProcessFile() && writesToFileSystem()) {
                         config.postProcessFile(written, "openapi-generator-version");
                     }
                 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.io.File;
+
+/**
+ * Receives the progress of a {@link DefaultGenerator} run, e.g. to measure where generation spends its time (see
+ * {@link GenerationTimings}). Listeners are added with {@link DefaultGenerator#addGenerationListener}.
+ * <p>
+ * Phase events are sent from the thread calling {@link DefaultGenerator#generate()}. Model events are sent from the
+ * thread converting the model, which is a conversion thread when conversionParallelism &gt; 1, and template events
+ * from the thread rendering the file, which is a render thread when generatorParallelism &gt; 1, so listeners must be
+ * thread-safe.
+ * <p>
+ * Allocated bytes are measured per thread with {@link GenerationTimings#currentThreadAllocatedBytes()}, and are -1
+ * when the JVM doesn't support it.
+ */
+public interface GenerationListener {
+
+    /**
+     * The phases of {@link DefaultGenerator#generate()}, in the order they run. Phases which are disabled (e.g. the
+     * normalizer) or produce nothing aren't reported.
+     */
+    enum Phase {
+        NORMALIZE("normalize"),
+        INLINE_MODELS("inlineModels"),
+        PREPROCESS("preprocess"),
+        MODELS("models"),
+        APIS("apis"),
+        WEBHOOKS("webhooks"),
+        SUPPORTING_FILES("supportingFiles"),
+        POST_PROCESS("postProcess");
+
+        private final String value;
+
+        Phase(String value) {
+            this.value = value;
+        }
+
+        /**
+         * @return the name of the phase in reports
+         */
+        public String value() {
+            return value;
+        }
+    }
+
+    /**
+     * @param config the generator which is about to run
+     */
+    default void generationStarted(CodegenConfig config) {
+    }
+
+    default void phaseStarted(Phase phase) {
+    }
+
+    default void phaseFinished(Phase phase) {
+    }
+
+    /**
+     * A schema was turned into a model, before the models are post-processed together.
+     *
+     * @param name           the schema name
+     * @param nanos          the time it took
+     * @param allocatedBytes the bytes allocated meanwhile, or -1
+     */
+    default void modelProcessed(String name, long nanos, long allocatedBytes) {
+    }
+
+    /**
+     * A template was rendered and written to a file.
+     *
+     * @param templateName   the template
+     * @param file           the written file
+     * @param nanos          the time it took to render and write the file
+     * @param bytes          the size of the file, or 0 if it isn't written to the file system
+     * @param allocatedBytes the bytes allocated meanwhile, or -1
+     */
+    default void templateRendered(String templateName, File file, long nanos, long bytes, long allocatedBytes) {
+    }
+
+    /**
+     * Sent once, before {@link #generationFinished()}.
+     *
+     * @param hits   the number of renders which reused a compiled template during the run
+     * @param misses the number of renders which compiled their template during the run
+     */
+    default void templateCacheUsed(long hits, long misses) {
+    }
+
+    /**
+     * Sent once, before {@link #generationFinished()}.
+     *
+     * @param hits   the number of properties found in the generator's {@link CodegenPropertyCache} during the run
+     * @param misses the number of properties converted during the run
+     */
+    default void propertyCacheUsed(long hits, long misses) {
+    }
+
+    default void generationFinished() {
+    }
+}
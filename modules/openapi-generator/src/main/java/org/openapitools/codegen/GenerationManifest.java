@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.core.util.Json;
+import org.openapitools.codegen.utils.ImplementationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records a hash of the inputs of each rendered file, so that an incremental generation run only renders files whose
+ * inputs changed since the previous one and can tell which files are no longer generated.
+ * <p>
+ * The inputs of a file are the data passed to its template, the template name, the output path and the generator
+ * options: the generator, its version, the additional properties and the contents of a custom template directory. The
+ * manifest is stored as {@code .openapi-generator/MANIFEST} with one line per file: the hash, the size of the file
+ * after the run and its path relative to the output directory.
+ * <p>
+ * Checking and recording files is thread safe, so files may be rendered concurrently.
+ */
+public class GenerationManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationManifest.class);
+
+    public static final String FILENAME = "MANIFEST";
+
+    // changes on every run, and is only meaningful for files which are actually rendered
+    private static final String GENERATED_DATE = "generatedDate";
+
+    private final Path outputDir;
+    private final ObjectMapper mapper;
+    private final Map<String, Object> options;
+    private final byte[] optionsHash;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the manifest of the previous run and fingerprints the generator options.
+     *
+     * @param config      the generator, after its additional properties have been processed
+     * @param metadataDir the directory holding the manifest, relative to the output directory
+     * @throws IOException if the generator options can't be fingerprinted
+     */
+    public GenerationManifest(CodegenConfig config, String metadataDir) throws IOException {
+        this.outputDir = Paths.get(config.getOutputDir()).toAbsolutePath().normalize();
+        // map entries are serialized by key, so that equal data gives equal hashes; Mustache lambdas have no state
+        this.mapper = Json.mapper().copy()
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        this.options = new HashMap<>(config.additionalProperties());
+        this.optionsHash = hashOptions(config);
+        this.previous = read(outputDir.resolve(metadataDir).resolve(FILENAME));
+    }
+
+    private byte[] hashOptions(CodegenConfig config) throws IOException {
+        MessageDigest digest = newDigest();
+        try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.writeUTF(config.getClass().getName());
+            out.writeUTF(ImplementationVersion.read());
+
+            Map<String, Object> properties = new TreeMap<>(options);
+            properties.remove(GENERATED_DATE);
+            out.write(mapper.writeValueAsBytes(properties));
+
+            // templates include each other, so any change to a custom template may affect any file
+            String templateDir = config.templateDir();
+            if (templateDir != null && !templateDir.equals(config.embeddedTemplateDir()) && new File(templateDir).isDirectory()) {
+                Path root = Paths.get(templateDir);
+                List<Path> templates;
+                try (Stream<Path> walk = Files.walk(root)) {
+                    templates = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path template : templates) {
+                    byte[] content = Files.readAllBytes(template);
+                    out.writeUTF(root.relativize(template).toString().replace(File.separatorChar, '/'));
+                    out.writeInt(content.length);
+                    out.write(content);
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    private static Map<String, Entry> read(Path manifest) {
+        Map<String, Entry> entries = new HashMap<>();
+        if (!Files.isRegularFile(manifest)) {
+            return entries;
+        }
+        try {
+            for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                String[] parts = line.split(" ", 3);
+                if (parts.length == 3) {
+                    entries.put(parts[2], new Entry(parts[0], Long.parseLong(parts[1])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.warn("Unable to read {}, all files will be rendered: {}", manifest, e.getMessage());
+            entries.clear();
+        }
+        return entries;
+    }
+
+    /**
+     * Computes the hash of the inputs of a file.
+     *
+     * @param templateData the data passed to the template
+     * @param templateName the template
+     * @param target       the output file
+     * @return the hash, or null if it can't be computed, in which case the file is always rendered
+     */
+    public String hash(Map<String, Object> templateData, String templateName, File target) {
+        String path = relativize(target);
+        if (path == null) {
+            return null;
+        }
+        // the additional properties are part of every bundle, and already covered by the options hash
+        Map<String, Object> data = new HashMap<>(templateData.size());
+        templateData.forEach((key, value) -> {
+            if (!(options.containsKey(key) && options.get(key) == value) && !GENERATED_DATE.equals(key)) {
+                data.put(key, value);
+            }
+        });
+
+        MessageDigest digest = newDigest();
+        try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.write(optionsHash);
+            out.writeUTF(templateName);
+            out.writeUTF(path);
+            out.write(mapper.writeValueAsBytes(data));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to hash the inputs of {}, it will always be rendered: {}", path, e.getMessage());
+            return null;
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Checks whether a file can be kept as is, i.e. its inputs didn't change since the previous run and the file has
+     * the size it had after that run. If so, the file is recorded as generated by this run.
+     *
+     * @param target the output file
+     * @param hash   the hash of the inputs of the file, may be null
+     * @return true if the file doesn't need to be rendered
+     */
+    public boolean isUnchanged(File target, String hash) {
+        String path = relativize(target);
+        Entry entry = path == null ? null : previous.get(path);
+        if (hash == null || entry == null || !entry.hash.equals(hash) || !target.isFile() || target.length() != entry.size) {
+            return false;
+        }
+        current.put(path, entry);
+        return true;
+    }
+
+    /**
+     * Records a file rendered by this run. Its size is determined when the manifest is written, after post-processing.
+     *
+     * @param target the output file
+     * @param hash   the hash of the inputs of the file
+     */
+    public void record(File target, String hash) {
+        String path = relativize(target);
+        if (path != null) {
+            current.put(path, new Entry(hash, -1));
+        }
+    }
+
+    /**
+     * Keeps the entry of a file which this run didn't render, because it is ignored or skipped by the user's options,
+     * so that it isn't treated as removed.
+     *
+     * @param target the output file
+     */
+    public void keep(File target) {
+        String path = relativize(target);
+        Entry entry = path == null ? null : previous.get(path);
+        if (entry != null) {
+            current.putIfAbsent(path, entry);
+        }
+    }
+
+    /**
+     * Keeps the entries of all files which this run didn't generate, e.g. because only some models were selected.
+     */
+    public void keepAll() {
+        previous.forEach(current::putIfAbsent);
+    }
+
+    /**
+     * @return the files generated by the previous run but not by this one, sorted
+     */
+    public List<File> getRemovedFiles() {
+        return previous.keySet().stream()
+                .filter(path -> !current.containsKey(path))
+                .sorted()
+                .map(path -> outputDir.resolve(path).toFile())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the manifest of this run; files recorded but missing on disk are left out
+     */
+    public byte[] toBytes() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(current).forEach((path, entry) -> {
+            File file = outputDir.resolve(path).toFile();
+            if (file.isFile()) {
+                long size = entry.size >= 0 ? entry.size : file.length();
+                sb.append(entry.hash).append(' ').append(size).append(' ').append(path).append('\n');
+            }
+        });
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String relativize(File target) {
+        Path absolute = target.toPath().toAbsolutePath().normalize();
+        if (!absolute.startsWith(outputDir)) {
+            return null;
+        }
+        return outputDir.relativize(absolute).toString().replace(File.separatorChar, '/');
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static final class Entry {
+        private final String hash;
+        private final long size;
+
+        private Entry(String hash, long size) {
+            this.hash = hash;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.core.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the time spent, and bytes allocated, in each phase of a generation run, per model and per template, and
+ * writes them as a JSON report or a short summary.
+ * <p>
+ * Allocations of a phase include those of the render threads while it runs. Models are measured while they're
+ * processed on their own; the time spent post-processing all models together is part of the models phase only.
+ */
+public class GenerationTimings implements GenerationListener {
+    private static final int SUMMARY_ENTRIES = 5;
+    // ThreadMXBean#getThreadAllocatedBytes(long) of the HotSpot extension, bound to the platform bean
+    private static final MethodHandle THREAD_ALLOCATED_BYTES = threadAllocatedBytes();
+
+    private String generatorName;
+    private long startNanos;
+    private long totalNanos = -1;
+    private long templateCacheHits;
+    private long templateCacheMisses;
+    private long propertyCacheHits;
+    private long propertyCacheMisses;
+
+    private final Map<Phase, Timing> phases = new EnumMap<>(Phase.class);
+    private final Map<String, Timing> models = new LinkedHashMap<>();
+    private final Map<String, Timing> templates = new HashMap<>();
+    private final List<FileTiming> files = new ArrayList<>();
+
+    private Phase currentPhase;
+    private Thread currentPhaseThread;
+    private long currentPhaseStartNanos;
+    private long currentPhaseStartAllocated;
+
+    /**
+     * @return whether allocated bytes can be measured in this JVM
+     */
+    public static boolean isAllocationMeasured() {
+        return THREAD_ALLOCATED_BYTES != null;
+    }
+
+    /**
+     * @return the number of bytes the current thread allocated so far, or -1 if this JVM doesn't measure it
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREAD_ALLOCATED_BYTES == null) {
+            return -1L;
+        }
+        try {
+            return (long) THREAD_ALLOCATED_BYTES.invokeExact(Thread.currentThread().getId());
+        } catch (Throwable e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * The allocated bytes are only available through com.sun.management.ThreadMXBean, which isn't part of the Java
+     * API, so the method is looked up on the platform bean instead of being referenced.
+     */
+    private static MethodHandle threadAllocatedBytes() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            Class<?> extension = Class.forName("com.sun.management.ThreadMXBean");
+            if (!extension.isInstance(bean)) {
+                return null;
+            }
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodType flag = MethodType.methodType(boolean.class);
+            boolean supported = (boolean) lookup.findVirtual(extension, "isThreadAllocatedMemorySupported", flag).invoke(bean);
+            boolean enabled = supported && (boolean) lookup.findVirtual(extension, "isThreadAllocatedMemoryEnabled", flag).invoke(bean);
+            if (enabled) {
+                return lookup.findVirtual(extension, "getThreadAllocatedBytes", MethodType.methodType(long.class, long.class))
+                        .bindTo(bean);
+            }
+        } catch (Throwable e) {
+            // not a HotSpot compatible JVM
+        }
+        return null;
+    }
+
+    private static long allocatedSince(long start) {
+        return start < 0 ? -1L : currentThreadAllocatedBytes() - start;
+    }
+
+    @Override
+    public synchronized void generationStarted(CodegenConfig config) {
+        generatorName = config.getName();
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void phaseStarted(Phase phase) {
+        currentPhase = phase;
+        currentPhaseThread = Thread.currentThread();
+        currentPhaseStartNanos = System.nanoTime();
+        currentPhaseStartAllocated = currentThreadAllocatedBytes();
+        phases.computeIfAbsent(phase, p -> new Timing());
+    }
+
+    @Override
+    public synchronized void phaseFinished(Phase phase) {
+        Timing timing = phases.computeIfAbsent(phase, p -> new Timing());
+        if (phase == currentPhase) {
+            timing.add(System.nanoTime() - currentPhaseStartNanos, allocatedSince(currentPhaseStartAllocated), 0L);
+            currentPhase = null;
+            currentPhaseThread = null;
+        }
+    }
+
+    @Override
+    public synchronized void modelProcessed(String name, long nanos, long allocatedBytes) {
+        models.computeIfAbsent(name, n -> new Timing()).add(nanos, allocatedBytes, 0L);
+    }
+
+    @Override
+    public synchronized void templateRendered(String templateName, File file, long nanos, long bytes, long allocatedBytes) {
+        templates.computeIfAbsent(templateName, n -> new Timing()).add(nanos, allocatedBytes, bytes);
+        files.add(new FileTiming(file.getPath(), templateName, nanos, bytes));
+        if (currentPhase != null && currentPhaseThread != Thread.currentThread() && allocatedBytes > 0) {
+            // rendered on a render thread, which the phase's own measurement doesn't see
+            phases.get(currentPhase).allocatedBytes += allocatedBytes;
+        }
+    }
+
+    @Override
+    public synchronized void templateCacheUsed(long hits, long misses) {
+        templateCacheHits = hits;
+        templateCacheMisses = misses;
+    }
+
+    @Override
+    public synchronized void propertyCacheUsed(long hits, long misses) {
+        propertyCacheHits = hits;
+        propertyCacheMisses = misses;
+    }
+
+    @Override
+    public synchronized void generationFinished() {
+        totalNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @return the report, as written by {@link #writeReport(File)}
+     */
+    public synchronized Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generator", generatorName);
+        report.put("totalMillis", millis(totalNanos));
+        report.put("allocationMeasured", isAllocationMeasured());
+
+        List<Map<String, Object>> phaseReport = new ArrayList<>();
+        phases.forEach((phase, timing) -> phaseReport.add(timing.toReport("phase", phase.value())));
+        report.put("phases", phaseReport);
+
+        report.put("models", slowestFirst(models).stream()
+                .map(e -> e.getValue().toReport("model", e.getKey())).collect(Collectors.toList()));
+        report.put("templates", slowestFirst(templates).stream()
+                .map(e -> e.getValue().toReport("template", e.getKey())).collect(Collectors.toList()));
+
+        report.put("templateCache", cacheReport(templateCacheHits, templateCacheMisses));
+        report.put("propertyCache", cacheReport(propertyCacheHits, propertyCacheMisses));
+
+        report.put("files", files.stream()
+                .sorted(Comparator.comparingLong((FileTiming f) -> f.nanos).reversed())
+                .map(FileTiming::toReport)
+                .collect(Collectors.toList()));
+        return report;
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param file the report file, whose parent directories are created when missing
+     * @throws IOException the report can't be written
+     */
+    public void writeReport(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create the directory " + parent);
+        }
+        Json.mapper().writerWithDefaultPrettyPrinter().writeValue(file, toReport());
+    }
+
+    /**
+     * @return a few lines describing the phases and the slowest models and templates, for build logs
+     */
+    public synchronized List<String> summary() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Generated %d files in %d ms", files.size(), Math.round(millis(totalNanos))));
+        phases.forEach((phase, timing) -> lines.add(String.format(Locale.ROOT, "  %-16s %8d ms%s",
+                phase.value(), Math.round(millis(timing.nanos)), allocated(timing.allocatedBytes))));
+        slowestFirst(models).stream().limit(SUMMARY_ENTRIES).forEach(e -> lines.add(String.format(Locale.ROOT,
+                "  model %s: %d ms%s", e.getKey(), Math.round(millis(e.getValue().nanos)), allocated(e.getValue().allocatedBytes))));
+        slowestFirst(templates).stream().limit(SUMMARY_ENTRIES).forEach(e -> lines.add(String.format(Locale.ROOT,
+                "  template %s: %d ms for %d files, %d bytes written", e.getKey(), Math.round(millis(e.getValue().nanos)),
+                e.getValue().count, e.getValue().bytes)));
+        if (templateCacheHits + templateCacheMisses > 0) {
+            lines.add(String.format(Locale.ROOT, "  template cache: %d hits, %d misses (%.0f%% hit rate)",
+                    templateCacheHits, templateCacheMisses, hitRate(templateCacheHits, templateCacheMisses) * 100));
+        }
+        if (propertyCacheHits + propertyCacheMisses > 0) {
+            lines.add(String.format(Locale.ROOT, "  property cache: %d hits, %d misses (%.0f%% hit rate)",
+                    propertyCacheHits, propertyCacheMisses, hitRate(propertyCacheHits, propertyCacheMisses) * 100));
+        }
+        return lines;
+    }
+
+    private static Map<String, Object> cacheReport(long hits, long misses) {
+        Map<String, Object> cache = new LinkedHashMap<>();
+        cache.put("hits", hits);
+        cache.put("misses", misses);
+        cache.put("hitRate", hitRate(hits, misses));
+        return cache;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0d : (double) hits / total;
+    }
+
+    private static List<Map.Entry<String, Timing>> slowestFirst(Map<String, Timing> timings) {
+        return timings.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Timing> e) -> e.getValue().nanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private static String allocated(long bytes) {
+        return bytes < 0 ? "" : String.format(Locale.ROOT, ", %d KiB allocated", bytes / 1024);
+    }
+
+    private static double millis(long nanos) {
+        return nanos < 0 ? -1d : nanos / 1_000_000d;
+    }
+
+    private static final class Timing {
+        private int count;
+        private long nanos;
+        private long allocatedBytes;
+        private long bytes;
+
+        private void add(long nanos, long allocatedBytes, long bytes) {
+            this.count++;
+            this.nanos += nanos;
+            // unknown as soon as one measurement is
+            this.allocatedBytes = allocatedBytes < 0 || this.allocatedBytes < 0 ? -1L : this.allocatedBytes + allocatedBytes;
+            this.bytes += bytes;
+        }
+
+        private Map<String, Object> toReport(String key, String name) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put(key, name);
+            report.put("count", count);
+            report.put("millis", millis(nanos));
+            report.put("allocatedBytes", allocatedBytes);
+            if (bytes > 0) {
+                report.put("bytesWritten", bytes);
+            }
+            return report;
+        }
+    }
+
+    private static final class FileTiming {
+        private final String path;
+        private final String templateName;
+        private final long nanos;
+        private final long bytes;
+
+        private FileTiming(String path, String templateName, long nanos, long bytes) {
+            this.path = path;
+            this.templateName = templateName;
+            this.nanos = nanos;
+            this.bytes = bytes;
+        }
+
+        private Map<String, Object> toReport() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("file", path);
+            report.put("template", templateName);
+            report.put("millis", millis(nanos));
+            report.put("bytesWritten", bytes);
+            return report;
+        }
+    }
+}
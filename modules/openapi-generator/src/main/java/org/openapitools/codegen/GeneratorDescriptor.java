@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.meta.Stability;
+
+import java.util.Objects;
+
+/**
+ * Describes a generator without instantiating it, see {@link CodegenConfigLoader#getDescriptors()}.
+ */
+public final class GeneratorDescriptor {
+    private final String name;
+    private final String className;
+    private final CodegenType type;
+    private final Stability stability;
+    private final GeneratorLanguage language;
+
+    public GeneratorDescriptor(String name, String className, CodegenType type, Stability stability, GeneratorLanguage language) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.className = Objects.requireNonNull(className, "className");
+        this.type = type;
+        this.stability = stability;
+        this.language = language;
+    }
+
+    /**
+     * Describes an instantiated generator.
+     *
+     * @param config the generator
+     * @return the descriptor
+     */
+    public static GeneratorDescriptor of(CodegenConfig config) {
+        GeneratorMetadata metadata = config.getGeneratorMetadata();
+        return new GeneratorDescriptor(config.getName(), config.getClass().getName(), config.getTag(),
+                metadata == null ? null : metadata.getStability(), config.generatorLanguage());
+    }
+
+    /**
+     * @return the name passed to --generator-name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the fully qualified name of the {@link CodegenConfig} implementation
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the generator type, may be null
+     */
+    public CodegenType getType() {
+        return type;
+    }
+
+    /**
+     * @return the stability of the generator, may be null if it has no metadata
+     */
+    public Stability getStability() {
+        return stability;
+    }
+
+    /**
+     * @return the language of the generated code, may be null
+     */
+    public GeneratorLanguage getLanguage() {
+        return language;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GeneratorDescriptor)) return false;
+        GeneratorDescriptor that = (GeneratorDescriptor) o;
+        return name.equals(that.name) &&
+                className.equals(that.className) &&
+                type == that.type &&
+                stability == that.stability &&
+                language == that.language;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, className, type, stability, language);
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratorDescriptor{" +
+                "name='" + name + '\'' +
+                ", className='" + className + '\'' +
+                ", type=" + type +
+                ", stability=" + stability +
+                ", language=" + language +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.meta.Stability;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * An index of the generators registered as {@link CodegenConfig} services, so that a generator can be looked up by
+ * name, and all generators can be listed, without instantiating every one of them.
+ * <p>
+ * The index is written at build time by {@link #main(String[])} (see the {@code generator-index} execution in the
+ * pom) to {@value #RESOURCE}, one tab separated line per generator: name, class, type, stability and language.
+ * Generators contributed by other jars aren't in the index unless the jar ships one as well.
+ */
+public final class GeneratorIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorIndex.class);
+
+    public static final String RESOURCE = "META-INF/openapi-generator/generators.index";
+
+    private static final class Holder {
+        private static final GeneratorIndex INSTANCE = load(CodegenConfig.class.getClassLoader());
+    }
+
+    private final Map<String, GeneratorDescriptor> byName = new LinkedHashMap<>();
+    private final Map<String, GeneratorDescriptor> byClassName = new HashMap<>();
+
+    private GeneratorIndex() {
+    }
+
+    /**
+     * @return the index of the class loader which loads {@link CodegenConfig}, empty if there is none
+     */
+    static GeneratorIndex get() {
+        return Holder.INSTANCE;
+    }
+
+    static GeneratorIndex load(ClassLoader classLoader) {
+        GeneratorIndex index = new GeneratorIndex();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            index.add(parse(line));
+                        }
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Unable to read the generator index, generators will be looked up by instantiating them: {}", e.getMessage());
+            return new GeneratorIndex();
+        }
+        return index;
+    }
+
+    private void add(GeneratorDescriptor descriptor) {
+        // the first registration wins, as with ServiceLoader
+        byName.putIfAbsent(descriptor.getName(), descriptor);
+        byClassName.putIfAbsent(descriptor.getClassName(), descriptor);
+    }
+
+    /**
+     * @param name the generator name
+     * @return the descriptor of the generator, or null if it isn't indexed
+     */
+    GeneratorDescriptor findByName(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * @param className the fully qualified name of a {@link CodegenConfig} implementation
+     * @return the descriptor of the generator, or null if it isn't indexed
+     */
+    GeneratorDescriptor findByClassName(String className) {
+        return byClassName.get(className);
+    }
+
+    /**
+     * @return all indexed generators, in the order of the index
+     */
+    Collection<GeneratorDescriptor> getDescriptors() {
+        return Collections.unmodifiableCollection(byName.values());
+    }
+
+    static String format(GeneratorDescriptor descriptor) {
+        return String.join("\t",
+                descriptor.getName(),
+                descriptor.getClassName(),
+                descriptor.getType() == null ? "" : descriptor.getType().name(),
+                descriptor.getStability() == null ? "" : descriptor.getStability().name(),
+                descriptor.getLanguage() == null ? "" : descriptor.getLanguage().name());
+    }
+
+    static GeneratorDescriptor parse(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Malformed generator index entry: " + line);
+        }
+        return new GeneratorDescriptor(fields[0], fields[1],
+                StringUtils.isEmpty(fields[2]) ? null : CodegenType.valueOf(fields[2]),
+                StringUtils.isEmpty(fields[3]) ? null : Stability.valueOf(fields[3]),
+                StringUtils.isEmpty(fields[4]) ? null : GeneratorLanguage.valueOf(fields[4]));
+    }
+
+    /**
+     * Writes the index of all generators registered as services to the given file.
+     *
+     * @param args the file to write
+     * @throws IOException if the file can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: GeneratorIndex <output file>");
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("# name\tclass\ttype\tstability\tlanguage (generated, do not edit)");
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())) {
+            lines.add(format(GeneratorDescriptor.of(config)));
+        }
+        Path output = Paths.get(args[0]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Thrown when the {@code allOf} hierarchy below a schema contains a cycle, i.e. schemas which (indirectly) extend
+ * each other, so that its descendants can't be determined.
+ */
+public class InheritanceCycleException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String schemaName;
+    private final Set<String> cycle;
+
+    /**
+     * @param schemaName the schema whose descendants were looked up
+     * @param cycle      the schemas extending each other
+     */
+    public InheritanceCycleException(String schemaName, Set<String> cycle) {
+        super("Cyclic allOf inheritance found while looking for the descendants of " + schemaName + ": " + String.join(", ", cycle));
+        this.schemaName = schemaName;
+        this.cycle = Collections.unmodifiableSet(cycle);
+    }
+
+    /**
+     * @return the schema whose descendants were looked up
+     */
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    /**
+     * @return the names of the schemas extending each other
+     */
+    public Set<String> getCycle() {
+        return cycle;
+    }
+}
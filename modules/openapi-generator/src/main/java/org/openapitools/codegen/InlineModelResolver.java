@@ -17,7 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -36,12 +35,21 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 public class InlineModelResolver {
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    private Map<Signature, String> generatedSignature = new HashMap<>();
+    // the last schema which matched no generated schema, it's usually added right away
+    private Schema unmatchedSchema;
+    private Signature unmatchedSignature;
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -95,7 +103,12 @@ public class InlineModelResolver {
         }
     }
 
-    void flatten(OpenAPI openAPI) {
+    /**
+     * Moves the inline schemas of the spec into components, replacing them with references.
+     *
+     * @param openAPI the spec, which is changed in place
+     */
+    public void flatten(OpenAPI openAPI) {
         this.openAPI = openAPI;
 
         if (this.openAPI.getComponents() == null) {
@@ -765,24 +778,116 @@ public class InlineModelResolver {
             return null;
         }
 
-        try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
-            }
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+        Signature signature = Signature.of(model);
+        if (signature == null) {
+            return null;
         }
 
-        return null;
+        String existing = generatedSignature.get(signature);
+        unmatchedSchema = existing == null ? model : null;
+        unmatchedSignature = existing == null ? signature : null;
+        return existing;
     }
 
     private void addGenerated(String name, Schema model) {
-        try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+        if (skipSchemaReuse) { // generated schemas are never looked up
+            return;
+        }
+
+        Signature signature = model == unmatchedSchema ? unmatchedSignature : Signature.of(model);
+        unmatchedSchema = null;
+        unmatchedSignature = null;
+        if (signature != null) {
+            // the schema may still change once it's in the components, so keep its structure as of now
+            signature.compressed();
+            generatedSignature.put(signature, name);
+        }
+    }
+
+    /**
+     * The structure of a schema, as written by the structure mapper. Two signatures are equal if their schemas are
+     * written as the same JSON.
+     * <p>
+     * The JSON is hashed as it's written rather than kept as a string. It's only compared when the hashes are equal,
+     * against a compressed copy taken when the schema is added.
+     */
+    private static final class Signature {
+        private final long hash;
+        private final long length;
+        // written again to take the compressed copy, only until it's taken
+        private Schema schema;
+        private byte[] compressed;
+
+        private Signature(Schema schema, long hash, long length) {
+            this.schema = schema;
+            this.hash = hash;
+            this.length = length;
+        }
+
+        static Signature of(Schema schema) {
+            HashingOutputStream out = new HashingOutputStream();
+            try {
+                structureMapper.writeValue(out, schema);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+            return new Signature(schema, out.hash, out.length);
+        }
+
+        byte[] compressed() {
+            if (compressed == null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+                    structureMapper.writeValue(out, schema);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    deflater.end();
+                }
+                compressed = bytes.toByteArray();
+                schema = null;
+            }
+            return compressed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Signature)) return false;
+            Signature that = (Signature) o;
+            // deflating is deterministic, so equal JSON compresses to equal bytes
+            return hash == that.hash && length == that.length && Arrays.equals(compressed(), that.compressed());
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of the bytes written to it.
+     */
+    private static final class HashingOutputStream extends OutputStream {
+        private long hash = 0xcbf29ce484222325L;
+        private long length;
+
+        @Override
+        public void write(int b) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            long h = hash;
+            for (int i = off; i < off + len; i++) {
+                h = (h ^ (b[i] & 0xff)) * 0x100000001b3L;
+            }
+            hash = h;
+            length += len;
         }
     }
 
@@ -35,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -48,6 +49,12 @@ public class OpenAPINormalizer {
 
     private TreeSet<String> anyTypeTreeSet = new TreeSet<>();
 
+    // the enabled rules applied to each operation and to each schema of a kind, see registerRules()
+    private List<Consumer<Operation>> operationRules;
+    private Map<SchemaKind, List<SchemaRule>> schemaRules;
+    // contents, headers and parameters already normalized, as components are reached once per $ref to them
+    private final Set<Object> normalizedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
     protected final Logger LOGGER = LoggerFactory.getLogger(OpenAPINormalizer.class);
 
     Set<String> ruleNames = new TreeSet<>();
@@ -357,6 +364,9 @@ public class OpenAPINormalizer {
             this.openAPI.getComponents().setSchemas(new HashMap<String, Schema>());
         }
 
+        registerRules();
+        normalizedNodes.clear();
+
         normalizeInfo();
         normalizePaths();
         normalizeComponentsSecuritySchemes();
@@ -456,17 +466,12 @@ public class OpenAPINormalizer {
      * @param operation Operation
      */
     protected void normalizeOperation(Operation operation) {
-        processRemoveXInternalFromOperation(operation);
-
-        processKeepOnlyFirstTagInOperation(operation);
-
-        processSetTagsForAllOperations(operation);
-
-        processSetTagsToOperationId(operation);
-
-        processSetTagsToVendorExtension(operation);
-
-        processFixDuplicatedOperationId(operation);
+        if (operationRules == null) {
+            registerRules();
+        }
+        for (Consumer<Operation> rule : operationRules) {
+            rule.accept(operation);
+        }
     }
 
     /**
@@ -475,7 +480,7 @@ public class OpenAPINormalizer {
      * @param content target content
      */
     protected void normalizeContent(Content content) {
-        if (content == null || content.isEmpty()) {
+        if (content == null || content.isEmpty() || !normalizedNodes.add(content)) {
             return;
         }
 
@@ -486,7 +491,7 @@ public class OpenAPINormalizer {
             } else if (mediaType.getSchema() == null) {
                 continue;
             } else {
-                Schema newSchema = normalizeSchema(mediaType.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(mediaType.getSchema(), newVisitedSchemas());
                 mediaType.setSchema(newSchema);
             }
         }
@@ -533,8 +538,8 @@ public class OpenAPINormalizer {
                 parameter = ModelUtils.getReferencedParameter(openAPI, parameter);
             }
 
-            if (parameter.getSchema() != null) {
-                Schema newSchema = normalizeSchema(parameter.getSchema(), new HashSet<>());
+            if (parameter.getSchema() != null && normalizedNodes.add(parameter)) {
+                Schema newSchema = normalizeSchema(parameter.getSchema(), newVisitedSchemas());
                 parameter.setSchema(newSchema);
             }
         }
@@ -574,13 +579,13 @@ public class OpenAPINormalizer {
      * @param headers a map of headers
      */
     protected void normalizeHeaders(Map<String, Header> headers) {
-        if (headers == null || headers.isEmpty()) {
+        if (headers == null || headers.isEmpty() || !normalizedNodes.add(headers)) {
             return;
         }
 
         for (String headerKey : headers.keySet()) {
             Header h = headers.get(headerKey);
-            Schema updatedHeader = normalizeSchema(h.getSchema(), new HashSet<>());
+            Schema updatedHeader = normalizeSchema(h.getSchema(), newVisitedSchemas());
             h.setSchema(updatedHeader);
         }
     }
@@ -641,7 +646,7 @@ public class OpenAPINormalizer {
                 fixSelfReferenceSchema(schemaName, schema);
 
                 // normalize the schemas
-                schemas.put(schemaName, normalizeSchema(schema, new HashSet<>()));
+                schemas.put(schemaName, normalizeSchema(schema, newVisitedSchemas()));
             }
         }
     }
@@ -816,28 +821,47 @@ public class OpenAPINormalizer {
         }
     }
 
+    /**
+     * Creates the set tracking the schemas visited while normalizing a schema. Schemas are compared by identity:
+     * comparing them with equals would hash whole schema trees on each visit, and would miss schemas changed by a
+     * rule after they were visited.
+     *
+     * @return an empty set of visited schemas
+     */
+    protected Set<Schema> newVisitedSchemas() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
     protected Schema normalizeArraySchema(Schema schema) {
-        Schema result = processNormalize31Spec(schema, new HashSet<>());
-        return processSetArraytoNullable(result);
+        // the items are normalized by the caller, with the schemas it visited
+        return applySchemaRules(SchemaKind.ARRAY, schema, null);
     }
 
     protected Schema normalizeMapSchema(Schema schema) {
-        return processSetMapToNullable(schema);
+        return applySchemaRules(SchemaKind.MAP, schema, null);
     }
 
     protected Schema normalizeSimpleSchema(Schema schema, Set<Schema> visitedSchemas) {
-        Schema result = processNormalize31Spec(schema, visitedSchemas);
-        return processSetPrimitiveTypesToNullable(result);
+        return applySchemaRules(SchemaKind.SIMPLE, schema, visitedSchemas);
     }
 
     protected void normalizeBooleanSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processSimplifyBooleanEnum(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        applySchemaRules(SchemaKind.BOOLEAN, schema, visitedSchemas);
     }
 
     protected void normalizeIntegerSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processAddUnsignedToIntegerWithInvalidMaxValue(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        applySchemaRules(SchemaKind.INTEGER, schema, visitedSchemas);
+    }
+
+    private Schema applySchemaRules(SchemaKind kind, Schema schema, Set<Schema> visitedSchemas) {
+        if (schemaRules == null) {
+            registerRules();
+        }
+        Schema result = schema;
+        for (SchemaRule rule : schemaRules.get(kind)) {
+            result = rule.apply(result, visitedSchemas);
+        }
+        return result;
     }
 
     protected void normalizeProperties(Map<String, Schema> properties, Set<Schema> visitedSchemas) {
@@ -846,7 +870,7 @@ public class OpenAPINormalizer {
         }
         for (Map.Entry<String, Schema> propertiesEntry : properties.entrySet()) {
             Schema property = propertiesEntry.getValue();
-            Schema newProperty = normalizeSchema(property, new HashSet<>());
+            Schema newProperty = normalizeSchema(property, newVisitedSchemas());
             propertiesEntry.setValue(newProperty);
         }
     }
@@ -987,6 +1011,91 @@ public class OpenAPINormalizer {
         return normalizeSchema(schema, visitedSchemas);
     }
 
+    /**
+     * Registers the enabled rules which apply to a single operation or schema, in the order they're applied, so that
+     * each node of the spec is only handed to the rules which may change it. The structural rules (e.g.
+     * {@link #REF_AS_PARENT_IN_ALLOF} or {@link #SIMPLIFY_ONEOF_ANYOF}) are applied while walking allOf, oneOf and
+     * anyOf schemas, as they decide how the walk continues.
+     * <p>
+     * A subclass (see {@link #NORMALIZER_CLASS}) may override a process* method to run whether or not its rule is
+     * enabled, so every rule is registered for subclasses, and the process* methods check their own rule as before.
+     * <p>
+     * Called when normalizing starts; subclasses adding rules should call it first.
+     */
+    protected void registerRules() {
+        boolean all = getClass() != OpenAPINormalizer.class;
+
+        List<Consumer<Operation>> operation = new ArrayList<>();
+        if (all || getRule(REMOVE_X_INTERNAL)) {
+            operation.add(this::processRemoveXInternalFromOperation);
+        }
+        if (all || getRule(KEEP_ONLY_FIRST_TAG_IN_OPERATION)) {
+            operation.add(this::processKeepOnlyFirstTagInOperation);
+        }
+        if (all || StringUtils.isNotEmpty(setTagsForAllOperations)) {
+            operation.add(this::processSetTagsForAllOperations);
+        }
+        if (all || getRule(SET_TAGS_TO_OPERATIONID)) {
+            operation.add(this::processSetTagsToOperationId);
+        }
+        if (all || StringUtils.isNotEmpty(setTagsToVendorExtension)) {
+            operation.add(this::processSetTagsToVendorExtension);
+        }
+        if (all || getRule(FIX_DUPLICATED_OPERATIONID)) {
+            operation.add(this::processFixDuplicatedOperationId);
+        }
+
+        Map<SchemaKind, List<SchemaRule>> schema = new EnumMap<>(SchemaKind.class);
+        for (SchemaKind kind : SchemaKind.values()) {
+            schema.put(kind, new ArrayList<>());
+        }
+        if (all || getRule(NORMALIZE_31SPEC)) {
+            schema.get(SchemaKind.ARRAY).add((s, visitedSchemas) -> processNormalize31Spec(s, newVisitedSchemas()));
+            schema.get(SchemaKind.SIMPLE).add(this::processNormalize31Spec);
+        }
+        if (all || getRule(SIMPLIFY_BOOLEAN_ENUM)) {
+            schema.get(SchemaKind.BOOLEAN).add((s, visitedSchemas) -> {
+                processSimplifyBooleanEnum(s);
+                return s;
+            });
+        }
+        if (all || getRule(ADD_UNSIGNED_TO_INTEGER_WITH_INVALID_MAX_VALUE)) {
+            schema.get(SchemaKind.INTEGER).add((s, visitedSchemas) -> {
+                processAddUnsignedToIntegerWithInvalidMaxValue(s);
+                return s;
+            });
+        }
+        if (all || getRule(SET_CONTAINER_TO_NULLABLE)) {
+            schema.get(SchemaKind.ARRAY).add((s, visitedSchemas) -> processSetArraytoNullable(s));
+            schema.get(SchemaKind.MAP).add((s, visitedSchemas) -> processSetMapToNullable(s));
+        }
+        if (all || getRule(SET_PRIMITIVE_TYPES_TO_NULLABLE)) {
+            SchemaRule rule = (s, visitedSchemas) -> processSetPrimitiveTypesToNullable(s);
+            schema.get(SchemaKind.SIMPLE).add(rule);
+            schema.get(SchemaKind.BOOLEAN).add(rule);
+            schema.get(SchemaKind.INTEGER).add(rule);
+        }
+
+        operationRules = operation;
+        schemaRules = schema;
+    }
+
+    /**
+     * The kinds of schemas which {@link #registerRules()} registers rules for.
+     */
+    protected enum SchemaKind {
+        ARRAY, MAP, SIMPLE, BOOLEAN, INTEGER
+    }
+
+    /**
+     * A rule applied to a schema, returning the schema to use instead (which may be the same). The visited schemas
+     * are null for the kinds of schemas whose sub-schemas are normalized by the caller.
+     */
+    @FunctionalInterface
+    protected interface SchemaRule {
+        Schema apply(Schema schema, Set<Schema> visitedSchemas);
+    }
+
     // ===================== a list of rules =====================
     // all rules (functions ) start with the word "process"
 
@@ -1485,7 +1594,7 @@ public class OpenAPINormalizer {
 
         // at this point the schema becomes a simple allOf (no properties) with an additional schema containing
         // the properties. Normalize it before returning.
-        return normalizeSchema(schema, new HashSet<>());
+        return normalizeSchema(schema, newVisitedSchemas());
     }
 
     /**
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tracks the files a generation run is going to write, in registration order.
+ * <p>
+ * Paths are indexed by their case-folded form, so a path which only differs by case from a previously registered one
+ * (which not all file systems can hold side by side) is detected in constant time.
+ */
+public class OutputFileRegistry {
+    private final Map<String, List<Path>> pathsByFoldedName = new LinkedHashMap<>();
+    private final List<Path> plannedFiles = new ArrayList<>();
+
+    /**
+     * Registers an output file.
+     *
+     * @param absolutePath The absolute path of the file to be written
+     * @return true if the path collides with a previously registered path, ignoring case
+     */
+    public boolean register(Path absolutePath) {
+        List<Path> paths = pathsByFoldedName.computeIfAbsent(fold(absolutePath), k -> new ArrayList<>(1));
+        boolean collision = !paths.isEmpty();
+        paths.add(absolutePath);
+        plannedFiles.add(absolutePath);
+        return collision;
+    }
+
+    /**
+     * @param absolutePath The absolute path to look up
+     * @return true if a path equal to the given one, ignoring case, has been registered
+     */
+    public boolean contains(Path absolutePath) {
+        return pathsByFoldedName.containsKey(fold(absolutePath));
+    }
+
+    /**
+     * @return all registered files, in registration order (including repeated registrations)
+     */
+    public List<Path> getPlannedFiles() {
+        return Collections.unmodifiableList(plannedFiles);
+    }
+
+    /**
+     * @return the registered paths grouped by their case-folded form, for every group with more than one registration
+     */
+    public Map<String, List<Path>> getCollisions() {
+        Map<String, List<Path>> collisions = new LinkedHashMap<>();
+        pathsByFoldedName.forEach((folded, paths) -> {
+            if (paths.size() > 1) {
+                collisions.put(folded, Collections.unmodifiableList(new ArrayList<>(paths)));
+            }
+        });
+        return collisions;
+    }
+
+    public int size() {
+        return plannedFiles.size();
+    }
+
+    /**
+     * Forgets all registered files, e.g. when another generation run starts.
+     */
+    public void clear() {
+        pathsByFoldedName.clear();
+        plannedFiles.clear();
+    }
+
+    private static String fold(Path path) {
+        return path.toString().toLowerCase(Locale.ROOT);
+    }
+}
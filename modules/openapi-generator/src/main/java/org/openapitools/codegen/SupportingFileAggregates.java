@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The aggregates of the supporting file bundle (all models, all APIs, ...) which supporting files use, and how much
+ * of them. Used by {@link CodegenConfig#isLowMemoryGeneration() low-memory generation} to release the data of models
+ * and APIs once their own files are rendered.
+ * <p>
+ * A supporting file template declares the aggregates it uses, including those used by its partials, in a comment:
+ * <pre>
+ * {{! aggregates: models:summary apiInfo }}
+ * </pre>
+ * {@code models} and {@code aliasModels} may be used as {@code :summary}, i.e. without the properties of the models
+ * (see {@link CodegenModel#summarize()}). A template without a declaration uses all aggregates in full; an empty
+ * declaration none of them.
+ */
+public class SupportingFileAggregates {
+    public static final String MODELS = "models";
+    public static final String ALIAS_MODELS = "aliasModels";
+    public static final String API_INFO = "apiInfo";
+    public static final String WEBHOOKS = "webhooks";
+
+    private static final List<String> AGGREGATES = Arrays.asList(MODELS, ALIAS_MODELS, API_INFO, WEBHOOKS);
+    private static final Pattern DECLARATION = Pattern.compile("\\{\\{!-*\\s*aggregates:([^}]*?)-*}}");
+    private static final String SUMMARY_SUFFIX = ":summary";
+
+    public enum Usage {
+        NONE, SUMMARY, FULL
+    }
+
+    private final Map<String, Usage> usages = new HashMap<>();
+
+    /**
+     * @return aggregates which aren't used at all
+     */
+    public static SupportingFileAggregates none() {
+        return new SupportingFileAggregates();
+    }
+
+    /**
+     * @return all aggregates, used in full
+     */
+    public static SupportingFileAggregates all() {
+        SupportingFileAggregates aggregates = new SupportingFileAggregates();
+        AGGREGATES.forEach(aggregate -> aggregates.usages.put(aggregate, Usage.FULL));
+        return aggregates;
+    }
+
+    /**
+     * Reads the declaration of a template.
+     *
+     * @param templateContents the contents of the template
+     * @return the aggregates the template declares, or all of them if it has no declaration
+     * @throws IllegalArgumentException if the declaration names an unknown aggregate
+     */
+    public static SupportingFileAggregates declaredBy(String templateContents) {
+        Matcher matcher = DECLARATION.matcher(templateContents);
+        if (!matcher.find()) {
+            return all();
+        }
+        SupportingFileAggregates aggregates = new SupportingFileAggregates();
+        for (String token : matcher.group(1).trim().split("[\\s,]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            String name = token;
+            Usage usage = Usage.FULL;
+            if (name.endsWith(SUMMARY_SUFFIX)) {
+                name = name.substring(0, name.length() - SUMMARY_SUFFIX.length());
+                usage = Usage.SUMMARY;
+            }
+            if (!AGGREGATES.contains(name) || (usage == Usage.SUMMARY && !MODELS.equals(name) && !ALIAS_MODELS.equals(name))) {
+                throw new IllegalArgumentException("Unknown aggregate '" + token + "', expected one of " + AGGREGATES
+                        + " (" + MODELS + " and " + ALIAS_MODELS + " may be suffixed with " + SUMMARY_SUFFIX + ")");
+            }
+            aggregates.use(name, usage);
+        }
+        return aggregates;
+    }
+
+    /**
+     * Adds the aggregates used by another supporting file.
+     *
+     * @param other the aggregates of the other file
+     * @return this
+     */
+    public SupportingFileAggregates add(SupportingFileAggregates other) {
+        other.usages.forEach(this::use);
+        return this;
+    }
+
+    /**
+     * @param aggregate the name of the aggregate, e.g. {@link #MODELS}
+     * @return how much of the aggregate is used
+     */
+    public Usage get(String aggregate) {
+        return usages.getOrDefault(aggregate, Usage.NONE);
+    }
+
+    private void use(String aggregate, Usage usage) {
+        usages.merge(aggregate, usage, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+    }
+
+    @Override
+    public String toString() {
+        return new TreeMap<>(usages).toString();
+    }
+}
@@ -12,11 +12,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -27,6 +30,9 @@ import java.util.regex.Pattern;
  * Manages the lookup, compilation, and writing of template files
  */
 public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
+    // chunk size used to compare an existing file with the rendered contents (minimal update)
+    private static final int COMPARE_BUFFER_SIZE = 8192;
+
     private final TemplateManagerOptions options;
     private final TemplatingEngineAdapter engineAdapter;
     private final TemplatePathLocator[] templateLoaders;
@@ -162,21 +168,40 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
      */
     @Override
     public File write(Map<String, Object> data, String template, File target) throws IOException {
+        byte[] contents = render(data, template);
         if (this.engineAdapter.handlesFile(template)) {
-            // Only pass files with valid endings through template engine
-            String templateContent = this.engineAdapter.compileTemplate(this, data, template);
-            return writeToFile(target.getPath(), templateContent);
+            return writeToFile(target.getPath(), contents);
         } else {
-            // Do a straight copy of the file if not listed as supported by the template engine.
-            InputStream is;
-            try {
-                // look up the file using the same template resolution logic the adapters would use.
-                String fullTemplatePath = getFullTemplateFile(template);
-                is = getInputStream(fullTemplatePath);
-            } catch (TemplateNotFoundException ex) {
-                is = new FileInputStream(Paths.get(template).toFile());
-            }
-            return writeToFile(target.getAbsolutePath(), IOUtils.toByteArray(is));
+            return writeToFile(target.getAbsolutePath(), contents);
+        }
+    }
+
+    /**
+     * Renders a template without writing it anywhere, e.g. for a {@link TemplateProcessor} which doesn't write to the
+     * file system. Templates which aren't handled by the templating engine are returned as-is.
+     *
+     * @param data     Input data
+     * @param template Input template location
+     * @return The rendered contents
+     * @throws IOException If the template cannot be read or compiled
+     */
+    public byte[] render(Map<String, Object> data, String template) throws IOException {
+        if (this.engineAdapter.handlesFile(template)) {
+            // Only pass files with valid endings through template engine
+            return this.engineAdapter.compileTemplate(this, data, template).getBytes(StandardCharsets.UTF_8);
+        }
+
+        // Do a straight copy of the file if not listed as supported by the template engine.
+        InputStream is;
+        try {
+            // look up the file using the same template resolution logic the adapters would use.
+            String fullTemplatePath = getFullTemplateFile(template);
+            is = getInputStream(fullTemplatePath);
+        } catch (TemplateNotFoundException ex) {
+            is = new FileInputStream(Paths.get(template).toFile());
+        }
+        try (InputStream in = is) {
+            return IOUtils.toByteArray(in);
         }
     }
 
@@ -216,17 +241,18 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         File outputFile = Paths.get(filename).toFile();
 
         if (this.options.isMinimalUpdate()) {
+            if (contentEquals(outputFile, contents)) {
+                LOGGER.info("skipping unchanged file {}", filename);
+                return outputFile;
+            }
+            // changed files are still replaced atomically, through a temporary file
             String tempFilename = filename + ".tmp";
             File tempFile = null;
             try {
                 tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file {}", filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file {}", filename);
-                }
+                LOGGER.info("writing file {}", filename);
+                Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                tempFile = null;
             } finally {
                 if (tempFile != null && tempFile.exists()) {
                     try {
@@ -261,7 +287,30 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return output;
     }
 
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * Compares a file with the given contents without reading the file into memory: files of a different size are
+     * told apart by their metadata, others are compared chunk by chunk up to the first difference.
+     */
+    private static boolean contentEquals(File file, byte[] contents) throws IOException {
+        if (!file.isFile() || file.length() != contents.length) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.min(contents.length, COMPARE_BUFFER_SIZE));
+            int offset = 0;
+            while (offset < contents.length) {
+                buffer.clear().limit(Math.min(buffer.capacity(), contents.length - offset));
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    return false;
+                }
+                buffer.flip();
+                if (!buffer.equals(ByteBuffer.wrap(contents, offset, read))) {
+                    return false;
+                }
+                offset += read;
+            }
+        }
+        return true;
     }
 }
@@ -82,6 +82,7 @@ public class CodegenConfigurator {
     private Map<String, String> reservedWordsMappings = new HashMap<>();
     private Map<String, String> serverVariables = new HashMap<>();
     private String auth;
+    private ParsedSpecCache parsedSpecCache;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
 
@@ -352,11 +353,52 @@ public class CodegenConfigurator {
         return this;
     }
 
+    /**
+     * Reads the input spec through a shared cache instead of parsing it on every call to {@link #toContext()}.
+     *
+     * @param parsedSpecCache The cache to read from, or null to always parse
+     * @return this configurator
+     */
+    public CodegenConfigurator setParsedSpecCache(ParsedSpecCache parsedSpecCache) {
+        this.parsedSpecCache = parsedSpecCache;
+        return this;
+    }
+
     public CodegenConfigurator setEnableMinimalUpdate(boolean enableMinimalUpdate) {
         workflowSettingsBuilder.withEnableMinimalUpdate(enableMinimalUpdate);
         return this;
     }
 
+    public CodegenConfigurator setIncrementalGeneration(boolean incrementalGeneration) {
+        workflowSettingsBuilder.withIncrementalGeneration(incrementalGeneration);
+        return this;
+    }
+
+    public CodegenConfigurator setLowMemoryGeneration(boolean lowMemoryGeneration) {
+        workflowSettingsBuilder.withLowMemoryGeneration(lowMemoryGeneration);
+        return this;
+    }
+
+    public CodegenConfigurator setGeneratorParallelism(Integer generatorParallelism) {
+        workflowSettingsBuilder.withGeneratorParallelism(generatorParallelism);
+        return this;
+    }
+
+    public CodegenConfigurator setConversionParallelism(Integer conversionParallelism) {
+        workflowSettingsBuilder.withConversionParallelism(conversionParallelism);
+        return this;
+    }
+
+    public CodegenConfigurator setPostProcessBatchSize(Integer postProcessBatchSize) {
+        workflowSettingsBuilder.withPostProcessBatchSize(postProcessBatchSize);
+        return this;
+    }
+
+    public CodegenConfigurator setPostProcessParallelism(Integer postProcessParallelism) {
+        workflowSettingsBuilder.withPostProcessParallelism(postProcessParallelism);
+        return this;
+    }
+
     public CodegenConfigurator setEnablePostProcessFile(boolean enablePostProcessFile) {
         workflowSettingsBuilder.withEnablePostProcessFile(enablePostProcessFile);
         return this;
@@ -683,7 +725,9 @@ public class CodegenConfigurator {
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
-        SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        SwaggerParseResult result = parsedSpecCache != null
+                ? parsedSpecCache.readLocation(inputSpec, this.auth, authorizationValues, options)
+                : new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
 
         // TODO: Move custom validations to a separate type as part of a "Workflow"
         Set<String> validationMessages = new HashSet<>(null != result.getMessages() ? result.getMessages() : new ArrayList<>());
@@ -698,13 +742,10 @@ public class CodegenConfigurator {
             Set<String> warnings = new HashSet<>();
             if (specification != null) {
 
-                // Wrap the getUnusedSchemas() in try catch block so it catches the NPE
+                // Wrap the getSchemaUsage() in try catch block so it catches the NPE
                 // when the input spec file is not correct
                 try {
-                    List<String> unusedModels = ModelUtils.getUnusedSchemas(specification);
-                    if (unusedModels != null) {
-                        unusedModels.forEach(name -> warnings.add("Unused model: " + name));
-                    }
+                    ModelUtils.getSchemaUsage(specification).getUnusedSchemas().forEach(name -> warnings.add("Unused model: " + name));
                 } catch (Exception e) {
                     System.err.println("[error] There is an error with OpenAPI specification parsed from the input spec file: " + inputSpec);
                     System.err.println("[error] Please make sure the spec file has correct format and all required fields are populated with valid value.");
@@ -762,6 +803,12 @@ public class CodegenConfigurator {
         config.setSkipOperationExample(workflowSettings.isSkipOperationExample());
         config.setEnablePostProcessFile(workflowSettings.isEnablePostProcessFile());
         config.setEnableMinimalUpdate(workflowSettings.isEnableMinimalUpdate());
+        config.setIncrementalGeneration(workflowSettings.isIncrementalGeneration());
+        config.setLowMemoryGeneration(workflowSettings.isLowMemoryGeneration());
+        config.setGeneratorParallelism(workflowSettings.getGeneratorParallelism());
+        config.setConversionParallelism(workflowSettings.getConversionParallelism());
+        config.setPostProcessBatchSize(workflowSettings.getPostProcessBatchSize());
+        config.setPostProcessParallelism(workflowSettings.getPostProcessParallelism());
         config.setStrictSpecBehavior(workflowSettings.isStrictSpecBehavior());
 
         TemplatingEngineAdapter templatingEngine = TemplatingEngineLoader.byIdentifier(workflowSettings.getTemplatingEngineName());
@@ -21,6 +21,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -69,6 +71,29 @@ public class GlobalSettings {
         properties.remove();
     }
 
+    /**
+     * Replaces the properties of the executing thread, e.g. with the system properties of another process.
+     *
+     * @param replacement the properties to use instead of the system properties of this process
+     */
+    public static void setProperties(Map<String, String> replacement) {
+        Properties copy = new Properties();
+        copy.putAll(replacement);
+        properties.set(copy);
+    }
+
+    /**
+     * Copies the properties of the executing thread, e.g. to hand them to {@link #setProperties(Map)} on another thread.
+     *
+     * @return a copy of the properties
+     */
+    public static Map<String, String> getProperties() {
+        Properties current = properties.get();
+        Map<String, String> copy = new HashMap<>();
+        current.stringPropertyNames().forEach(name -> copy.put(name, current.getProperty(name)));
+        return copy;
+    }
+
     public static void log() {
         if(LOGGER.isDebugEnabled()) {
             StringWriter stringWriter = new StringWriter();
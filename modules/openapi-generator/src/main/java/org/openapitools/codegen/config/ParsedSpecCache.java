@@ -0,0 +1,257 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.utils.ExternalRefUtils;
+import org.openapitools.codegen.utils.OpenAPICopier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parses each distinct input spec once and hands out isolated copies of the result, for callers which generate
+ * several outputs from the same document (e.g. the batch command).
+ * <p>
+ * Results are keyed by the input spec location, the raw auth string and the parse options. Every call returns a deep
+ * copy of the parsed document (see {@link OpenAPICopier}), so a generation run is free to mutate what it receives.
+ * Instances are thread-safe; concurrent requests for the same spec wait for a single parse.
+ * <p>
+ * A cache which outlives a single run (e.g. in the CLI daemon) should track changes, see
+ * {@link #ParsedSpecCache(boolean)}.
+ */
+public class ParsedSpecCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedSpecCache.class);
+
+    // stop following references in (unexpectedly) huge multi-file specs
+    private static final int MAX_TRACKED_FILES = 10_000;
+
+    private final boolean trackChanges;
+
+    private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+    private final LongAdder copyNanos = new LongAdder();
+
+    public ParsedSpecCache() {
+        this(false);
+    }
+
+    /**
+     * @param trackChanges whether a spec is parsed again when it changed since it was parsed. Changes are detected
+     *                     from the size and last modified time of the spec file and of the local files it refers to
+     *                     through $ref. Remote specs are never reused when changes are tracked.
+     */
+    public ParsedSpecCache(boolean trackChanges) {
+        this.trackChanges = trackChanges;
+    }
+
+    /**
+     * Reads a spec, parsing it only if the same location hasn't been read with the same auth and options before.
+     *
+     * @param inputSpec           The spec location (file path or URL)
+     * @param auth                The raw auth string {@code authorizationValues} was parsed from; part of the key
+     * @param authorizationValues The authorization values passed to the parser
+     * @param options             The parse options
+     * @return a parse result holding a private copy of the parsed document
+     */
+    public SwaggerParseResult readLocation(String inputSpec, String auth, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        List<Object> key = Arrays.asList(normalizeLocation(inputSpec), auth, optionsKey(options));
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+
+        SwaggerParseResult parsed;
+        synchronized (entry) {
+            if (entry.result != null && trackChanges && !entry.isCurrent()) {
+                LOGGER.debug("The spec {} changed since it was parsed", inputSpec);
+                entry.result = null;
+            }
+            if (entry.result == null) {
+                // taken before parsing, so that a change while parsing is picked up next time
+                Map<Path, List<Long>> stamps = trackChanges ? stamps(inputSpec) : null;
+                long start = System.nanoTime();
+                SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+                long nanos = System.nanoTime() - start;
+                parses.increment();
+                parseNanos.add(nanos);
+                try {
+                    if (trackChanges && stamps == null) {
+                        return result;
+                    }
+                    SwaggerParseResult copy = copyOf(result);
+                    entry.result = result;
+                    entry.nanos = nanos;
+                    entry.stamps = stamps;
+                    return copy;
+                } catch (IllegalStateException e) {
+                    LOGGER.warn("Unable to copy the parsed spec {}, it won't be reused: {}", inputSpec, e.getMessage());
+                    return result;
+                }
+            }
+            parsed = entry.result;
+        }
+
+        long start = System.nanoTime();
+        SwaggerParseResult copy;
+        try {
+            copy = copyOf(parsed);
+        } catch (IllegalStateException e) {
+            LOGGER.warn("Unable to reuse the parsed spec {}, parsing it again: {}", inputSpec, e.getMessage());
+            return new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        }
+        long copied = System.nanoTime() - start;
+        reuses.increment();
+        copyNanos.add(copied);
+        savedNanos.add(entry.nanos);
+        return copy;
+    }
+
+    private static SwaggerParseResult copyOf(SwaggerParseResult result) {
+        SwaggerParseResult copy = new SwaggerParseResult();
+        copy.setOpenAPI(OpenAPICopier.copy(result.getOpenAPI()));
+        copy.setMessages(result.getMessages() == null ? null : new ArrayList<>(result.getMessages()));
+        return copy;
+    }
+
+    private static String normalizeLocation(String inputSpec) {
+        if (inputSpec == null || inputSpec.contains("://")) {
+            return inputSpec;
+        }
+        try {
+            Path path = Paths.get(inputSpec);
+            return path.toAbsolutePath().normalize().toString();
+        } catch (InvalidPathException e) {
+            return inputSpec;
+        }
+    }
+
+    /**
+     * Stamps the spec file and the local files it refers to, following references transitively.
+     *
+     * @param inputSpec The spec location
+     * @return the size and last modified time of each file, or null if the spec isn't a local file
+     */
+    private static Map<Path, List<Long>> stamps(String inputSpec) {
+        if (inputSpec == null || inputSpec.contains("://")) {
+            return null;
+        }
+        Path root;
+        try {
+            root = Paths.get(inputSpec).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+
+        Map<Path, List<Long>> stamps = new HashMap<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(root);
+        while (!pending.isEmpty() && stamps.size() < MAX_TRACKED_FILES) {
+            Path file = pending.remove();
+            if (stamps.containsKey(file)) {
+                continue;
+            }
+            stamps.put(file, stamp(file));
+            if (!Files.isRegularFile(file)) {
+                continue;
+            }
+            try {
+                for (String location : ExternalRefUtils.localReferences(new String(Files.readAllBytes(file), StandardCharsets.UTF_8))) {
+                    pending.add(file.resolveSibling(location).normalize());
+                }
+            } catch (IOException | InvalidPathException e) {
+                LOGGER.debug("Unable to look for references in {}: {}", file, e.getMessage());
+            }
+        }
+        return stamps;
+    }
+
+    private static List<Long> stamp(Path file) {
+        try {
+            return Arrays.asList(Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException e) {
+            // missing, which is a change once it exists
+            return Arrays.asList(-1L, -1L);
+        }
+    }
+
+    private static List<Object> optionsKey(ParseOptions options) {
+        if (options == null) {
+            return null;
+        }
+        return Arrays.asList(options.isResolve(), options.isResolveFully(), options.isFlatten(),
+                options.isResolveCombinators(), options.isFlattenComposedSchemas(), options.isCamelCaseFlattenNaming(),
+                options.isSkipMatches());
+    }
+
+    /**
+     * @return the number of times a spec was actually parsed
+     */
+    public long getParseCount() {
+        return parses.sum();
+    }
+
+    /**
+     * @return the number of times a previously parsed spec was reused
+     */
+    public long getReuseCount() {
+        return reuses.sum();
+    }
+
+    /**
+     * @return the total time spent parsing, in milliseconds
+     */
+    public long getParseMillis() {
+        return parseNanos.sum() / 1_000_000L;
+    }
+
+    /**
+     * @return the parse time avoided by reusing results, in milliseconds (not accounting for {@link #getCopyMillis()})
+     */
+    public long getSavedMillis() {
+        return savedNanos.sum() / 1_000_000L;
+    }
+
+    /**
+     * @return the total time spent copying reused results, in milliseconds
+     */
+    public long getCopyMillis() {
+        return copyNanos.sum() / 1_000_000L;
+    }
+
+    private static final class Entry {
+        private SwaggerParseResult result;
+        private long nanos;
+        private Map<Path, List<Long>> stamps;
+
+        private boolean isCurrent() {
+            return stamps != null && stamps.entrySet().stream().allMatch(e -> stamp(e.getKey()).equals(e.getValue()));
+        }
+    }
+}
@@ -19,10 +19,12 @@ package org.openapitools.codegen.ignore;
 
 import org.openapitools.codegen.ignore.rules.DirectoryRule;
 import org.openapitools.codegen.ignore.rules.Rule;
+import org.openapitools.codegen.ignore.rules.RuleSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -44,6 +46,11 @@ public class CodegenIgnoreProcessor {
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
 
+    // compiled from the rules above once they're loaded, see allowsFile
+    private URI baseUri;
+    private RuleSet exclusionRuleSet = new RuleSet(Collections.emptyList());
+    private RuleSet inclusionRuleSet = new RuleSet(Collections.emptyList());
+
     /**
      * Loads the default ignore file (.openapi-generator-ignore) from the specified path.
      *
@@ -84,6 +91,7 @@ public class CodegenIgnoreProcessor {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.baseUri = targetIgnoreFile.getAbsoluteFile().getParentFile().toURI();
             } catch (IOException e) {
                 LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -133,6 +141,8 @@ public class CodegenIgnoreProcessor {
                 }
             }
         }
+        exclusionRuleSet = new RuleSet(exclusionRules);
+        inclusionRuleSet = new RuleSet(inclusionRules);
     }
 
     /**
@@ -145,17 +155,18 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if (this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getAbsoluteFile().getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        boolean directoryExcluded = false;
-        boolean exclude = false;
         if (exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
+        File file = new File(this.baseUri.relativize(targetFile.toURI()).getPath());
+        boolean directoryExcluded = false;
+        boolean exclude = false;
 
-        // NOTE: We *must* process all exclusion rules
-        for (int i = 0; i < exclusionRules.size(); i++) {
-            Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
+        // NOTE: We *must* process all exclusion rules; the rule set only skips rules which can't match the file
+        exclusions:
+        for (RuleSet.Match match : exclusionRuleSet.evaluate(file.getPath())) {
+            Rule current = match.getRule();
+            Rule.Operation op = match.getOperation();
 
             switch (op) {
                 case EXCLUDE:
@@ -172,16 +183,16 @@ public class CodegenIgnoreProcessor {
                 case NOOP:
                     break;
                 case EXCLUDE_AND_TERMINATE:
-                    i = exclusionRules.size();
-                    break;
+                    break exclusions;
             }
         }
 
         if (exclude) {
             // Only need to process inclusion rules if we've been excluded
-            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
-                Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
+            List<RuleSet.Match> inclusions = inclusionRuleSet.evaluate(file.getPath());
+            for (int i = 0; exclude && i < inclusions.size(); i++) {
+                Rule current = inclusions.get(i).getRule();
+                Rule.Operation op = inclusions.get(i).getOperation();
 
                 // At this point exclude=true means the file should be ignored.
                 // op == INCLUDE means we have to flip that flag.
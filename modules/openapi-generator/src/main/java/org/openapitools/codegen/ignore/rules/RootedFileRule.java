@@ -27,6 +27,8 @@ import java.util.regex.Pattern;
 public class RootedFileRule extends Rule {
     private String definedFilename = null;
     private String definedExtension = null;
+    // compiled on first use from a definition with wildcards
+    private volatile Pattern definedFilenamePattern = null;
 
     RootedFileRule(List<Part> syntax, String definition) {
         super(syntax, definition);
@@ -58,13 +60,7 @@ public class RootedFileRule extends Rule {
             boolean extensionMatches = definedExtension.equals(extension) || definedExtension.equals(IgnoreLineParser.Token.MATCH_ANY.getPattern());
 
             if (extensionMatches && definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
-                // TODO: Evaluate any other escape requirements here.
-                Pattern regex = Pattern.compile(
-                        definedFilename
-                                .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
-                                .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
-                );
-                return regex.matcher(filename).matches();
+                return getDefinedFilenamePattern().matcher(filename).matches();
             }
 
             return extensionMatches && definedFilename.equals(filename);
@@ -72,4 +68,18 @@ public class RootedFileRule extends Rule {
 
         return false;
     }
+
+    private Pattern getDefinedFilenamePattern() {
+        Pattern pattern = definedFilenamePattern;
+        if (pattern == null) {
+            // TODO: Evaluate any other escape requirements here.
+            pattern = Pattern.compile(
+                    definedFilename
+                            .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
+                            .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
+            );
+            definedFilenamePattern = pattern;
+        }
+        return pattern;
+    }
 }
@@ -19,6 +19,7 @@ package org.openapitools.codegen.ignore.rules;
 
 import lombok.Getter;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public abstract class Rule {
@@ -37,6 +38,17 @@ public abstract class Rule {
 
     public abstract Boolean matches(String relativePath);
 
+    /**
+     * Same as {@link #matches(String)}, for rules which match the parsed path.
+     *
+     * @param relativePath the path relative to the ignore file
+     * @param path         {@code relativePath}, parsed by the default file system
+     * @return {@code true} if the rule matches the path
+     */
+    Boolean matches(String relativePath, Path path) {
+        return matches(relativePath);
+    }
+
     protected String getPattern() {
         if (syntax == null) return this.definition;
 
@@ -74,7 +86,15 @@ public abstract class Rule {
     }
 
     public Operation evaluate(String relativePath) {
-        if (Boolean.TRUE.equals(matches(relativePath))) {
+        return toOperation(matches(relativePath));
+    }
+
+    Operation evaluate(String relativePath, Path path) {
+        return toOperation(matches(relativePath, path));
+    }
+
+    private Operation toOperation(Boolean matches) {
+        if (Boolean.TRUE.equals(matches)) {
             if (Boolean.TRUE.equals(this.getNegated())) {
                 return this.getIncludeOperation();
             }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore.rules;
+
+import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * An ordered list of rules, compiled once so that evaluating a path only considers the rules which can match it.
+ * <p>
+ * Glob rules only match paths starting with the literal part of their pattern, up to the first wildcard. The rules
+ * are indexed by that prefix in a trie, so a path is only tested against the rules whose prefix it starts with, and
+ * is parsed once for all of them. The prefix comparison ignores ASCII case and treats {@code \} as {@code /}, so that
+ * it never excludes a rule the file system's matcher would accept. Matching rules are reported in their original
+ * order, so results are the same as evaluating every rule in turn.
+ */
+public final class RuleSet {
+    private final List<Rule> rules;
+    private final Node root = new Node();
+
+    /**
+     * @param rules the rules, in the order they're defined in
+     */
+    public RuleSet(List<Rule> rules) {
+        this.rules = new ArrayList<>(rules);
+        for (int i = 0; i < this.rules.size(); i++) {
+            Rule rule = this.rules.get(i);
+            if (rule instanceof InvalidRule) {
+                // never matches anything
+                continue;
+            }
+            String prefix = rule instanceof FileRule ? literalPrefix(rule.getPattern()) : "";
+            Node node = root;
+            for (int c = 0; c < prefix.length(); c++) {
+                node = node.children.computeIfAbsent(prefix.charAt(c), k -> new Node());
+            }
+            node.rules.add(i);
+        }
+    }
+
+    /**
+     * Evaluates all rules against a path.
+     *
+     * @param relativePath the path relative to the ignore file
+     * @return the rules which match the path, with their operation, in the order they're defined in
+     */
+    public List<Match> evaluate(String relativePath) {
+        Path path;
+        try {
+            path = FileSystems.getDefault().getPath(relativePath);
+        } catch (InvalidPathException e) {
+            // evaluate every rule on its own, which fails the same way as before for glob rules
+            path = null;
+        }
+
+        BitSet candidates = new BitSet(rules.size());
+        if (path == null) {
+            candidates.set(0, rules.size());
+        } else {
+            // the path as the file system's matcher sees it, e.g. without a trailing separator
+            String normalized = path.toString();
+            Node node = root;
+            node.rules.forEach(candidates::set);
+            for (int c = 0; c < normalized.length(); c++) {
+                node = node.children.get(fold(normalized.charAt(c)));
+                if (node == null) {
+                    break;
+                }
+                node.rules.forEach(candidates::set);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(1);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Rule rule = rules.get(i);
+            Rule.Operation operation = path == null ? rule.evaluate(relativePath) : rule.evaluate(relativePath, path);
+            if (operation != Rule.Operation.NOOP) {
+                matches.add(new Match(rule, operation));
+            }
+        }
+        return matches;
+    }
+
+    private static String literalPrefix(String pattern) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            // glob syntax, or a character whose case folding isn't plain ASCII
+            if (c == '*' || c == '?' || c == '[' || c == '{' || c == '\\' || c > 0x7F) {
+                break;
+            }
+            sb.append(fold(c));
+        }
+        return sb.toString();
+    }
+
+    private static char fold(char c) {
+        if (c == '\\') {
+            return '/';
+        }
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Integer> rules = new ArrayList<>(1);
+    }
+
+    /**
+     * A rule which matches a path.
+     */
+    public static final class Match {
+        private final Rule rule;
+        private final Rule.Operation operation;
+
+        private Match(Rule rule, Rule.Operation operation) {
+            this.rule = rule;
+            this.operation = operation;
+        }
+
+        public Rule getRule() {
+            return rule;
+        }
+
+        public Rule.Operation getOperation() {
+            return operation;
+        }
+    }
+}
@@ -372,7 +372,6 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegen implements Co
             if (inner == null) {
                 LOGGER.error("`{}` (map property) does not have a proper inner type defined. Default to type:string", p.getName());
                 inner = new StringSchema().description("TODO default missing map inner type to string");
-                p.setAdditionalProperties(inner);
             }
             return getSchemaType(target) + "<kotlin.String, " + getTypeDeclaration(inner) + ">";
         }
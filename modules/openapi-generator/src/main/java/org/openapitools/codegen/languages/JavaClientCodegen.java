@@ -1219,6 +1219,12 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return super.postProcessSupportingFileData(objs);
     }
 
+    @Override
+    public SupportingFileAggregates getSupportingFileDataAggregates() {
+        // only the OpenAPI document is read
+        return SupportingFileAggregates.none();
+    }
+
     @Override
     public String toApiVarName(String name) {
         String apiVarName = super.toApiVarName(name);
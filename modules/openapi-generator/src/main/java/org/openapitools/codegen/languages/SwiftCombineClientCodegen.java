@@ -299,7 +299,6 @@ public class SwiftCombineClientCodegen extends DefaultCodegen implements Codegen
             if (inner == null) {
                 LOGGER.error("`{}` (map property) does not have a proper inner type defined. Default to type:string", p.getName());
                 inner = new StringSchema().description("TODO default missing map inner type to string");
-                p.setAdditionalProperties(inner);
             }
             return "[String: " + getTypeDeclaration(inner) + "]";
         } else if (ModelUtils.isComposedSchema(target)) {
@@ -0,0 +1,172 @@
+package org.openapitools.codegen.model;
+
+import java.util.*;
+
+/**
+ * The data of a template bundle, which may share entries with other bundles instead of holding copies of them.
+ * <p>
+ * {@link #putAllShared(Map)} behaves like {@link #putAll(Map)}: the shared entries replace the entries put before, and
+ * are replaced by the entries put afterwards. They stay in the shared map though, so many bundles (e.g. one per model)
+ * can carry all additional properties of a generator without copying them. The bundle is a merged view of its own
+ * entries and the shared ones: lookups, iteration, its size, equality and removals all cover both. Changes only ever
+ * affect the bundle, never the shared map.
+ */
+public class BundleMap extends AbstractMap<String, Object> {
+    private final Map<String, Object> own = new HashMap<>();
+    private Map<String, Object> shared = Collections.emptyMap();
+    // shared keys which were removed from the bundle
+    private final Set<Object> removed = new HashSet<>();
+    private final Set<Entry<String, Object>> entrySet = new EntrySet();
+
+    /**
+     * Adds the entries of a map, without copying them; later changes of the map are visible through the bundle.
+     * Replaces the entries shared before.
+     *
+     * @param entries the entries to share
+     */
+    public void putAllShared(Map<String, Object> entries) {
+        own.keySet().removeAll(entries.keySet());
+        removed.clear();
+        shared = entries;
+    }
+
+    private boolean isSharedVisible(Object key) {
+        return !own.containsKey(key) && !removed.contains(key) && shared.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = own.get(key);
+        if (value != null || own.containsKey(key)) {
+            return value;
+        }
+        return removed.contains(key) ? null : shared.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return own.containsKey(key) || (!removed.contains(key) && shared.containsKey(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        own.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        own.remove(key);
+        if (shared.containsKey(key)) {
+            removed.add(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        own.clear();
+        removed.clear();
+        shared = Collections.emptyMap();
+    }
+
+    @Override
+    public int size() {
+        int size = own.size();
+        for (String key : shared.keySet()) {
+            if (isSharedVisible(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return BundleMap.this.size();
+        }
+    }
+
+    /**
+     * Iterates over the own entries, then over the visible shared ones.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private final Iterator<Entry<String, Object>> ownEntries = own.entrySet().iterator();
+        private final Iterator<Entry<String, Object>> sharedEntries = shared.entrySet().iterator();
+        private Entry<String, Object> next;
+        private Entry<String, Object> last;
+        private boolean lastIsOwn;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !ownEntries.hasNext()) {
+                while (sharedEntries.hasNext()) {
+                    Entry<String, Object> entry = sharedEntries.next();
+                    if (isSharedVisible(entry.getKey())) {
+                        next = new SharedEntry(entry);
+                        break;
+                    }
+                }
+            }
+            return next != null || ownEntries.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next == null) {
+                last = ownEntries.next();
+                lastIsOwn = true;
+            } else {
+                last = next;
+                lastIsOwn = false;
+                next = null;
+            }
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            if (lastIsOwn) {
+                ownEntries.remove();
+            }
+            if (shared.containsKey(last.getKey())) {
+                removed.add(last.getKey());
+            }
+            last = null;
+        }
+    }
+
+    /**
+     * A shared entry seen through the bundle: setting its value only changes the bundle.
+     */
+    private final class SharedEntry extends SimpleEntry<String, Object> {
+        private SharedEntry(Entry<String, Object> entry) {
+            super(entry);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            own.put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
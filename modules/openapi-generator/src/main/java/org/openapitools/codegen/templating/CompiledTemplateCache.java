@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds compiled templates for a templating engine adapter, so that a template (and the partials it includes) is read
+ * and compiled once instead of once per generated file.
+ * <p>
+ * Entries are keyed by the resolved template location plus the engine settings used to compile it. Every template
+ * read while compiling or executing an entry is recorded as a dependency; an entry is recompiled when one of its
+ * dependencies resolves to a different location or its last-modified time changes. Dependencies are checked the first
+ * time an entry is used by an executor (i.e. once per generation run), templates edited during a run are picked up by
+ * the next one.
+ *
+ * @param <T> The engine specific compiled template type
+ */
+public class CompiledTemplateCache<T> {
+    /**
+     * Global setting which, when set to {@code true}, makes the built-in adapters share one cache per engine for the
+     * whole process instead of one cache per adapter instance (i.e. per generation run).
+     */
+    public static final String SHARED_TEMPLATE_CACHE = "sharedTemplateCache";
+
+    private final Map<List<Object>, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Compiles a template on a cache miss.
+     *
+     * @param <T> The engine specific compiled template type
+     */
+    @FunctionalInterface
+    public interface TemplateCompiler<T> {
+        /**
+         * @param entry The entry being populated, used to record the templates the compiled result depends on
+         * @return The compiled template
+         * @throws IOException an error occurred while reading or compiling the template
+         */
+        T compile(Entry<T> entry) throws IOException;
+    }
+
+    /**
+     * Determines whether the built-in adapters should use their process-wide cache.
+     *
+     * @return true if {@link #SHARED_TEMPLATE_CACHE} is enabled for the current thread
+     */
+    public static boolean isSharedCacheEnabled() {
+        return Boolean.parseBoolean(GlobalSettings.getProperty(SHARED_TEMPLATE_CACHE));
+    }
+
+    /**
+     * Returns the compiled template for {@code templateFile}, compiling it when absent or stale.
+     *
+     * @param executor     The executor used to resolve template locations
+     * @param templateFile The name of the template (e.g. model.mustache)
+     * @param settings     The engine settings which affect compilation; must implement equals/hashCode
+     * @param compiler     Compiles the template on a cache miss
+     * @return The compiled template
+     * @throws IOException an error occurred while reading or compiling the template
+     */
+    public T get(TemplatingExecutor executor, String templateFile, Object settings, TemplateCompiler<T> compiler) throws IOException {
+        return getEntry(executor, templateFile, settings, compiler).getTemplate();
+    }
+
+    /**
+     * Returns the entry for {@code templateFile}, compiling it when absent or stale. Engines which read partials while
+     * executing a template use the entry to record them.
+     *
+     * @param executor     The executor used to resolve template locations
+     * @param templateFile The name of the template (e.g. model.mustache)
+     * @param settings     The engine settings which affect compilation; must implement equals/hashCode
+     * @param compiler     Compiles the template on a cache miss
+     * @return The entry holding the compiled template
+     * @throws IOException an error occurred while reading or compiling the template
+     */
+    public Entry<T> getEntry(TemplatingExecutor executor, String templateFile, Object settings, TemplateCompiler<T> compiler) throws IOException {
+        List<Object> key = Arrays.asList(resolveLocation(executor, templateFile), settings);
+        Entry<T> entry = entries.get(key);
+        if (entry != null && entry.isValid(executor)) {
+            hits.increment();
+            return entry;
+        }
+
+        misses.increment();
+        Entry<T> created = new Entry<>(executor);
+        created.template = compiler.compile(created);
+        entries.put(key, created);
+        return created;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries and resets the hit/miss counters.
+     */
+    public void clear() {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    static String resolveLocation(TemplatingExecutor executor, String name) {
+        try {
+            Path path = executor.getFullTemplatePath(name);
+            return path == null ? name : path.toString();
+        } catch (TemplateNotFoundException e) {
+            return name;
+        }
+    }
+
+    static long lastModified(String location) {
+        try {
+            Path path = Paths.get(location);
+            // templates loaded from the classpath don't exist on disk and can't change during the process lifetime
+            return Files.isRegularFile(path) ? Files.getLastModifiedTime(path).toMillis() : -1L;
+        } catch (IOException | InvalidPathException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * A compiled template together with the templates it was built from.
+     *
+     * @param <T> The engine specific compiled template type
+     */
+    public static final class Entry<T> {
+        private final Map<String, Dependency> dependencies = new ConcurrentHashMap<>();
+        private volatile T template;
+        // the executor the dependencies were last checked for; weak, as a shared cache outlives generation runs
+        private volatile WeakReference<TemplatingExecutor> checkedFor;
+
+        private Entry(TemplatingExecutor executor) {
+            this.checkedFor = new WeakReference<>(executor);
+        }
+
+        public T getTemplate() {
+            return template;
+        }
+
+        /**
+         * Records a template read while compiling or executing this entry. Only templates which were actually found
+         * should be recorded; recording a template again is cheap.
+         *
+         * @param executor The executor the template was resolved with
+         * @param name     The template name as passed to the executor (e.g. model_doc.mustache)
+         */
+        public void addDependency(TemplatingExecutor executor, String name) {
+            if (!dependencies.containsKey(name)) {
+                String location = resolveLocation(executor, name);
+                dependencies.putIfAbsent(name, new Dependency(name, location, lastModified(location)));
+            }
+        }
+
+        boolean isValid(TemplatingExecutor executor) {
+            if (checkedFor.get() == executor) {
+                return true;
+            }
+            for (Dependency dependency : dependencies.values()) {
+                String location = resolveLocation(executor, dependency.name);
+                if (!Objects.equals(location, dependency.location) || lastModified(location) != dependency.lastModified) {
+                    return false;
+                }
+            }
+            checkedFor = new WeakReference<>(executor);
+            return true;
+        }
+    }
+
+    private static final class Dependency {
+        private final String name;
+        private final String location;
+        private final long lastModified;
+
+        private Dependency(String name, String location, long lastModified) {
+            this.name = name;
+            this.location = location;
+            this.lastModified = lastModified;
+        }
+    }
+}
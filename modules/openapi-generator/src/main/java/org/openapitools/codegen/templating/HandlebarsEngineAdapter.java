@@ -29,7 +29,6 @@ import com.github.jknack.handlebars.io.AbstractTemplateLoader;
 import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
-import lombok.Setter;
 import org.openapitools.codegen.api.AbstractTemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.openapitools.codegen.templating.handlebars.AccessAwareFieldValueResolver;
@@ -38,6 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -47,8 +47,18 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
 
     // We use this as a simple lookup for valid file name extensions. This adapter will inspect .mustache (built-in) and infer the relevant handlebars filename
     private final String[] canCompileFromExtensions = {".handlebars", ".hbs", ".mustache"};
+    private static final CompiledTemplateCache<Template> SHARED_TEMPLATE_CACHE = new CompiledTemplateCache<>();
+
+    // cached templates keep a reference to the Handlebars instance which compiled them, so partials are resolved against the executor of the current call
+    private static final ThreadLocal<TemplatingExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+    // partials are read while compiling and applying a template, they are recorded as dependencies of its cache entry
+    private static final ThreadLocal<CompiledTemplateCache.Entry<Template>> CURRENT_ENTRY = new ThreadLocal<>();
+
+    private final CompiledTemplateCache<Template> templateCache = new CompiledTemplateCache<>();
     private boolean infiniteLoops = false;
-    @Setter private boolean prettyPrint = false;
+    private boolean prettyPrint = false;
+    private Handlebars handlebars;
 
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
@@ -63,13 +73,6 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     @Override
     public String compileTemplate(TemplatingExecutor executor,
                                   Map<String, Object> bundle, String templateFile) throws IOException {
-        TemplateLoader loader = new AbstractTemplateLoader() {
-            @Override
-            public TemplateSource sourceAt(String location) {
-                return findTemplate(executor, location);
-            }
-        };
-
         Context context = Context
                 .newBuilder(bundle)
                 .resolver(
@@ -79,19 +82,77 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
                         AccessAwareFieldValueResolver.INSTANCE)
                 .build();
 
-        Handlebars handlebars = new Handlebars(loader);
-        handlebars.registerHelperMissing((obj, options) -> {
-            LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
-            return "";
-        });
-        handlebars.registerHelper("json", Jackson2Helper.INSTANCE);
-        StringHelpers.register(handlebars);
-        handlebars.registerHelpers(ConditionalHelpers.class);
-        handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
-        handlebars.setInfiniteLoops(infiniteLoops);
-        handlebars.setPrettyPrint(prettyPrint);
-        Template tmpl = handlebars.compile(templateFile);
-        return tmpl.apply(context);
+        TemplatingExecutor previous = CURRENT_EXECUTOR.get();
+        CompiledTemplateCache.Entry<Template> previousEntry = CURRENT_ENTRY.get();
+        CURRENT_EXECUTOR.set(executor);
+        try {
+            final Handlebars engine = getHandlebars();
+            List<Object> settings = Arrays.asList(infiniteLoops, prettyPrint);
+            CompiledTemplateCache.Entry<Template> cached = getTemplateCache().getEntry(executor, templateFile, settings, entry -> {
+                CURRENT_ENTRY.set(entry);
+                TemplateSource source = findTemplate(executor, templateFile);
+                entry.addDependency(executor, source.filename());
+                return engine.compile(source);
+            });
+            CURRENT_ENTRY.set(cached);
+            return cached.getTemplate().apply(context);
+        } finally {
+            if (previous == null) {
+                CURRENT_EXECUTOR.remove();
+            } else {
+                CURRENT_EXECUTOR.set(previous);
+            }
+            if (previousEntry == null) {
+                CURRENT_ENTRY.remove();
+            } else {
+                CURRENT_ENTRY.set(previousEntry);
+            }
+        }
+    }
+
+    private synchronized Handlebars getHandlebars() {
+        if (handlebars == null) {
+            TemplateLoader loader = new AbstractTemplateLoader() {
+                @Override
+                public TemplateSource sourceAt(String location) {
+                    TemplatingExecutor executor = CURRENT_EXECUTOR.get();
+                    TemplateSource source = findTemplate(executor, location);
+                    CompiledTemplateCache.Entry<Template> entry = CURRENT_ENTRY.get();
+                    if (entry != null) {
+                        entry.addDependency(executor, source.filename());
+                    }
+                    return source;
+                }
+            };
+
+            Handlebars engine = new Handlebars(loader);
+            engine.registerHelperMissing((obj, options) -> {
+                LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
+                return "";
+            });
+            engine.registerHelper("json", Jackson2Helper.INSTANCE);
+            StringHelpers.register(engine);
+            engine.registerHelpers(ConditionalHelpers.class);
+            engine.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
+            engine.setInfiniteLoops(infiniteLoops);
+            engine.setPrettyPrint(prettyPrint);
+            handlebars = engine;
+        }
+        return handlebars;
+    }
+
+    private CompiledTemplateCache<Template> getTemplateCache() {
+        return CompiledTemplateCache.isSharedCacheEnabled() ? SHARED_TEMPLATE_CACHE : templateCache;
+    }
+
+    @Override
+    public long getTemplateCacheHits() {
+        return getTemplateCache().getHits();
+    }
+
+    @Override
+    public long getTemplateCacheMisses() {
+        return getTemplateCache().getMisses();
     }
 
     @SuppressWarnings("java:S108")
@@ -136,10 +197,21 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
      * @param infiniteLoops Whether to enable (true) or disable (false)
      * @return this object
      */
-    public HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
+    public synchronized HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
         this.infiniteLoops = infiniteLoops;
+        this.handlebars = null;
         return this;
     }
 
+    /**
+     * Enable/disable prettyPrint setting for the Handlebars engine.
+     *
+     * @param prettyPrint Whether to enable (true) or disable (false)
+     */
+    public synchronized void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+        this.handlebars = null;
+    }
+
 }
 
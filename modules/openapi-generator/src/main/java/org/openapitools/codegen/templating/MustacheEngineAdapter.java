@@ -23,6 +23,7 @@ import lombok.Setter;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.templating.CompiledTemplateCache.Entry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,13 +31,23 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 
 public class MustacheEngineAdapter implements TemplatingEngineAdapter {
 
     private final Logger LOGGER = LoggerFactory.getLogger(TemplatingEngineAdapter.class);
 
+    private static final CompiledTemplateCache<Template> SHARED_TEMPLATE_CACHE = new CompiledTemplateCache<>();
+
+    // partials are loaded lazily while executing a (possibly cached) template, so they're resolved against the executor of the current call
+    private static final ThreadLocal<TemplatingExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+    private final CompiledTemplateCache<Template> templateCache = new CompiledTemplateCache<>();
+
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
      *
@@ -62,10 +73,14 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
      */
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
-        Template tmpl = compiler
-                .withLoader(name -> findTemplate(executor, name))
-                .defaultValue("")
-                .compile(executor.getFullTemplateContents(templateFile));
+        final Mustache.Compiler templateCompiler = compiler;
+        Template tmpl = getTemplateCache().get(executor, templateFile, getCompilerSettings(templateCompiler), entry -> {
+            entry.addDependency(executor, templateFile);
+            return templateCompiler
+                    .withLoader(name -> findTemplate(entry, executor, name))
+                    .defaultValue("")
+                    .compile(executor.getFullTemplateContents(templateFile));
+        });
         StringWriter out = new StringWriter();
 
         // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
@@ -77,16 +92,62 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
             // avoid NPE
             parent = new Object();
         }
-        tmpl.execute(bundle, parent, out);
+        TemplatingExecutor previous = CURRENT_EXECUTOR.get();
+        CURRENT_EXECUTOR.set(executor);
+        try {
+            tmpl.execute(bundle, parent, out);
+        } finally {
+            if (previous == null) {
+                CURRENT_EXECUTOR.remove();
+            } else {
+                CURRENT_EXECUTOR.set(previous);
+            }
+        }
         return out.toString();
     }
 
-    @SuppressWarnings("java:S108") // catch-all is expected, and is later thrown
+    private Reader findTemplate(Entry<Template> entry, TemplatingExecutor compilingExecutor, String name) {
+        TemplatingExecutor current = CURRENT_EXECUTOR.get();
+        TemplatingExecutor generator = current != null ? current : compilingExecutor;
+        // only the template which resolved is recorded, checking the missing variants would throw on every check
+        return findTemplate(generator, name, templateName -> entry.addDependency(generator, templateName));
+    }
+
+    /**
+     * The compiler settings which affect the compiled template, used as part of the template cache key.
+     */
+    private static List<Object> getCompilerSettings(Mustache.Compiler compiler) {
+        return Arrays.asList(compiler.standardsMode, compiler.strictSections, compiler.nullValue, compiler.missingIsNull,
+                compiler.emptyStringIsFalse, compiler.zeroIsFalse, compiler.escaper, compiler.formatter, compiler.collector);
+    }
+
+    private CompiledTemplateCache<Template> getTemplateCache() {
+        return CompiledTemplateCache.isSharedCacheEnabled() ? SHARED_TEMPLATE_CACHE : templateCache;
+    }
+
+    @Override
+    public long getTemplateCacheHits() {
+        return getTemplateCache().getHits();
+    }
+
+    @Override
+    public long getTemplateCacheMisses() {
+        return getTemplateCache().getMisses();
+    }
+
     public Reader findTemplate(TemplatingExecutor generator, String name) {
+        return findTemplate(generator, name, templateName -> {
+        });
+    }
+
+    @SuppressWarnings("java:S108") // catch-all is expected, and is later thrown
+    private Reader findTemplate(TemplatingExecutor generator, String name, Consumer<String> found) {
         for (String extension : extensions) {
             final String templateName = name + "." + extension;
             try {
-                return new StringReader(generator.getFullTemplateContents(templateName));
+                Reader reader = new StringReader(generator.getFullTemplateContents(templateName));
+                found.accept(templateName);
+                return reader;
             } catch (Exception exception) {
                 LOGGER.error("Failed to read full template {}, {}", templateName, exception.getMessage());
             }
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs external post-processing commands (formatters, linters) over generated files with as few process launches as
+ * possible.
+ * <p>
+ * Commands are queued with {@link #add(String[])}: the last element is the file to process, the elements before it
+ * form the command. {@link #run()} then invokes each distinct command once per batch of files, passing up to
+ * {@code maxFilesPerBatch} files as arguments, and runs up to {@code parallelism} batches at a time. When a batch
+ * fails, its files are processed one at a time to find out which of them the command rejects.
+ */
+public class BatchPostProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchPostProcessor.class);
+
+    // stays below the command line length limit of Windows (32767 characters)
+    static final int MAX_COMMAND_LINE_LENGTH = 30000;
+
+    private final int maxFilesPerBatch;
+    private final int parallelism;
+    private final Map<List<String>, Set<String>> filesByCommand = new LinkedHashMap<>();
+
+    /**
+     * @param maxFilesPerBatch the maximum number of files passed to a single invocation of a command
+     * @param parallelism      the maximum number of commands running at the same time
+     */
+    public BatchPostProcessor(int maxFilesPerBatch, int parallelism) {
+        if (maxFilesPerBatch < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("maxFilesPerBatch and parallelism must be at least 1");
+        }
+        this.maxFilesPerBatch = maxFilesPerBatch;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Queues a file for post-processing.
+     *
+     * @param commandArr the command and its arguments, followed by the file. As for a single invocation, the command
+     *                   elements are concatenated with space and tokenized again.
+     */
+    public synchronized void add(String[] commandArr) {
+        if (commandArr == null || commandArr.length < 2) {
+            throw new IllegalArgumentException("A post-processing command must end with the file to process");
+        }
+        List<String> command = tokenize(String.join(" ", Arrays.copyOf(commandArr, commandArr.length - 1)));
+        filesByCommand.computeIfAbsent(command, k -> new LinkedHashSet<>()).add(commandArr[commandArr.length - 1]);
+    }
+
+    /**
+     * @return the number of files queued and not processed yet
+     */
+    public synchronized int getPendingFileCount() {
+        return filesByCommand.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Processes all queued files and empties the queue.
+     *
+     * @return the outcome per file
+     */
+    public Result run() {
+        List<Batch> batches;
+        synchronized (this) {
+            batches = partition();
+            filesByCommand.clear();
+        }
+
+        Result result = new Result();
+        if (parallelism == 1 || batches.size() <= 1) {
+            batches.forEach(batch -> execute(batch, result));
+            return result;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(batches.size());
+            for (Batch batch : batches) {
+                futures.add(executor.submit(() -> execute(batch, result)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while post-processing files", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error post-processing files", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private List<Batch> partition() {
+        List<Batch> batches = new ArrayList<>();
+        for (Map.Entry<List<String>, Set<String>> entry : filesByCommand.entrySet()) {
+            List<String> command = entry.getKey();
+            int commandLength = String.join(" ", command).length();
+
+            List<String> files = new ArrayList<>();
+            int length = commandLength;
+            for (String file : entry.getValue()) {
+                if (!files.isEmpty() && (files.size() == maxFilesPerBatch || length + file.length() + 1 > MAX_COMMAND_LINE_LENGTH)) {
+                    batches.add(new Batch(command, files));
+                    files = new ArrayList<>();
+                    length = commandLength;
+                }
+                files.add(file);
+                length += file.length() + 1;
+            }
+            if (!files.isEmpty()) {
+                batches.add(new Batch(command, files));
+            }
+        }
+        return batches;
+    }
+
+    private void execute(Batch batch, Result result) {
+        Outcome outcome = launch(batch.command, batch.files, result);
+        if (outcome.exitValue == 0) {
+            LOGGER.info("Successfully executed: {} ({} files)", String.join(" ", batch.command), batch.files.size());
+            result.succeeded(batch.files.size());
+            return;
+        }
+        if (outcome.launchFailed || batch.files.size() == 1) {
+            batch.files.forEach(file -> result.failed(file, outcome.message));
+            return;
+        }
+
+        LOGGER.warn("Error running the command ({}) over {} files, processing them one at a time", String.join(" ", batch.command), batch.files.size());
+        for (String file : batch.files) {
+            Outcome single = launch(batch.command, Collections.singletonList(file), result);
+            if (single.exitValue == 0) {
+                result.succeeded(1);
+            } else {
+                result.failed(file, single.message);
+            }
+        }
+    }
+
+    private Outcome launch(List<String> command, List<String> files, Result result) {
+        List<String> args = new ArrayList<>(command.size() + files.size());
+        args.addAll(command);
+        args.addAll(files);
+        String commandLine = String.join(" ", command);
+
+        result.processCount.incrementAndGet();
+        try {
+            // the output is drained before waiting, so that verbose tools can't block on a full pipe
+            Process p = new ProcessBuilder(args).redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = p.getInputStream()) {
+                output = IOUtils.toString(in, StandardCharsets.UTF_8).trim();
+            }
+            int exitValue = p.waitFor();
+            if (exitValue != 0) {
+                LOGGER.error("Error running the command ({}). Exit value: {}, Error output: {}", commandLine, exitValue, output);
+                return new Outcome(exitValue, false, "exit value " + exitValue + (output.isEmpty() ? "" : ": " + output));
+            }
+            return new Outcome(0, false, null);
+        } catch (IOException e) {
+            LOGGER.error("Error running the command ({}). Exception: {}", commandLine, e.getMessage());
+            return new Outcome(-1, true, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(-1, true, "interrupted");
+        }
+    }
+
+    // same tokenization as Runtime.exec(String), which single invocations rely on
+    private static List<String> tokenize(String command) {
+        List<String> tokens = new ArrayList<>();
+        StringTokenizer tokenizer = new StringTokenizer(command);
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        return tokens;
+    }
+
+    private static class Batch {
+        private final List<String> command;
+        private final List<String> files;
+
+        Batch(List<String> command, List<String> files) {
+            this.command = command;
+            this.files = files;
+        }
+    }
+
+    private static class Outcome {
+        private final int exitValue;
+        private final boolean launchFailed;
+        private final String message;
+
+        Outcome(int exitValue, boolean launchFailed, String message) {
+            this.exitValue = exitValue;
+            this.launchFailed = launchFailed;
+            this.message = message;
+        }
+    }
+
+    /**
+     * The outcome of {@link #run()}.
+     */
+    public static class Result {
+        private final AtomicInteger processCount = new AtomicInteger();
+        private final AtomicInteger successCount = new AtomicInteger();
+        private final Map<String, String> failures = new ConcurrentSkipListMap<>();
+
+        void succeeded(int files) {
+            successCount.addAndGet(files);
+        }
+
+        void failed(String file, String message) {
+            failures.put(file, message == null ? "unknown error" : message);
+        }
+
+        /**
+         * @return the number of processes launched
+         */
+        public int getProcessCount() {
+            return processCount.get();
+        }
+
+        /**
+         * @return the number of files processed successfully
+         */
+        public int getSuccessCount() {
+            return successCount.get();
+        }
+
+        /**
+         * @return the files which failed to process and the reason, sorted by file
+         */
+        public Map<String, String> getFailures() {
+            return Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * @return true if all files were processed successfully
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the files a spec refers to through {@code $ref}, by scanning its text rather than resolving the document, so
+ * that callers can tell whether a multi-file spec changed without parsing it. A reference the scan can't see (e.g. one
+ * built from YAML anchors) is missed.
+ */
+public class ExternalRefUtils {
+    // the target of a $ref in YAML or JSON, up to the fragment, e.g. ./schemas/Pet.yaml in $ref: './schemas/Pet.yaml#/Pet'
+    private static final Pattern REF = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s#,}\\]]*)");
+
+    private ExternalRefUtils() {
+    }
+
+    /**
+     * Returns the local files referenced by a spec, i.e. the targets of its {@code $ref} values which are neither
+     * internal ({@code #/components/...}) nor remote ({@code https://...}).
+     *
+     * @param content the text of the spec, in YAML or JSON
+     * @return the referenced locations, relative to the spec, in the order they appear; may contain duplicates
+     */
+    public static List<String> localReferences(String content) {
+        List<String> references = new ArrayList<>();
+        Matcher matcher = REF.matcher(content);
+        while (matcher.find()) {
+            String location = matcher.group(1);
+            if (!location.isEmpty() && !location.contains("://")) {
+                references.add(location);
+            }
+        }
+        return references;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.*;
+
+/**
+ * A directed graph of model dependencies (model name to the data types of its properties), together with its
+ * strongly connected components.
+ * <p>
+ * The components are computed once, with an iterative variant of Tarjan's algorithm, so that questions like "can this
+ * model reach itself again through that property" are answered in constant time instead of with a graph search per
+ * property.
+ */
+public class ModelDependencyGraph {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final int[][] adjacency;
+    private final int[] component;
+    private final int[] componentSize;
+    private final boolean[] selfReference;
+
+    /**
+     * Builds the graph and computes its strongly connected components.
+     *
+     * @param dependencies the data types each model depends on, indexed by model name
+     */
+    public ModelDependencyGraph(Map<String, ? extends Collection<String>> dependencies) {
+        for (Map.Entry<String, ? extends Collection<String>> entry : dependencies.entrySet()) {
+            idOf(entry.getKey());
+            for (String target : entry.getValue()) {
+                idOf(target);
+            }
+        }
+
+        int n = names.size();
+        adjacency = new int[n][];
+        Arrays.fill(adjacency, new int[0]);
+        selfReference = new boolean[n];
+        for (Map.Entry<String, ? extends Collection<String>> entry : dependencies.entrySet()) {
+            int source = ids.get(entry.getKey());
+            int[] targets = entry.getValue().stream().mapToInt(ids::get).distinct().toArray();
+            adjacency[source] = targets;
+            for (int target : targets) {
+                if (target == source) {
+                    selfReference[source] = true;
+                }
+            }
+        }
+
+        component = new int[n];
+        int components = computeComponents();
+        componentSize = new int[components];
+        for (int c : component) {
+            componentSize[c]++;
+        }
+    }
+
+    private int idOf(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+    private int computeComponents() {
+        int n = names.size();
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] nextEdge = new int[n];
+        int[] stack = new int[n];
+        int[] work = new int[n];
+        boolean[] onStack = new boolean[n];
+        Arrays.fill(index, -1);
+
+        int counter = 0;
+        int components = 0;
+        int sp = 0;
+        for (int start = 0; start < n; start++) {
+            if (index[start] != -1) {
+                continue;
+            }
+            int wp = 0;
+            work[wp++] = start;
+            index[start] = low[start] = counter++;
+            stack[sp++] = start;
+            onStack[start] = true;
+
+            while (wp > 0) {
+                int v = work[wp - 1];
+                if (nextEdge[v] < adjacency[v].length) {
+                    int w = adjacency[v][nextEdge[v]++];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        work[wp++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                } else {
+                    wp--;
+                    if (low[v] == index[v]) {
+                        int w;
+                        do {
+                            w = stack[--sp];
+                            onStack[w] = false;
+                            component[w] = components;
+                        } while (w != v);
+                        components++;
+                    }
+                    if (wp > 0) {
+                        int parent = work[wp - 1];
+                        low[parent] = Math.min(low[parent], low[v]);
+                    }
+                }
+            }
+        }
+        return components;
+    }
+
+    /**
+     * @param name a model name or data type
+     * @return true if the node is part of the graph
+     */
+    public boolean contains(String name) {
+        return ids.containsKey(name);
+    }
+
+    /**
+     * @param name a model name
+     * @return the data types the model directly depends on, or an empty set if it's unknown
+     */
+    public Set<String> getDependencies(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            return Collections.emptySet();
+        }
+        Set<String> dependencies = new LinkedHashSet<>();
+        for (int target : adjacency[id]) {
+            dependencies.add(names.get(target));
+        }
+        return dependencies;
+    }
+
+    /**
+     * Determines whether a dependency from {@code source} to {@code target} closes a cycle, i.e. whether
+     * {@code source} can be reached again from {@code target}.
+     *
+     * @param source the model owning the dependency
+     * @param target the data type it depends on
+     * @return true if both belong to the same strongly connected component
+     */
+    public boolean isCircular(String source, String target) {
+        Integer sourceId = ids.get(source);
+        Integer targetId = ids.get(target);
+        return sourceId != null && targetId != null && component[sourceId] == component[targetId];
+    }
+
+    /**
+     * @param name a model name
+     * @return true if the model can reach itself through its dependencies
+     */
+    public boolean isInCycle(String name) {
+        Integer id = ids.get(name);
+        return id != null && (selfReference[id] || componentSize[component[id]] > 1);
+    }
+
+    /**
+     * @param name a model name
+     * @return all models and data types in the same strongly connected component (including the model itself),
+     * or an empty set if it's unknown
+     */
+    public Set<String> getCycleMembers(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            return Collections.emptySet();
+        }
+        Set<String> members = new TreeSet<>();
+        for (int i = 0; i < component.length; i++) {
+            if (component[i] == component[id]) {
+                members.add(names.get(i));
+            }
+        }
+        return members;
+    }
+}
@@ -134,24 +134,7 @@ public class ModelUtils {
      * @return schemas a list of used schemas
      */
     public static List<String> getAllUsedSchemas(OpenAPI openAPI) {
-        Map<String, List<String>> childrenMap = getChildrenMap(openAPI);
-        List<String> allUsedSchemas = new ArrayList<String>();
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if (!allUsedSchemas.contains(ref)) {
-                    allUsedSchemas.add(ref);
-                }
-                if (childrenMap.containsKey(ref)) {
-                    for (String child : childrenMap.get(ref)) {
-                        if (!allUsedSchemas.contains(child)) {
-                            allUsedSchemas.add(child);
-                        }
-                    }
-                }
-            }
-        });
-        return allUsedSchemas;
+        return new ArrayList<>(getSchemaUsage(openAPI).getUsedSchemas());
     }
 
     /**
@@ -161,65 +144,54 @@ public class ModelUtils {
      * @return schemas a list of unused schemas
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
-        final Map<String, List<String>> childrenMap;
-        Map<String, List<String>> tmpChildrenMap;
+        return new ArrayList<>(getSchemaUsage(openAPI).getUnusedSchemas());
+    }
+
+    /**
+     * Return the list of schemas in the 'components/schemas' used only in a 'application/x-www-form-urlencoded' or 'multipart/form-data' mime time
+     *
+     * @param openAPI specification
+     * @return schemas a list of schemas
+     */
+    public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
+        return new ArrayList<>(getSchemaUsage(openAPI).getSchemasUsedOnlyInFormParam());
+    }
+
+    /**
+     * Traverse all paths of an openAPI specification once and report how the schemas in the 'components/schemas'
+     * section are referenced: used, unused, used only in form parameters, and by media type.
+     * <p>
+     * Callers needing several of these answers should compute the report once and share it, rather than calling
+     * {@link #getAllUsedSchemas(OpenAPI)}, {@link #getUnusedSchemas(OpenAPI)} and
+     * {@link #getSchemasUsedOnlyInFormParam(OpenAPI)}, which traverse the document each.
+     *
+     * @param openAPI specification
+     * @return the schema usage report
+     */
+    public static SchemaUsage getSchemaUsage(OpenAPI openAPI) {
+        Map<String, List<String>> childrenMap;
         try {
-            tmpChildrenMap = getChildrenMap(openAPI);
+            childrenMap = getChildrenMap(openAPI);
         } catch (NullPointerException npe) {
             // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
-            // the stream used in getChildrenMap will raise an NPE. Rather than modify getChildrenMap which is used by getAllUsedSchemas,
+            // resolving the parent of a schema will raise an NPE. Rather than modify getChildrenMap,
             // we'll catch here as a workaround for this edge case.
-            tmpChildrenMap = new HashMap<>();
+            childrenMap = new HashMap<>();
         }
 
-        childrenMap = tmpChildrenMap;
-        List<String> unusedSchemas = new ArrayList<String>();
-
+        SchemaUsage.Collector collector = new SchemaUsage.Collector(getSchemas(openAPI).keySet(), childrenMap);
         if (openAPI != null) {
-            Map<String, Schema> schemas = getSchemas(openAPI);
-            unusedSchemas.addAll(schemas.keySet());
-
             visitOpenAPI(openAPI, (s, t) -> {
                 if (s.get$ref() != null) {
-                    String ref = getSimpleRef(s.get$ref());
-                    unusedSchemas.remove(ref);
-                    if (childrenMap.containsKey(ref)) {
-                        unusedSchemas.removeAll(childrenMap.get(ref));
-                    }
+                    collector.addReference(getSimpleRef(s.get$ref()), t);
                 }
             });
         }
-        return unusedSchemas;
+        return collector.build();
     }
 
     /**
-     * Return the list of schemas in the 'components/schemas' used only in a 'application/x-www-form-urlencoded' or 'multipart/form-data' mime time
-     *
-     * @param openAPI specification
-     * @return schemas a list of schemas
-     */
-    public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
-        List<String> schemasUsedInFormParam = new ArrayList<String>();
-        List<String> schemasUsedInOtherCases = new ArrayList<String>();
-
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s != null && s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if ("application/x-www-form-urlencoded".equalsIgnoreCase(t) ||
-                        "multipart/form-data".equalsIgnoreCase(t)) {
-                    schemasUsedInFormParam.add(ref);
-                } else {
-                    schemasUsedInOtherCases.add(ref);
-                }
-            }
-        });
-        return schemasUsedInFormParam.stream().filter(n -> !schemasUsedInOtherCases.contains(n)).collect(Collectors.toList());
-    }
-
-    /**
-     * Private method used by several methods ({@link #getAllUsedSchemas(OpenAPI)},
-     * {@link #getUnusedSchemas(OpenAPI)},
-     * {@link #getSchemasUsedOnlyInFormParam(OpenAPI)}, ...) to traverse all paths of an
+     * Private method used by {@link #getSchemaUsage(OpenAPI)} to traverse all paths of an
      * OpenAPI instance and call the visitor functional interface when a schema is found.
      *
      * @param openAPI specification
@@ -227,7 +199,7 @@ public class ModelUtils {
      */
     private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
         Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
+        Set<String> visitedSchemas = new HashSet<>();
 
         if (paths != null) {
             for (PathItem path : paths.values()) {
@@ -236,7 +208,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         List<Operation> allOperations = pathItem.readOperations();
         if (allOperations != null) {
             for (Operation operation : allOperations) {
@@ -286,7 +258,7 @@ public class ModelUtils {
     }
 
     private static void visitParameters(OpenAPI openAPI, List<Parameter> parameters, OpenAPISchemaVisitor visitor,
-                                        List<String> visitedSchemas) {
+                                        Set<String> visitedSchemas) {
         if (parameters != null) {
             for (Parameter p : parameters) {
                 Parameter parameter = getReferencedParameter(openAPI, p);
@@ -302,7 +274,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         if (content != null) {
             for (Entry<String, MediaType> e : content.entrySet()) {
                 if (e.getValue().getSchema() != null) {
@@ -321,10 +293,10 @@ public class ModelUtils {
      * @param openAPI        the OpenAPI document that contains schema objects.
      * @param schema         the root schema object to be visited.
      * @param mimeType       the mime type. TODO: does not seem to be used in a meaningful way.
-     * @param visitedSchemas the list of referenced schemas that have been visited.
+     * @param visitedSchemas the names of the referenced schemas that have been visited.
      * @param visitor        the visitor function which is invoked for every visited schema.
      */
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
+    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, Set<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
         if (schema == null) {
             return;
         }
@@ -332,8 +304,7 @@ public class ModelUtils {
         visitor.visit(schema, mimeType);
         if (schema.get$ref() != null) {
             String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemas.contains(ref)) {
-                visitedSchemas.add(ref);
+            if (visitedSchemas.add(ref)) {
                 Schema referencedSchema = getSchemas(openAPI).get(ref);
                 if (referencedSchema != null) {
                     visitSchema(openAPI, referencedSchema, mimeType, visitedSchemas, visitor);
@@ -1070,7 +1041,7 @@ public class ModelUtils {
      */
     public static List<Schema> getAllSchemas(OpenAPI openAPI) {
         List<Schema> allSchemas = new ArrayList<Schema>();
-        List<String> refSchemas = new ArrayList<String>();
+        Set<String> refSchemas = new HashSet<>();
         getSchemas(openAPI).forEach((key, schema) -> {
             // Invoke visitSchema to recursively visit all schema objects, included inlined and composed schemas.
             // Use the OpenAPISchemaVisitor visitor function
@@ -1502,13 +1473,17 @@ public class ModelUtils {
     public static Map<String, List<String>> getChildrenMap(OpenAPI openAPI) {
         Map<String, Schema> allSchemas = getSchemas(openAPI);
 
-        Map<String, List<Entry<String, Schema>>> groupedByParent = allSchemas.entrySet().stream()
-                .filter(entry -> isComposedSchema(entry.getValue()))
-                .filter(entry -> getParentName((Schema) entry.getValue(), allSchemas) != null)
-                .collect(Collectors.groupingBy(entry -> getParentName((Schema) entry.getValue(), allSchemas)));
-
-        return groupedByParent.entrySet().stream()
-                .collect(Collectors.toMap(entry -> entry.getKey(), entry -> entry.getValue().stream().map(e -> e.getKey()).collect(Collectors.toList())));
+        Map<String, List<String>> childrenMap = new HashMap<>();
+        for (Entry<String, Schema> entry : allSchemas.entrySet()) {
+            if (isComposedSchema(entry.getValue())) {
+                // resolving the parent walks the discriminators of the schema's allOf, so only do it once per schema
+                String parentName = getParentName(entry.getValue(), allSchemas);
+                if (parentName != null) {
+                    childrenMap.computeIfAbsent(parentName, k -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+        }
+        return childrenMap;
     }
 
     /**
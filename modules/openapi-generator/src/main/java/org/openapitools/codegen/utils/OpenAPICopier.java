@@ -0,0 +1,282 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates structural deep copies of a parsed {@link OpenAPI} document, without serializing and re-parsing it.
+ * <p>
+ * The copy walks the object graph through the public getters and setters of the models. Immutable values (strings, numbers, enums, dates from java.time)
+ * are shared, everything else is copied exactly once, so instances which are shared within the original document
+ * (e.g. a schema referenced from several places after resolving) are shared the same way within the copy. This keeps
+ * the copy independent of the original, which matters because the normalizer and the inline model resolver mutate
+ * the document they are given.
+ */
+public final class OpenAPICopier {
+    private static final Map<Class<?>, List<Property>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private OpenAPICopier() {
+    }
+
+    /**
+     * Creates a deep copy of an OpenAPI document.
+     *
+     * @param openAPI the document to copy, may be null
+     * @return a copy which shares no mutable state with {@code openAPI}
+     * @throws IllegalStateException if part of the document can't be copied
+     */
+    public static OpenAPI copy(OpenAPI openAPI) {
+        return (OpenAPI) new OpenAPICopier().copyValue(openAPI);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null || isImmutable(value.getClass())) {
+            return value;
+        }
+        Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (value instanceof JsonNode) {
+            return remember(value, ((JsonNode) value).deepCopy());
+        }
+        if (value instanceof Date) {
+            return remember(value, ((Date) value).clone());
+        }
+        if (value.getClass().isArray()) {
+            return copyArray(value);
+        }
+        if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value);
+        }
+        if (value instanceof Collection) {
+            return copyCollection((Collection<?>) value);
+        }
+        if (isPlatformClass(value.getClass())) {
+            // unknown JDK types (e.g. Optional) aren't part of the swagger models; share them rather than reflect on them
+            return value;
+        }
+        return copyBean(value);
+    }
+
+    private Object remember(Object original, Object copy) {
+        copies.put(original, copy);
+        return copy;
+    }
+
+    private Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        remember(array, copy);
+        for (int i = 0; i < length; i++) {
+            Array.set(copy, i, copyValue(Array.get(array, i)));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy;
+        if (map instanceof SortedMap) {
+            // the no-arg constructor would drop the comparator
+            Comparator<?> comparator = ((SortedMap<?, ?>) map).comparator();
+            copy = (Map<Object, Object>) newInstance(map.getClass(), comparator);
+            if (copy == null) {
+                copy = new TreeMap<>((Comparator<Object>) comparator);
+            }
+        } else {
+            copy = (Map<Object, Object>) newInstance(map.getClass());
+            if (copy == null) {
+                copy = new LinkedHashMap<>(map.size());
+            }
+        }
+        remember(map, copy);
+        // subclasses such as Paths or ApiResponses hold extensions next to their entries
+        copyProperties(map, copy);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyCollection(Collection<?> collection) {
+        Collection<Object> copy;
+        if (collection instanceof SortedSet) {
+            // the no-arg constructor would drop the comparator
+            Comparator<Object> comparator = ((SortedSet<Object>) collection).comparator();
+            copy = (Collection<Object>) newInstance(collection.getClass(), comparator);
+            if (copy == null) {
+                copy = new TreeSet<>(comparator);
+            }
+        } else {
+            copy = (Collection<Object>) newInstance(collection.getClass());
+            if (copy == null) {
+                copy = collection instanceof Set ? new LinkedHashSet<>(collection.size()) : new ArrayList<>(collection.size());
+            }
+        }
+        remember(collection, copy);
+        copyProperties(collection, copy);
+        for (Object item : collection) {
+            copy.add(copyValue(item));
+        }
+        return copy;
+    }
+
+    private Object copyBean(Object bean) {
+        Object copy = newInstance(bean.getClass());
+        if (copy == null) {
+            throw new IllegalStateException("Unable to copy " + bean.getClass().getName() + ": no public no-arg constructor");
+        }
+        remember(bean, copy);
+        copyProperties(bean, copy);
+        return copy;
+    }
+
+    private void copyProperties(Object source, Object target) {
+        if (source.getClass() != target.getClass()) {
+            return;
+        }
+        try {
+            for (Property property : propertiesOf(source.getClass())) {
+                Object value = property.getter.invoke(source);
+                // setters may have side effects (e.g. Schema#setExample sets the example flag), so skip those not needed
+                if (value != null || property.getter.invoke(target) != null) {
+                    property.setter.invoke(target, copyValue(value));
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to copy " + source.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Collects the properties, i.e. the public getters with a matching public setter, declared by the non-JDK part of
+     * a class hierarchy. JDK superclasses (e.g. the LinkedHashMap behind Paths) are copied through their public API
+     * instead.
+     */
+    private static List<Property> propertiesOf(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, t -> {
+            Map<String, Property> properties = new TreeMap<>();
+            for (Method getter : t.getMethods()) {
+                String name = propertyName(getter);
+                if (name == null || isPlatformClass(getter.getDeclaringClass()) || properties.containsKey(name)) {
+                    continue;
+                }
+                for (Method setter : t.getMethods()) {
+                    if (setter.getName().equals("set" + name) && setter.getParameterCount() == 1
+                            && setter.getReturnType() == void.class && !Modifier.isStatic(setter.getModifiers())
+                            && setter.getParameterTypes()[0].isAssignableFrom(getter.getReturnType())) {
+                        properties.put(name, new Property(getter, setter));
+                        break;
+                    }
+                }
+            }
+            return new ArrayList<>(properties.values());
+        });
+    }
+
+    private static String propertyName(Method getter) {
+        if (getter.getParameterCount() != 0 || getter.getReturnType() == void.class || getter.isBridge()
+                || Modifier.isStatic(getter.getModifiers())) {
+            return null;
+        }
+        String name = getter.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return name.substring(3);
+        }
+        if (name.startsWith("is") && name.length() > 2 && getter.getReturnType() == boolean.class) {
+            return name.substring(2);
+        }
+        return null;
+    }
+
+    private static Object newInstance(Class<?> type) {
+        return newInstance(type, new Class<?>[0]);
+    }
+
+    /**
+     * Creates an empty sorted map or set of the given type, using the given comparator (which may be null).
+     */
+    private static Object newInstance(Class<?> type, Comparator<?> comparator) {
+        return newInstance(type, new Class<?>[]{Comparator.class}, comparator);
+    }
+
+    private static Object newInstance(Class<?> type, Class<?>[] parameterTypes, Object... arguments) {
+        if (isPlatformClass(type) && !Modifier.isPublic(type.getModifiers())) {
+            // e.g. Collections.unmodifiableList or Arrays.asList
+            return null;
+        }
+        try {
+            return type.getConstructor(parameterTypes).newInstance(arguments);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type == String.class
+                || type == Boolean.class
+                || type == Character.class
+                || type == Integer.class
+                || type == Long.class
+                || type == Short.class
+                || type == Byte.class
+                || type == Double.class
+                || type == Float.class
+                || type == BigDecimal.class
+                || type == BigInteger.class
+                || type == UUID.class
+                || type == URI.class
+                || type == URL.class
+                || type == Class.class
+                || type.isEnum()
+                || Enum.class.isAssignableFrom(type)
+                || (TemporalAccessor.class.isAssignableFrom(type) && type.getName().startsWith("java.time."));
+    }
+
+    private static final class Property {
+        private final Method getter;
+        private final Method setter;
+
+        private Property(Method getter, Method setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.InheritanceCycleException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Lookup tables over the schemas in {@code components/schemas} of a document, built once per generation run instead
+ * of scanning all schemas on every lookup:
+ * <ul>
+ *     <li>model name (as returned by the generator's {@code toModelName}) to schema</li>
+ *     <li>{@code $ref} to schema</li>
+ *     <li>schema to the schemas extending it through {@code allOf}</li>
+ * </ul>
+ * The descendants of a schema (see {@link #getAllOfDescendants(String)}) are derived from the latter, and memoized.
+ * The index reflects the schemas at the time it was built. {@link #isStale(Map)} only notices a different schema map
+ * or a different number of schemas, as it's checked on every lookup; an index over schemas which were replaced under
+ * their key, or added and removed in equal numbers, must be dropped by whoever changed them. An index may be used by
+ * several threads at once.
+ */
+public class SchemaIndex {
+    private final Map<String, Schema> schemas;
+    private final int size;
+    private final Map<String, String> keysByModelName = new HashMap<>();
+    private final Map<String, Schema> schemasByModelName = new HashMap<>();
+    private final Map<String, List<String>> allOfChildren = new HashMap<>();
+    // computed on demand, possibly by several threads at once
+    private final Map<String, List<String>> allOfDescendants = new ConcurrentHashMap<>();
+    private volatile ModelDependencyGraph allOfGraph;
+
+    /**
+     * @param schemas     the schemas to index, by key
+     * @param toModelName converts a schema key to a model name
+     */
+    public SchemaIndex(Map<String, Schema> schemas, Function<String, String> toModelName) {
+        this.schemas = schemas;
+        this.size = schemas.size();
+
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            String key = entry.getKey();
+            // if several schemas share a model name, the first one wins
+            String modelName = toModelName.apply(key);
+            if (!keysByModelName.containsKey(modelName)) {
+                keysByModelName.put(modelName, key);
+                schemasByModelName.put(modelName, entry.getValue());
+            }
+
+            List<Schema> parents = entry.getValue() == null ? null : entry.getValue().getAllOf();
+            if (parents != null) {
+                for (Schema parent : parents) {
+                    String parentName = parent.get$ref() == null ? null : ModelUtils.getSimpleRef(parent.get$ref());
+                    if (parentName != null && !parentName.equals(key)) {
+                        List<String> children = allOfChildren.computeIfAbsent(parentName, k -> new ArrayList<>());
+                        // a child listing the same parent twice is still a single child
+                        if (children.isEmpty() || !children.get(children.size() - 1).equals(key)) {
+                            children.add(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param current the schemas of the document now
+     * @return true if the index was built from another map, or the number of schemas changed since; other changes
+     * aren't detected
+     */
+    public boolean isStale(Map<String, Schema> current) {
+        return current != schemas || current.size() != size;
+    }
+
+    /**
+     * @param key a schema key
+     * @return true if a schema with that key exists
+     */
+    public boolean containsSchema(String key) {
+        return key != null && schemas.containsKey(key);
+    }
+
+    /**
+     * @param key a schema key
+     * @return the schema, or null
+     */
+    public Schema getSchema(String key) {
+        return key == null ? null : schemas.get(key);
+    }
+
+    /**
+     * @param modelName a model name
+     * @return the key of the (first) schema with that model name, or null
+     */
+    public String getSchemaKeyByModelName(String modelName) {
+        return modelName == null ? null : keysByModelName.get(modelName);
+    }
+
+    /**
+     * @param modelName a model name
+     * @return the (first) schema with that model name, or null
+     */
+    public Schema getSchemaByModelName(String modelName) {
+        return modelName == null ? null : schemasByModelName.get(modelName);
+    }
+
+    /**
+     * @return all schemas indexed by model name
+     */
+    public Map<String, Schema> getSchemasByModelName() {
+        return Collections.unmodifiableMap(schemasByModelName);
+    }
+
+    /**
+     * @param ref a reference such as {@code #/components/schemas/Pet}
+     * @return the key of the referenced schema, or null if it's not part of the index
+     */
+    public String getSchemaKeyByRef(String ref) {
+        if (ref == null) {
+            return null;
+        }
+        String key = ModelUtils.getSimpleRef(ref);
+        return containsSchema(key) ? key : null;
+    }
+
+    /**
+     * @param ref a reference such as {@code #/components/schemas/Pet}
+     * @return the referenced schema, or null if it's not part of the index
+     */
+    public Schema getSchemaByRef(String ref) {
+        return getSchema(getSchemaKeyByRef(ref));
+    }
+
+    /**
+     * @param key a schema key
+     * @return the keys of the schemas referencing it in their {@code allOf}, in document order
+     */
+    public List<String> getAllOfChildren(String key) {
+        List<String> children = allOfChildren.get(key);
+        return children == null ? Collections.emptyList() : Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Walks the {@code allOf} hierarchy below a schema, breadth first.
+     * <p>
+     * A schema reachable through several parents is listed once. References back to {@code key} itself are ignored;
+     * any other cycle makes the descendants undefined.
+     *
+     * @param key a schema key
+     * @return the keys of all schemas (indirectly) extending it, nearest first and in document order per level
+     * @throws InheritanceCycleException if schemas below {@code key} extend each other
+     */
+    public List<String> getAllOfDescendants(String key) {
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        List<String> cached = allOfDescendants.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<String> descendants = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        seen.add(key);
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(key);
+        while (!queue.isEmpty()) {
+            for (String child : getAllOfChildren(queue.poll())) {
+                if (!seen.add(child)) {
+                    continue;
+                }
+                if (getAllOfGraph().isInCycle(child)) {
+                    Set<String> cycle = getAllOfGraph().getCycleMembers(child);
+                    if (!cycle.contains(key)) {
+                        throw new InheritanceCycleException(key, cycle);
+                    }
+                }
+                descendants.add(child);
+                queue.add(child);
+            }
+        }
+
+        List<String> result = Collections.unmodifiableList(descendants);
+        allOfDescendants.put(key, result);
+        return result;
+    }
+
+    private ModelDependencyGraph getAllOfGraph() {
+        ModelDependencyGraph graph = allOfGraph;
+        if (graph == null) {
+            graph = new ModelDependencyGraph(allOfChildren);
+            allOfGraph = graph;
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.*;
+
+/**
+ * How the schemas in {@code components/schemas} of a document are referenced from its paths, as computed by
+ * {@link ModelUtils#getSchemaUsage(io.swagger.v3.oas.models.OpenAPI)} in a single traversal.
+ * <p>
+ * Instances are immutable snapshots: they don't reflect changes made to the document afterwards.
+ */
+public final class SchemaUsage {
+    private static final Set<String> FORM_MEDIA_TYPES = new HashSet<>(Arrays.asList("application/x-www-form-urlencoded", "multipart/form-data"));
+
+    private final Set<String> usedSchemas;
+    private final Set<String> unusedSchemas;
+    private final Set<String> schemasUsedOnlyInFormParam;
+    private final Map<String, Set<String>> refsByMediaType;
+    private final Map<String, List<String>> childrenMap;
+
+    private SchemaUsage(Collector collector) {
+        this.usedSchemas = Collections.unmodifiableSet(collector.used);
+
+        Set<String> unused = new LinkedHashSet<>(collector.schemaNames);
+        unused.removeAll(collector.used);
+        this.unusedSchemas = Collections.unmodifiableSet(unused);
+
+        collector.usedInForm.removeAll(collector.usedElsewhere);
+        this.schemasUsedOnlyInFormParam = Collections.unmodifiableSet(collector.usedInForm);
+
+        Map<String, Set<String>> refs = new LinkedHashMap<>();
+        collector.refsByMediaType.forEach((mediaType, names) -> refs.put(mediaType, Collections.unmodifiableSet(names)));
+        this.refsByMediaType = Collections.unmodifiableMap(refs);
+
+        Map<String, List<String>> children = new LinkedHashMap<>();
+        collector.childrenMap.forEach((parent, names) -> children.put(parent, Collections.unmodifiableList(names)));
+        this.childrenMap = Collections.unmodifiableMap(children);
+    }
+
+    /**
+     * Records the references found while traversing a document, in traversal order.
+     */
+    static final class Collector {
+        private final Collection<String> schemaNames;
+        private final Map<String, List<String>> childrenMap;
+        private final Set<String> used = new LinkedHashSet<>();
+        private final Set<String> usedInForm = new LinkedHashSet<>();
+        private final Set<String> usedElsewhere = new HashSet<>();
+        private final Map<String, Set<String>> refsByMediaType = new LinkedHashMap<>();
+
+        /**
+         * @param schemaNames the names of all schemas in {@code components/schemas}
+         * @param childrenMap the names of the schemas extending each schema, by parent name
+         */
+        Collector(Collection<String> schemaNames, Map<String, List<String>> childrenMap) {
+            this.schemaNames = schemaNames;
+            this.childrenMap = childrenMap;
+        }
+
+        /**
+         * @param name      the simple name of a referenced schema
+         * @param mediaType the media type of the content the reference was found in, if any
+         */
+        void addReference(String name, String mediaType) {
+            used.add(name);
+            List<String> children = childrenMap.get(name);
+            if (children != null) {
+                used.addAll(children);
+            }
+            (isFormMediaType(mediaType) ? usedInForm : usedElsewhere).add(name);
+            refsByMediaType.computeIfAbsent(mediaType, k -> new LinkedHashSet<>()).add(name);
+        }
+
+        SchemaUsage build() {
+            return new SchemaUsage(this);
+        }
+    }
+
+    static boolean isFormMediaType(String mediaType) {
+        return mediaType != null && FORM_MEDIA_TYPES.contains(mediaType.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the referenced schemas and the schemas extending them
+     */
+    public Set<String> getUsedSchemas() {
+        return usedSchemas;
+    }
+
+    /**
+     * @return the schemas of {@code components/schemas} which are neither referenced nor extend a referenced schema
+     */
+    public Set<String> getUnusedSchemas() {
+        return unusedSchemas;
+    }
+
+    /**
+     * @return the schemas only referenced from 'application/x-www-form-urlencoded' or 'multipart/form-data' content
+     */
+    public Set<String> getSchemasUsedOnlyInFormParam() {
+        return schemasUsedOnlyInFormParam;
+    }
+
+    /**
+     * @return the referenced schema names by media type. As in the traversal, the key is null for parameter
+     * schemas and properties, and the header name for response header schemas
+     */
+    public Map<String, Set<String>> getRefsByMediaType() {
+        return refsByMediaType;
+    }
+
+    /**
+     * @return the names of the schemas extending each schema, by parent name
+     */
+    public Map<String, List<String>> getChildrenMap() {
+        return childrenMap;
+    }
+}
@@ -11,11 +11,22 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.validation.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * A validator which evaluates an OpenAPI 3.x specification document
  */
 public class OpenApiEvaluator implements Validator<OpenAPI> {
+    // below this, a thread isn't worth starting
+    private static final int MIN_EVALUATIONS_PER_THREAD = 64;
+    // more batches than threads, so that threads done early take over the remaining work
+    private static final int BATCHES_PER_THREAD = 4;
+
     private RuleConfiguration ruleConfiguration;
 
     /**
@@ -43,18 +54,22 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
         OpenApiSchemaValidations schemaValidations = new OpenApiSchemaValidations(ruleConfiguration);
         OpenApiOperationValidations operationValidations = new OpenApiOperationValidations(ruleConfiguration);
 
+        // Collect the evaluations in one pass over the document, they're independent of each other and may run in parallel.
+        List<Supplier<ValidationResult>> evaluations = new ArrayList<>();
+
         if (ruleConfiguration.isEnableUnusedSchemasRecommendation()) {
-            ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
-            ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> validationResult.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+            evaluations.add(() -> {
+                ValidationResult result = new ValidationResult();
+                ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
+                ModelUtils.getSchemaUsage(specification).getUnusedSchemas().forEach(schemaName -> result.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+                return result;
+            });
         }
 
         // Get list of all schemas under /components/schemas, including nested schemas defined inline and composed schema.
         // The validators must be able to validate every schema defined in the OAS document.
         List<Schema> schemas = ModelUtils.getAllSchemas(specification);
-        schemas.forEach(schema -> {
-            SchemaWrapper wrapper = new SchemaWrapper(specification, schema);
-            validationResult.consume(schemaValidations.validate(wrapper));
-        });
+        schemas.forEach(schema -> evaluations.add(() -> schemaValidations.validate(new SchemaWrapper(specification, schema))));
 
         List<Parameter> parameters = new ArrayList<>(50);
 
@@ -72,8 +87,7 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
                             parameters.addAll(op.getParameters());
                         }
 
-                        OperationWrapper wrapper = new OperationWrapper(specification, op, httpMethod);
-                        validationResult.consume(operationValidations.validate(wrapper));
+                        evaluations.add(() -> operationValidations.validate(new OperationWrapper(specification, op, httpMethod)));
                     }
                 });
             });
@@ -83,10 +97,8 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
         if (components != null) {
             Map<String, SecurityScheme> securitySchemes = components.getSecuritySchemes();
             if (securitySchemes != null && !securitySchemes.isEmpty()) {
-                securitySchemes.values().forEach(securityScheme -> {
-                    SecuritySchemeWrapper wrapper = new SecuritySchemeWrapper(specification, securityScheme);
-                    validationResult.consume(securitySchemeValidations.validate(wrapper));
-                });
+                securitySchemes.values().forEach(securityScheme ->
+                        evaluations.add(() -> securitySchemeValidations.validate(new SecuritySchemeWrapper(specification, securityScheme))));
             }
 
             if (components.getParameters() != null) {
@@ -94,11 +106,11 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
             }
         }
 
-        parameters.forEach(parameter -> {
-            parameter = ModelUtils.getReferencedParameter(specification, parameter);
-            ParameterWrapper wrapper = new ParameterWrapper(specification, parameter);
-            validationResult.consume(parameterValidations.validate(wrapper));
-        });
+        parameters.forEach(parameter -> evaluations.add(() ->
+                parameterValidations.validate(new ParameterWrapper(specification, ModelUtils.getReferencedParameter(specification, parameter)))));
+
+        // results are merged in the order of the evaluations, whichever thread ran them
+        evaluate(evaluations).forEach(validationResult::consume);
 
         List<Tag> tags = specification.getTags();
         if (tags != null && tags.size() > 1) {
@@ -123,4 +135,49 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
 
         return validationResult;
     }
+
+    /**
+     * Runs the evaluations on up to {@link RuleConfiguration#getParallelism()} threads.
+     *
+     * @param evaluations the evaluations to run
+     * @return the results, in the order of the evaluations
+     */
+    private List<ValidationResult> evaluate(List<Supplier<ValidationResult>> evaluations) {
+        List<ValidationResult> results = new ArrayList<>(evaluations.size());
+        int parallelism = Math.min(ruleConfiguration.getParallelism(), evaluations.size() / MIN_EVALUATIONS_PER_THREAD);
+        if (parallelism <= 1) {
+            evaluations.forEach(evaluation -> results.add(evaluation.get()));
+            return results;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-evaluator-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int batchSize = (evaluations.size() + parallelism * BATCHES_PER_THREAD - 1) / (parallelism * BATCHES_PER_THREAD);
+            List<Future<List<ValidationResult>>> futures = new ArrayList<>();
+            for (int from = 0; from < evaluations.size(); from += batchSize) {
+                List<Supplier<ValidationResult>> batch = evaluations.subList(from, Math.min(from + batchSize, evaluations.size()));
+                futures.add(executor.submit(() -> {
+                    List<ValidationResult> batchResults = new ArrayList<>(batch.size());
+                    batch.forEach(evaluation -> batchResults.add(evaluation.get()));
+                    return batchResults;
+                }));
+            }
+            for (Future<List<ValidationResult>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while validating the specification", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Could not validate the specification", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
 }
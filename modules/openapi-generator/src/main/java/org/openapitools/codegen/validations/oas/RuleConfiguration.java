@@ -2,6 +2,8 @@ package org.openapitools.codegen.validations.oas;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Allows for configuration of validation rules which will be applied to a specification.
@@ -10,6 +12,8 @@ import lombok.Setter;
 @Setter
 @SuppressWarnings({"WeakerAccess", "unused"})
 public class RuleConfiguration {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RuleConfiguration.class);
+
     private static String propertyPrefix = "openapi.generator.rule";
     /**
      * -- GETTER --
@@ -139,6 +143,29 @@ public class RuleConfiguration {
      */
     private boolean enableApiRequestUriWithBodyRecommendation = defaultedBoolean(propertyPrefix + ".anti-patterns.uri-unexpected-body", true);
 
+    /**
+     * -- GETTER --
+     * Gets the number of threads rules are evaluated on.
+     *
+     * @return the number of threads, <code>1</code> to evaluate rules on the calling thread
+     * -- SETTER --
+     * Set the number of threads rules are evaluated on. Results are reported in the same order whatever the number of threads.
+     * @param parallelism the number of threads, <code>1</code> to evaluate rules on the calling thread
+     */
+    private int parallelism = defaultedInt(propertyPrefix + ".parallelism", Runtime.getRuntime().availableProcessors());
+
+    @SuppressWarnings("SameParameterValue")
+    private static int defaultedInt(String key, int defaultValue) {
+        String property = System.getProperty(key);
+        if (property == null) return defaultValue;
+        try {
+            return Integer.parseInt(property.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring {}={}, which isn't a number; using {} instead", key, property, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @SuppressWarnings("SameParameterValue")
     private static boolean defaultedBoolean(String key, boolean defaultValue) {
         String property = System.getProperty(key);
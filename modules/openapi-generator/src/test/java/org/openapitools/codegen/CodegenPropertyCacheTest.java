@@ -0,0 +1,58 @@
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class CodegenPropertyCacheTest {
+
+    @Test
+    public void sharesPropertiesBetweenEqualSchemas() {
+        CodegenPropertyCache cache = new CodegenPropertyCache();
+        CodegenProperty property = new CodegenProperty();
+        cache.put("tags", new ArraySchema().items(new StringSchema()), false, false, property);
+
+        assertSame(cache.get("tags", new ArraySchema().items(new StringSchema()), false, false), property);
+        assertNull(cache.get("tags", new ArraySchema().items(new IntegerSchema()), false, false));
+        assertNull(cache.get("labels", new ArraySchema().items(new StringSchema()), false, false));
+        assertNull(cache.get("tags", new ArraySchema().items(new StringSchema()), true, false));
+        assertNull(cache.get("tags", new ArraySchema().items(new StringSchema()), false, true));
+
+        assertEquals(cache.getHits(), 1);
+        assertEquals(cache.getMisses(), 4);
+    }
+
+    @Test
+    public void comparesChangedSchemasAgainAfterInvalidation() {
+        CodegenPropertyCache cache = new CodegenPropertyCache();
+        Schema<?> schema = new ObjectSchema().addProperty("id", new IntegerSchema());
+        CodegenProperty property = new CodegenProperty();
+        cache.put("pet", schema, false, false, property);
+
+        schema.addProperty("name", new StringSchema());
+        // the fingerprint of the instance is memoized until it's invalidated
+        assertSame(cache.get("pet", schema, false, false), property);
+
+        cache.invalidate(schema);
+        assertNull(cache.get("pet", schema, false, false));
+    }
+
+    @Test
+    public void clearKeepsCounts() {
+        CodegenPropertyCache cache = new CodegenPropertyCache();
+        Schema<?> schema = new StringSchema();
+        cache.put("name", schema, true, false, new CodegenProperty());
+        assertNotNull(cache.get("name", schema, true, false));
+
+        cache.clear();
+        assertEquals(cache.size(), 0);
+        assertNull(cache.get("name", schema, true, false));
+        assertEquals(cache.getHits(), 1);
+        assertEquals(cache.getMisses(), 1);
+    }
+}
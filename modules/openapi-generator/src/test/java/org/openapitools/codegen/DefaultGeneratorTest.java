@@ -1,22 +1,33 @@
 package org.openapitools.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.JavaClientCodegen;
 import org.openapitools.codegen.model.ModelMap;
+import org.openapitools.codegen.model.ModelsMap;
+import org.openapitools.codegen.model.OperationMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.File;
@@ -26,6 +37,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class DefaultGeneratorTest {
 
@@ -115,6 +127,434 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelRenderingMatchesSerialOutput() throws IOException {
+        assertSameOutput("src/test/resources/3_0/petstore.yaml", configurator -> configurator.setGeneratorParallelism(4));
+    }
+
+    @Test
+    public void testParallelConversionMatchesSerialOutput() throws IOException {
+        assertSameOutput("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml",
+                configurator -> configurator.setConversionParallelism(4));
+    }
+
+    @Test
+    public void testParallelConversionKeepsUniqueOperationIdsDeterministic() throws Exception {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.setPaths(new Paths());
+        for (int i = 0; i < 50; i++) {
+            openAPI.getPaths().addPathItem("/path" + i, new PathItem().get(new Operation().operationId("op")
+                    .addParametersItem(new QueryParameter().name("p" + i).schema(new StringSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))));
+        }
+
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        CodegenConfig config = new DefaultCodegen();
+        config.setConversionParallelism(4);
+        opts.config(config);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        List<CodegenOperation> operations = generator.processPaths(openAPI.getPaths()).get("Default");
+        Assert.assertEquals(operations.size(), 50);
+        Assert.assertEquals(operations.get(0).operationId, "op");
+        for (int i = 1; i < 50; i++) {
+            Assert.assertEquals(operations.get(i).path, "/path" + i);
+            Assert.assertEquals(operations.get(i).operationId, "op_" + (i - 1));
+            Assert.assertEquals(operations.get(i).allParams.get(0).baseName, "p" + i);
+        }
+    }
+
+    @Test
+    public void testLowMemoryGenerationMatchesDefaultOutput() throws IOException {
+        DefaultGenerator lowMemoryGenerator = assertSameOutput("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml",
+                configurator -> configurator.setLowMemoryGeneration(true));
+
+        // the supporting files of the java client declare their aggregates, so its models are summarized
+        SupportingFileAggregates aggregates = lowMemoryGenerator.findSupportingFileAggregates();
+        Assert.assertEquals(aggregates.get(SupportingFileAggregates.MODELS), SupportingFileAggregates.Usage.SUMMARY);
+        Assert.assertEquals(aggregates.get(SupportingFileAggregates.WEBHOOKS), SupportingFileAggregates.Usage.NONE);
+    }
+
+    @DataProvider(name = "javaClientLibraries")
+    public static Object[][] javaClientLibraries() {
+        return new JavaClientCodegen().supportedLibraries().keySet().stream()
+                .map(library -> new Object[]{library})
+                .toArray(Object[][]::new);
+    }
+
+    /**
+     * The supporting file templates of every library declare their aggregates, a wrong declaration renders empty
+     * sections in low-memory mode.
+     */
+    @Test(dataProvider = "javaClientLibraries")
+    public void testLowMemoryGenerationMatchesDefaultOutputForLibrary(String library) throws IOException {
+        assertSameOutput("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml", library,
+                configurator -> configurator.setLowMemoryGeneration(true));
+    }
+
+    private static DefaultGenerator assertSameOutput(String inputSpec, Consumer<CodegenConfigurator> variant) throws IOException {
+        return assertSameOutput(inputSpec, null, variant);
+    }
+
+    /**
+     * Generates the java client twice, with the default configuration and with a variant of it, and checks that both
+     * runs write the same files with the same content.
+     *
+     * @param inputSpec the spec to generate from
+     * @param library   the library of the java client, null for the default one
+     * @param variant   changes the configuration of the second run
+     * @return the generator of the second run
+     */
+    private static DefaultGenerator assertSameOutput(String inputSpec, String library, Consumer<CodegenConfigurator> variant) throws IOException {
+        Path defaultTarget = Files.createTempDirectory("test-default");
+        Path variantTarget = Files.createTempDirectory("test-variant");
+        try {
+            List<File> defaultFiles = new DefaultGenerator().opts(new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setLibrary(library)
+                    .setInputSpec(inputSpec)
+                    .setOutputDir(defaultTarget.toAbsolutePath().toString())
+                    .addAdditionalProperty("hideGenerationTimestamp", true)
+                    .toClientOptInput()).generate();
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setLibrary(library)
+                    .setInputSpec(inputSpec)
+                    .setOutputDir(variantTarget.toAbsolutePath().toString())
+                    .addAdditionalProperty("hideGenerationTimestamp", true);
+            variant.accept(configurator);
+            DefaultGenerator variantGenerator = new DefaultGenerator();
+            List<File> variantFiles = variantGenerator.opts(configurator.toClientOptInput()).generate();
+
+            Assert.assertEquals(variantFiles.size(), defaultFiles.size());
+            for (int i = 0; i < defaultFiles.size(); i++) {
+                Path relative = defaultTarget.relativize(defaultFiles.get(i).toPath().toAbsolutePath());
+                Assert.assertEquals(variantTarget.relativize(variantFiles.get(i).toPath().toAbsolutePath()), relative);
+                Assert.assertEquals(Files.readAllBytes(variantTarget.resolve(relative)), Files.readAllBytes(defaultTarget.resolve(relative)),
+                        relative.toString());
+            }
+            return variantGenerator;
+        } finally {
+            defaultTarget.toFile().deleteOnExit();
+            variantTarget.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testLowMemoryGenerationKeepsDeclaredAggregates() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        Path templates = Files.createTempDirectory("templates");
+        try {
+            Files.write(templates.resolve("models.mustache"),
+                    ("{{! aggregates: models:summary }}"
+                            + "{{#models}}{{#model}}{{classname}}{{#vars}}+{{/vars}};{{/model}}{{/models}}"
+                            + "{{#apiInfo}}{{#apis}}api;{{/apis}}{{/apiInfo}}").getBytes(StandardCharsets.UTF_8));
+
+            String defaultOutput = generateSupportingFile(templates, target.resolve("default"), false);
+            Assert.assertTrue(defaultOutput.contains("Category++;"), defaultOutput);
+            Assert.assertTrue(defaultOutput.contains("api;"), defaultOutput);
+
+            // the models are summarized once rendered, and the APIs aren't kept
+            String lowMemoryOutput = generateSupportingFile(templates, target.resolve("low-memory"), true);
+            Assert.assertTrue(lowMemoryOutput.contains("Category;Order;Pet;Tag;User;"), lowMemoryOutput);
+            Assert.assertFalse(lowMemoryOutput.contains("+"), lowMemoryOutput);
+            Assert.assertFalse(lowMemoryOutput.contains("api;"), lowMemoryOutput);
+        } finally {
+            target.toFile().deleteOnExit();
+            templates.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testLowMemoryGenerationOnlyTrustsDeclaredSupportingFileDataHooks() {
+        DefaultCodegen undeclared = new DefaultCodegen() {
+            @Override
+            public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+                return objs;
+            }
+        };
+        Assert.assertEquals(findSupportingFileAggregates(undeclared).get(SupportingFileAggregates.MODELS), SupportingFileAggregates.Usage.FULL);
+
+        DefaultCodegen declared = new DefaultCodegen() {
+            @Override
+            public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+                return objs;
+            }
+
+            @Override
+            public SupportingFileAggregates getSupportingFileDataAggregates() {
+                return SupportingFileAggregates.declaredBy("{{! aggregates: models:summary }}");
+            }
+        };
+        SupportingFileAggregates aggregates = findSupportingFileAggregates(declared);
+        Assert.assertEquals(aggregates.get(SupportingFileAggregates.MODELS), SupportingFileAggregates.Usage.SUMMARY);
+        Assert.assertEquals(aggregates.get(SupportingFileAggregates.API_INFO), SupportingFileAggregates.Usage.NONE);
+    }
+
+    private static SupportingFileAggregates findSupportingFileAggregates(DefaultCodegen codegen) {
+        codegen.setLowMemoryGeneration(true);
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(TestUtils.createOpenAPI());
+        opts.config(codegen);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        return generator.findSupportingFileAggregates();
+    }
+
+    private static String generateSupportingFile(Path templates, Path target, boolean lowMemoryGeneration) throws IOException {
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setTemplateDir(templates.toAbsolutePath().toString());
+        codegen.setOutputDir(target.toAbsolutePath().toString());
+        codegen.setLowMemoryGeneration(lowMemoryGeneration);
+        codegen.supportingFiles().add(new SupportingFile("models.mustache", "", "models.txt"));
+
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml"));
+        opts.config(codegen);
+        new DefaultGenerator().opts(opts).generate();
+        return new String(Files.readAllBytes(target.resolve("models.txt")), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testOutputFileCollisionsAreFoundBeforeRendering() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        Path templates = Files.createTempDirectory("templates");
+        try {
+            Files.write(templates.resolve("model.mustache"), "{{#models}}{{#model}}{{classname}}{{/model}}{{/models}}".getBytes(StandardCharsets.UTF_8));
+            DefaultCodegen codegen = new DefaultCodegen() {
+                @Override
+                public String toModelFilename(String name) {
+                    // model names differing only by case are made unique, so the file names are made to collide
+                    return "Pet".equals(name) ? "Model" : "model";
+                }
+            };
+            codegen.setTemplateDir(templates.toAbsolutePath().toString());
+            codegen.setOutputDir(target.toAbsolutePath().toString());
+            codegen.modelTemplateFiles().put("model.mustache", ".txt");
+            OpenAPI openAPI = TestUtils.createOpenAPI();
+            openAPI.getComponents().addSchemas("Pet", new ObjectSchema().addProperty("id", new IntegerSchema()));
+            openAPI.getComponents().addSchemas("Category", new ObjectSchema().addProperty("id", new IntegerSchema()));
+            ClientOptInput opts = new ClientOptInput();
+            opts.openAPI(openAPI);
+            opts.config(codegen);
+
+            List<Integer> collisionsWhenRendering = new ArrayList<>();
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.addGenerationListener(new GenerationListener() {
+                @Override
+                public void templateRendered(String templateName, File file, long nanos, long bytes, long allocatedBytes) {
+                    collisionsWhenRendering.add(generator.getOutputFileRegistry().getCollisions().size());
+                }
+            });
+            generator.opts(opts).generate();
+            Assert.assertEquals(collisionsWhenRendering.get(0), Integer.valueOf(1));
+            int plannedFiles = generator.getOutputFileRegistry().size();
+
+            // a second run starts from scratch; the ignore file isn't written again once it exists
+            Files.delete(target.resolve(".openapi-generator-ignore"));
+            generator.opts(opts).generate();
+            Assert.assertEquals(generator.getOutputFileRegistry().size(), plannedFiles);
+            Assert.assertEquals(generator.getOutputFileRegistry().getCollisions().size(), 1);
+        } finally {
+            target.toFile().deleteOnExit();
+            templates.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testFilesPlannedTwiceAreRegisteredOncePerRendering() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        Path templates = Files.createTempDirectory("templates");
+        try {
+            Files.write(templates.resolve("model.mustache"), "{{#models}}{{#model}}{{classname}}{{/model}}{{/models}}".getBytes(StandardCharsets.UTF_8));
+            DefaultCodegen codegen = new DefaultCodegen();
+            codegen.setTemplateDir(templates.toAbsolutePath().toString());
+            codegen.setOutputDir(target.toAbsolutePath().toString());
+            // both templates write the same file
+            codegen.modelTemplateFiles().put("model.mustache", ".txt");
+            codegen.modelTemplateFiles().put("model_copy.mustache", ".txt");
+            Files.copy(templates.resolve("model.mustache"), templates.resolve("model_copy.mustache"));
+            OpenAPI openAPI = TestUtils.createOpenAPI();
+            openAPI.getComponents().addSchemas("Pet", new ObjectSchema().addProperty("id", new IntegerSchema()));
+            ClientOptInput opts = new ClientOptInput();
+            opts.openAPI(openAPI);
+            opts.config(codegen);
+
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.opts(opts).generate();
+            // registered when planned, not once more when rendered
+            Assert.assertEquals(generator.getOutputFileRegistry().getPlannedFiles().stream()
+                    .filter(path -> path.getFileName().toString().equals("Pet.txt")).count(), 2L);
+        } finally {
+            target.toFile().deleteOnExit();
+            templates.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testParallelRenderingReportsTheFailingModel() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        Path templates = Files.createTempDirectory("templates");
+        try {
+            // an unclosed section fails when the template is compiled, on a render thread
+            Files.write(templates.resolve("model.mustache"), "{{#models}}".getBytes(StandardCharsets.UTF_8));
+            DefaultCodegen codegen = new DefaultCodegen();
+            codegen.setTemplateDir(templates.toAbsolutePath().toString());
+            codegen.setOutputDir(target.toAbsolutePath().toString());
+            codegen.setGeneratorParallelism(4);
+            codegen.modelTemplateFiles().put("model.mustache", ".txt");
+            OpenAPI openAPI = TestUtils.createOpenAPI();
+            openAPI.getComponents().addSchemas("Pet", new ObjectSchema().addProperty("id", new IntegerSchema()));
+            ClientOptInput opts = new ClientOptInput();
+            opts.openAPI(openAPI);
+            opts.config(codegen);
+
+            RuntimeException e = Assert.expectThrows(RuntimeException.class, () -> new DefaultGenerator().opts(opts).generate());
+            Assert.assertTrue(e.getMessage().startsWith("Could not generate model 'Pet'"), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("Pet.txt"), e.getMessage());
+            Assert.assertNotNull(e.getCause());
+        } finally {
+            target.toFile().deleteOnExit();
+            templates.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testPhaseFinishedWhenGenerationFails() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            List<GenerationListener.Phase> finished = new ArrayList<>();
+            DefaultCodegen codegen = new DefaultCodegen() {
+                @Override
+                public Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs) {
+                    throw new IllegalStateException("failing on purpose");
+                }
+            };
+            codegen.setOutputDir(target.toAbsolutePath().toString());
+            ClientOptInput opts = new ClientOptInput();
+            opts.openAPI(TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml"));
+            opts.config(codegen);
+            DefaultGenerator generator = new DefaultGenerator().addGenerationListener(new GenerationListener() {
+                @Override
+                public void phaseFinished(Phase phase) {
+                    finished.add(phase);
+                }
+            });
+
+            Assert.assertThrows(IllegalStateException.class, () -> generator.opts(opts).generate());
+            Assert.assertEquals(finished.get(finished.size() - 1), GenerationListener.Phase.MODELS);
+        } finally {
+            GlobalSettings.reset();
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testGenerationTimingsReport() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            List<GenerationListener.Phase> phases = Collections.synchronizedList(new ArrayList<>());
+            GenerationTimings timings = new GenerationTimings();
+            DefaultGenerator generator = new DefaultGenerator()
+                    .addGenerationListener(timings)
+                    .addGenerationListener(new GenerationListener() {
+                        @Override
+                        public void phaseStarted(Phase phase) {
+                            phases.add(phase);
+                        }
+                    });
+            List<File> files = generator.opts(new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(target.toAbsolutePath().toString())
+                    .setGeneratorParallelism(2)
+                    .toClientOptInput()).generate();
+
+            Assert.assertEquals(phases, Arrays.asList(GenerationListener.Phase.NORMALIZE, GenerationListener.Phase.INLINE_MODELS,
+                    GenerationListener.Phase.PREPROCESS, GenerationListener.Phase.MODELS, GenerationListener.Phase.APIS, GenerationListener.Phase.WEBHOOKS,
+                    GenerationListener.Phase.SUPPORTING_FILES, GenerationListener.Phase.POST_PROCESS));
+
+            Path report = target.resolve("timings/report.json");
+            timings.writeReport(report.toFile());
+            JsonNode json = new ObjectMapper().readTree(report.toFile());
+            Assert.assertEquals(json.get("generator").asText(), "java");
+            Assert.assertTrue(json.get("totalMillis").asDouble() > 0);
+            Assert.assertEquals(json.get("phases").size(), phases.size());
+
+            List<String> models = new ArrayList<>();
+            json.get("models").forEach(model -> models.add(model.get("model").asText()));
+            Assert.assertTrue(models.containsAll(Arrays.asList("Pet", "Category", "Tag", "User", "Order", "ApiResponse")), models.toString());
+
+            JsonNode modelTemplate = null;
+            for (JsonNode template : json.get("templates")) {
+                if ("model.mustache".equals(template.get("template").asText())) {
+                    modelTemplate = template;
+                }
+            }
+            Assert.assertNotNull(modelTemplate);
+            Assert.assertEquals(modelTemplate.get("count").asInt(), 6);
+            Assert.assertTrue(modelTemplate.get("bytesWritten").asLong() > 0);
+            Assert.assertEquals(json.get("allocationMeasured").asBoolean(), GenerationTimings.isAllocationMeasured());
+            if (GenerationTimings.isAllocationMeasured()) {
+                Assert.assertTrue(modelTemplate.get("allocatedBytes").asLong() > 0);
+            }
+
+            // all but the metadata files are rendered from templates
+            long rendered = files.stream().filter(f -> !".openapi-generator".equals(f.getParentFile().getName())).count();
+            Assert.assertEquals(json.get("files").size(), rendered);
+            Assert.assertTrue(json.get("templateCache").get("misses").asLong() > 0);
+            Assert.assertTrue(json.get("propertyCache").get("misses").asLong() > 0);
+            Assert.assertFalse(timings.summary().isEmpty());
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationOnlyRendersChangedFiles() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(target.toAbsolutePath().toString())
+                    .setIncrementalGeneration(true);
+            new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+            Path manifest = target.resolve(".openapi-generator/MANIFEST");
+            Path category = target.resolve("src/main/java/org/openapitools/client/model/Category.java");
+            Path pet = target.resolve("src/main/java/org/openapitools/client/model/Pet.java");
+            List<String> entries = Files.readAllLines(manifest);
+            Assert.assertTrue(entries.stream().anyMatch(e -> e.endsWith(" src/main/java/org/openapitools/client/model/Category.java")));
+            Assert.assertTrue(entries.stream().noneMatch(e -> e.contains("src/test/")), "test files aren't tracked");
+
+            // an unchanged file of the same size is kept, a file of a different size is rendered again
+            byte[] marker = new byte[(int) Files.size(category)];
+            Arrays.fill(marker, (byte) 'x');
+            Files.write(category, marker);
+            Files.write(pet, new byte[0]);
+            List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+            TestUtils.ensureContainsFile(files, target.toFile(), "src/main/java/org/openapitools/client/model/Category.java");
+            Assert.assertEquals(Files.readAllBytes(category), marker);
+            Assert.assertTrue(Files.size(pet) > 0);
+            Assert.assertTrue(Files.readAllLines(target.resolve(".openapi-generator/FILES"))
+                    .contains("src/main/java/org/openapitools/client/model/Category.java"));
+
+            // a different model package changes the output paths, files in the old package are deleted
+            new DefaultGenerator().opts(configurator.setModelPackage("org.openapitools.client.other").toClientOptInput()).generate();
+
+            Assert.assertFalse(Files.exists(category));
+            Assert.assertFalse(Files.exists(pet));
+            Assert.assertTrue(Files.exists(target.resolve("src/main/java/org/openapitools/client/other/Category.java")));
+            Assert.assertTrue(Files.exists(target.resolve("src/test/java/org/openapitools/client/model/CategoryTest.java")));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @Test
     public void testFilesAreNeverOverwritten() throws IOException {
@@ -398,6 +838,104 @@ public class DefaultGeneratorTest {
         Assert.assertEquals(defaultList.get(3).allParams.size(), 1);
     }
 
+    @Test
+    public void testProcessPathsCopiesMultiTagOperations() throws Exception {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.setPaths(new Paths());
+        openAPI.getPaths().addPathItem("/pets", new PathItem().get(new Operation().operationId("listPets").addTagsItem("pet").addTagsItem("store")
+                .addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema()))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))));
+
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        opts.config(new DefaultCodegen());
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        Map<String, List<CodegenOperation>> result = generator.processPaths(openAPI.getPaths());
+        Assert.assertEquals(result.size(), 2);
+        CodegenOperation pet = result.get("Pet").get(0);
+        CodegenOperation store = result.get("Store").get(0);
+        Assert.assertNotSame(pet, store);
+        Assert.assertEquals(pet.baseName, "Pet");
+        Assert.assertEquals(store.baseName, "Store");
+        Assert.assertEquals(pet.operationId, store.operationId);
+        Assert.assertEquals(pet.tags.size(), 2);
+        Assert.assertEquals(store.tags.size(), 2);
+
+        // the parameters may be changed for one tag without changing the operation of the other
+        Assert.assertNotSame(pet.allParams, store.allParams);
+        Assert.assertEquals(pet.allParams, store.allParams);
+        Assert.assertNotSame(pet.allParams.get(0), store.allParams.get(0));
+        Assert.assertNotSame(pet.queryParams.get(0), store.queryParams.get(0));
+    }
+
+    @Test
+    public void testMultiTagOperationsArePostProcessedPerTag() throws Exception {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.getComponents().addSecuritySchemes("api_key", new SecurityScheme().type(SecurityScheme.Type.APIKEY)
+                .in(SecurityScheme.In.HEADER).name("api_key"));
+        openAPI.setPaths(new Paths());
+        ApiResponses responses = new ApiResponses()
+                .addApiResponse("200", new ApiResponse().description("OK")
+                        .content(new Content().addMediaType("application/json", new MediaType().schema(new StringSchema()))))
+                .addApiResponse("404", new ApiResponse().description("Not found"));
+        openAPI.getPaths().addPathItem("/pets", new PathItem()
+                .get(new Operation().operationId("listPets").addTagsItem("pet").addTagsItem("store").responses(responses)
+                        .addSecurityItem(new SecurityRequirement().addList("api_key")))
+                .post(new Operation().operationId("addPet").addTagsItem("pet").responses(responses)
+                        .addSecurityItem(new SecurityRequirement().addList("api_key"))));
+
+        // post-processing which depends on the group of the operation, as e.g. an operation id made unique per group
+        DefaultCodegen config = new DefaultCodegen() {
+            @Override
+            public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
+                String group = objs.getOperations().getClassname();
+                for (CodegenOperation operation : objs.getOperations().getOperation()) {
+                    String value = group + "." + operation.operationId;
+                    operation.vendorExtensions.put("x-group", value);
+                    operation.returnProperty.vendorExtensions.put("x-group", value);
+                    operation.responses.forEach(response -> response.vendorExtensions.put("x-group", value));
+                    operation.authMethods.forEach(security -> security.vendorExtensions.put("x-group", value));
+                }
+                return objs;
+            }
+        };
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        opts.config(config);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        Map<String, List<CodegenOperation>> result = generator.processPaths(openAPI.getPaths());
+        result.forEach((group, operations) -> {
+            OperationMap operationMap = new OperationMap();
+            operationMap.setClassname(group);
+            operationMap.setOperation(operations);
+            OperationsMap objs = new OperationsMap();
+            objs.setOperation(operationMap);
+            config.postProcessOperationsWithModels(objs, Collections.emptyList());
+        });
+
+        CodegenOperation pet = result.get("Pet").stream().filter(op -> "listPets".equals(op.operationId)).findFirst().get();
+        CodegenOperation addPet = result.get("Pet").stream().filter(op -> "addPet".equals(op.operationId)).findFirst().get();
+        CodegenOperation store = result.get("Store").get(0);
+        for (CodegenOperation operation : Arrays.asList(pet, addPet, store)) {
+            String expected = operation.baseName + "." + operation.operationId;
+            Assert.assertEquals(operation.vendorExtensions.get("x-group"), expected);
+            Assert.assertEquals(operation.responses.size(), 2);
+            operation.responses.forEach(response -> Assert.assertEquals(response.vendorExtensions.get("x-group"), expected));
+            Assert.assertEquals(operation.authMethods.size(), 1);
+            Assert.assertEquals(operation.authMethods.get(0).vendorExtensions.get("x-group"), expected);
+        }
+        // the return property of an operation may be shared with other operations returning the same schema
+        Assert.assertNotSame(pet.returnProperty, store.returnProperty);
+        Assert.assertEquals(pet.returnProperty.vendorExtensions.get("x-group"), "Pet.listPets");
+        Assert.assertNotSame(pet.responses.get(0), store.responses.get(0));
+        Assert.assertEquals(pet.responses.get(0).code, store.responses.get(0).code);
+        Assert.assertEquals(pet.authMethods.get(0).name, addPet.authMethods.get(0).name);
+    }
+
     @Test
     public void testRefModelValidationProperties() {
         OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/2_0/refAliasedPrimitiveWithValidation.yml");
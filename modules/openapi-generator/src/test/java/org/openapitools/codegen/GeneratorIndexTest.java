@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.meta.Stability;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class GeneratorIndexTest {
+
+    @Test
+    public void testDescriptorsMatchInstantiatedGenerators() {
+        List<GeneratorDescriptor> expected = CodegenConfigLoader.getAll().stream()
+                .map(GeneratorDescriptor::of)
+                .collect(Collectors.toList());
+
+        assertEquals(CodegenConfigLoader.getDescriptors(), expected);
+    }
+
+    @Test
+    public void testIndexIsBuilt() {
+        GeneratorDescriptor java = GeneratorIndex.get().findByName("java");
+
+        assertNotNull(java, "the generator index is written in the process-classes phase");
+        assertEquals(java.getClassName(), JavaClientCodegen.class.getName());
+        assertEquals(GeneratorIndex.get().findByClassName(JavaClientCodegen.class.getName()), java);
+    }
+
+    @Test
+    public void testFormatAndParse() {
+        GeneratorDescriptor descriptor = new GeneratorDescriptor("java", JavaClientCodegen.class.getName(),
+                CodegenType.CLIENT, Stability.STABLE, GeneratorLanguage.JAVA);
+        GeneratorDescriptor withoutMetadata = new GeneratorDescriptor("custom", "com.example.CustomCodegen", null, null, null);
+
+        assertEquals(GeneratorIndex.parse(GeneratorIndex.format(descriptor)), descriptor);
+        assertEquals(GeneratorIndex.parse(GeneratorIndex.format(withoutMetadata)), withoutMetadata);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMalformedEntryIsRejected() {
+        GeneratorIndex.parse("java\torg.openapitools.codegen.languages.JavaClientCodegen");
+    }
+
+    @Test
+    public void testForName() {
+        assertTrue(CodegenConfigLoader.forName("java") instanceof JavaClientCodegen);
+        assertTrue(CodegenConfigLoader.forName(JavaClientCodegen.class.getName()) instanceof JavaClientCodegen);
+    }
+
+    @Test(expectedExceptions = GeneratorNotFoundException.class)
+    public void testForNameOfUnknownGenerator() {
+        CodegenConfigLoader.forName("does-not-exist");
+    }
+}
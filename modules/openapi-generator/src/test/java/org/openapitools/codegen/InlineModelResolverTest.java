@@ -1100,6 +1100,34 @@ public class InlineModelResolverTest {
         assertTrue(schema2.getProperties().get("id") instanceof IntegerSchema);
     }
 
+    @Test
+    public void testInlineSchemaReuseComparesStructure() {
+        OpenAPI openapi = new OpenAPI();
+        openapi.setComponents(new Components());
+        openapi.getComponents().addSchemas("First", new ObjectSchema()
+                .addProperty("address", addressSchema("street")));
+        openapi.getComponents().addSchemas("Second", new ObjectSchema()
+                .addProperty("address", addressSchema("street")));
+        openapi.getComponents().addSchemas("Third", new ObjectSchema()
+                .addProperty("address", addressSchema("road")));
+
+        new InlineModelResolver().flatten(openapi);
+
+        Map<String, Schema> schemas = openapi.getComponents().getSchemas();
+        String first = ((Schema) schemas.get("First").getProperties().get("address")).get$ref();
+        String second = ((Schema) schemas.get("Second").getProperties().get("address")).get$ref();
+        String third = ((Schema) schemas.get("Third").getProperties().get("address")).get$ref();
+        // equal inline schemas are generated once, whatever the instance
+        assertEquals(first, second);
+        assertFalse(first.equals(third));
+    }
+
+    private static Schema addressSchema(String streetName) {
+        return new ObjectSchema()
+                .addProperty(streetName, new StringSchema().maxLength(64))
+                .addProperty("city", new StringSchema());
+    }
+
     @Test
     public void resolveInlineRequestBodyAllOf() {
         OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/inline_model_resolver.yaml");
@@ -16,7 +16,9 @@
 
 package org.openapitools.codegen;
 
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.oas.models.responses.ApiResponse;
@@ -1001,6 +1003,22 @@ public class OpenAPINormalizerTest {
         assertEquals(((Schema) apiResponse2.getContent().get("application/json").getSchema().getProperties().get("label")).getType(), "string");
     }
 
+    @Test
+    public void testVisitedSchemasAreComparedByIdentity() {
+        // an array schema containing itself, whose deep hash code never returns
+        ArraySchema tree = new ArraySchema();
+        tree.setItems(tree);
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Tree", tree));
+
+        OpenAPINormalizer openAPINormalizer = new OpenAPINormalizer(openAPI, Map.of("SET_CONTAINER_TO_NULLABLE", "array"));
+        openAPINormalizer.normalize();
+        assertTrue(tree.getNullable());
+
+        Set<Schema> visitedSchemas = openAPINormalizer.newVisitedSchemas();
+        visitedSchemas.add(new StringSchema());
+        assertFalse(visitedSchemas.contains(new StringSchema()));
+    }
+
     @Test
     public void testOpenAPINormalizerBearerAuthSpec() {
         OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/2_0/globalSecurity.json");
@@ -1035,6 +1053,38 @@ public class OpenAPINormalizerTest {
         assertEquals(requiredProperties.getRequired(), null);
     }
 
+    @Test
+    public void testNormalizerClassOverridingDisabledRules() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml");
+        openAPI.getComponents().addSchemas("Flag", new BooleanSchema());
+        Map<String, String> inputRules = Map.of(
+                "NORMALIZER_CLASS", UnconditionalRulesNormalizer.class.getName()
+        );
+        OpenAPINormalizer openAPINormalizer = OpenAPINormalizer.createNormalizer(openAPI, inputRules);
+        openAPINormalizer.normalize();
+
+        // the overridden rules run although SET_TAGS_TO_OPERATIONID and SIMPLIFY_BOOLEAN_ENUM aren't enabled
+        assertEquals(openAPI.getPaths().get("/pet").getPost().getTags(), List.of("addPet"));
+        assertEquals(openAPI.getComponents().getSchemas().get("Flag").getExtensions().get("x-visited"), true);
+    }
+
+    public static class UnconditionalRulesNormalizer extends OpenAPINormalizer {
+
+        public UnconditionalRulesNormalizer(OpenAPI openAPI, Map<String, String> inputRules) {
+            super(openAPI, inputRules);
+        }
+
+        @Override
+        protected void processSetTagsToOperationId(Operation operation) {
+            operation.setTags(List.of(operation.getOperationId()));
+        }
+
+        @Override
+        protected void processSimplifyBooleanEnum(Schema schema) {
+            schema.addExtension("x-visited", true);
+        }
+    }
+
     public static class RemoveRequiredNormalizer extends OpenAPINormalizer {
 
         public RemoveRequiredNormalizer(OpenAPI openAPI, Map<String, String> inputRules) {
@@ -0,0 +1,45 @@
+package org.openapitools.codegen;
+
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.testng.Assert.*;
+
+public class OutputFileRegistryTest {
+
+    @Test
+    public void detectsPathsDifferingOnlyByCase() {
+        OutputFileRegistry registry = new OutputFileRegistry();
+        Path pet = Paths.get("/out/model/Pet.java").toAbsolutePath();
+        Path petLowercase = Paths.get("/out/model/pet.java").toAbsolutePath();
+        Path category = Paths.get("/out/model/Category.java").toAbsolutePath();
+
+        assertFalse(registry.register(pet));
+        assertFalse(registry.register(category));
+        assertTrue(registry.register(petLowercase));
+
+        assertTrue(registry.contains(Paths.get("/out/MODEL/PET.java").toAbsolutePath()));
+        assertEquals(registry.getPlannedFiles(), Arrays.asList(pet, category, petLowercase));
+        assertEquals(registry.getCollisions().size(), 1);
+        assertEquals(registry.getCollisions().values().iterator().next(), Arrays.asList(pet, petLowercase));
+    }
+
+    @Test
+    public void clearForgetsRegisteredFiles() {
+        OutputFileRegistry registry = new OutputFileRegistry();
+        Path modelDir = Paths.get("/out/model").toAbsolutePath();
+        registry.register(modelDir.resolve("Pet.java"));
+        registry.register(modelDir.resolve("Category.java"));
+
+        assertTrue(registry.getCollisions().isEmpty());
+        assertEquals(registry.size(), 2);
+
+        registry.clear();
+        assertEquals(registry.size(), 0);
+        assertFalse(registry.contains(modelDir.resolve("Pet.java")));
+        assertFalse(registry.register(modelDir.resolve("Pet.java")));
+    }
+}
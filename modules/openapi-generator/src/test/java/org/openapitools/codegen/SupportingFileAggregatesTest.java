@@ -0,0 +1,53 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.SupportingFileAggregates.Usage;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class SupportingFileAggregatesTest {
+
+    @Test
+    public void readsDeclaration() {
+        SupportingFileAggregates aggregates = SupportingFileAggregates.declaredBy(
+                "# {{appName}}\n{{! aggregates: models:summary apiInfo }}\n{{#models}}{{/models}}");
+
+        assertEquals(aggregates.get(SupportingFileAggregates.MODELS), Usage.SUMMARY);
+        assertEquals(aggregates.get(SupportingFileAggregates.API_INFO), Usage.FULL);
+        assertEquals(aggregates.get(SupportingFileAggregates.ALIAS_MODELS), Usage.NONE);
+        assertEquals(aggregates.get(SupportingFileAggregates.WEBHOOKS), Usage.NONE);
+    }
+
+    @Test
+    public void readsHandlebarsDeclaration() {
+        SupportingFileAggregates aggregates = SupportingFileAggregates.declaredBy("{{!-- aggregates: webhooks, aliasModels --}}");
+
+        assertEquals(aggregates.get(SupportingFileAggregates.WEBHOOKS), Usage.FULL);
+        assertEquals(aggregates.get(SupportingFileAggregates.ALIAS_MODELS), Usage.FULL);
+        assertEquals(aggregates.get(SupportingFileAggregates.MODELS), Usage.NONE);
+    }
+
+    @Test
+    public void usesAllAggregatesWithoutDeclaration() {
+        SupportingFileAggregates aggregates = SupportingFileAggregates.declaredBy("{{#models}}{{/models}}");
+
+        assertEquals(aggregates.get(SupportingFileAggregates.MODELS), Usage.FULL);
+        assertEquals(aggregates.get(SupportingFileAggregates.API_INFO), Usage.FULL);
+        assertEquals(SupportingFileAggregates.declaredBy("{{! aggregates: }}").get(SupportingFileAggregates.MODELS), Usage.NONE);
+    }
+
+    @Test
+    public void addKeepsLargestUsage() {
+        SupportingFileAggregates aggregates = SupportingFileAggregates.none()
+                .add(SupportingFileAggregates.declaredBy("{{! aggregates: models }}"))
+                .add(SupportingFileAggregates.declaredBy("{{! aggregates: models:summary apiInfo }}"));
+
+        assertEquals(aggregates.get(SupportingFileAggregates.MODELS), Usage.FULL);
+        assertEquals(aggregates.get(SupportingFileAggregates.API_INFO), Usage.FULL);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsUnknownAggregate() {
+        SupportingFileAggregates.declaredBy("{{! aggregates: apiInfo:summary }}");
+    }
+}
@@ -186,6 +186,32 @@ public class TemplateManagerTest {
         }
     }
 
+    @Test
+    public void minimalUpdateRewritesChangedContentsOfSameSize() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            File output = new File(target.toFile(), "simple.txt");
+            byte[] rendered = Files.readAllBytes(manager.write(data, "simple.mustache", output).toPath());
+
+            byte[] sameSize = new byte[rendered.length];
+            Arrays.fill(sameSize, (byte) 'x');
+            Files.write(output.toPath(), sameSize);
+
+            File written = manager.write(data, "simple.mustache", output);
+
+            assertEquals(Files.readAllBytes(written.toPath()), rendered);
+            assertFalse(new File(target.toFile(), "simple.txt.tmp").exists());
+        } finally {
+            target.toFile().delete();
+        }
+    }
+
     @Test
     public void overwritesWhenSkipOverwriteFalse() throws IOException {
         TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
@@ -0,0 +1,93 @@
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+public class ParsedSpecCacheTest {
+
+    private static ParseOptions resolve() {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return options;
+    }
+
+    @Test
+    public void parsesEachSpecOnce() {
+        ParsedSpecCache cache = new ParsedSpecCache();
+        String spec = "src/test/resources/3_0/petstore.yaml";
+
+        SwaggerParseResult first = cache.readLocation(spec, null, Collections.emptyList(), resolve());
+        SwaggerParseResult second = cache.readLocation("./" + spec, null, Collections.emptyList(), resolve());
+
+        assertEquals(cache.getParseCount(), 1L);
+        assertEquals(cache.getReuseCount(), 1L);
+        assertNotSame(first.getOpenAPI(), second.getOpenAPI());
+        assertEquals(Json.pretty(first.getOpenAPI()), Json.pretty(second.getOpenAPI()));
+
+        // mutating one result must not leak into later ones
+        first.getOpenAPI().getComponents().getSchemas().clear();
+        SwaggerParseResult third = cache.readLocation(spec, null, Collections.emptyList(), resolve());
+        assertFalse(third.getOpenAPI().getComponents().getSchemas().isEmpty());
+    }
+
+    @Test
+    public void authAndOptionsArePartOfTheKey() {
+        ParsedSpecCache cache = new ParsedSpecCache();
+        String spec = "src/test/resources/3_0/petstore.yaml";
+
+        cache.readLocation(spec, null, Collections.emptyList(), resolve());
+        cache.readLocation(spec, "api_key:abc", Collections.emptyList(), resolve());
+        cache.readLocation(spec, null, Collections.emptyList(), new ParseOptions());
+
+        assertEquals(cache.getParseCount(), 3L);
+        assertEquals(cache.getReuseCount(), 0L);
+    }
+
+    @Test
+    public void trackedSpecIsParsedAgainWhenAReferencedFileChanges() throws IOException {
+        Path dir = Files.createTempDirectory("spec-cache");
+        Path spec = dir.resolve("openapi.yaml");
+        Path pet = dir.resolve("pet.yaml");
+        Files.write(spec, ("openapi: 3.0.1\n"
+                + "info:\n  title: test\n  version: 1.0.0\n"
+                + "paths: {}\n"
+                + "components:\n  schemas:\n    Pet:\n      $ref: './pet.yaml#/Pet'\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(pet, "Pet:\n  type: object\n".getBytes(StandardCharsets.UTF_8));
+
+        ParsedSpecCache cache = new ParsedSpecCache(true);
+        cache.readLocation(spec.toString(), null, Collections.emptyList(), resolve());
+        cache.readLocation(spec.toString(), null, Collections.emptyList(), resolve());
+        assertEquals(cache.getParseCount(), 1L);
+        assertEquals(cache.getReuseCount(), 1L);
+
+        Files.write(pet, "Pet:\n  type: object\n  description: changed\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(pet, FileTime.fromMillis(Files.getLastModifiedTime(pet).toMillis() + 10_000));
+        cache.readLocation(spec.toString(), null, Collections.emptyList(), resolve());
+        assertEquals(cache.getParseCount(), 2L);
+    }
+
+    @Test
+    public void configuratorReadsThroughCache() {
+        ParsedSpecCache cache = new ParsedSpecCache();
+        for (String generator : new String[]{"java", "python"}) {
+            new CodegenConfigurator()
+                    .setGeneratorName(generator)
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setParsedSpecCache(cache)
+                    .toContext();
+        }
+        assertEquals(cache.getParseCount(), 1L);
+        assertEquals(cache.getReuseCount(), 1L);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore;
+
+import org.openapitools.codegen.ignore.rules.Rule;
+import org.openapitools.codegen.ignore.rules.RuleSet;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class CodegenIgnoreProcessorTest {
+
+    private static final List<String> IGNORE = Arrays.asList(
+            "# comment",
+            "**/*.log",
+            "!ISSUE_1234.log",
+            "docs/",
+            "!docs/api/",
+            "/README.md",
+            "*.gradle",
+            "src/main/java/org/foo/*Test.java",
+            "build/**",
+            "lib/vendor/*.js",
+            "**/ci.yml",
+            "src/**/Api.java"
+    );
+
+    @DataProvider(name = "files")
+    public Object[][] files() {
+        return new Object[][]{
+                {"README.md", false},
+                {"pom.xml", true},
+                {"build.gradle", false},
+                {"other.log", true},
+                {"ISSUE_1234.log", true},
+                {"docs/Pet.md", false},
+                {"docs/api/User.md", true},
+                {"build/out/x.class", false},
+                {"lib/vendor/v.js", false},
+                {"lib/vendor/v.css", true},
+                {".github/workflows/ci.yml", false},
+                {"src/main/java/org/foo/Api.java", false},
+                {"src/main/java/org/foo/ApiTest.java", false},
+                {"src/main/java/org/foo/Model.java", true},
+        };
+    }
+
+    @Test(dataProvider = "files")
+    public void testAllowsFile(String file, boolean allowed) throws IOException {
+        Path output = Files.createTempDirectory("test");
+        Files.write(output.resolve(".openapi-generator-ignore"), IGNORE, StandardCharsets.UTF_8);
+        Path target = output.resolve(file);
+        Files.createDirectories(target.getParent());
+        Files.write(target, "x".getBytes(StandardCharsets.UTF_8));
+
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(output.toString());
+
+        assertEquals(processor.allowsFile(target.toFile()), allowed, file);
+    }
+
+    @Test(dataProvider = "files")
+    public void testRuleSetMatchesEveryRule(String file, boolean allowed) throws IOException {
+        Path output = Files.createTempDirectory("test");
+        Files.write(output.resolve(".openapi-generator-ignore"), IGNORE, StandardCharsets.UTF_8);
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(output.toString());
+
+        List<Rule> rules = new ArrayList<>(processor.getExclusionRules());
+        rules.addAll(processor.getInclusionRules());
+        List<Rule.Operation> expected = rules.stream()
+                .map(rule -> rule.evaluate(file))
+                .filter(op -> op != Rule.Operation.NOOP)
+                .collect(Collectors.toList());
+        List<Rule.Operation> actual = new RuleSet(rules).evaluate(file).stream()
+                .map(RuleSet.Match::getOperation)
+                .collect(Collectors.toList());
+
+        assertEquals(actual, expected, file);
+    }
+
+    @Test
+    public void testAllowsEverythingWithoutIgnoreFile() throws IOException {
+        Path output = Files.createTempDirectory("test");
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(output.toString());
+
+        assertTrue(processor.allowsFile(new File(output.toFile(), "README.md")));
+    }
+}
@@ -28,6 +28,7 @@ import org.mockito.Mockito;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.CodegenModel;
 import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.CodegenProperty;
 import org.openapitools.codegen.TestUtils;
 import org.openapitools.codegen.languages.AbstractJavaCodegen;
 import org.openapitools.codegen.testutils.ConfigAssert;
@@ -687,6 +688,19 @@ public class AbstractJavaCodegenTest {
         Assert.assertEquals(defaultValue, "Map<String, NestedArray>");
     }
 
+    @Test
+    public void mapWithoutInnerTypeDefaultsToStringWithoutChangingTheSchema() {
+        codegen.setOpenAPI(new OpenAPI().components(new Components()));
+        // the schema may be shared with models or operations converted on other threads
+        Schema<?> schema = new MapSchema();
+
+        Assert.assertEquals(codegen.getTypeDeclaration(schema), "Map<String, String>");
+        CodegenProperty property = codegen.fromProperty("map", schema);
+        Assert.assertTrue(property.isMap);
+        Assert.assertEquals(property.items.dataType, "String");
+        Assert.assertNull(schema.getAdditionalProperties());
+    }
+
     @Test
     public void processOptsBooleanTrueFromString() {
         codegen.additionalProperties().put(CodegenConstants.SNAPSHOT_VERSION, "true");
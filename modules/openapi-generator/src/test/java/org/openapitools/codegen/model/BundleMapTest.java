@@ -0,0 +1,112 @@
+package org.openapitools.codegen.model;
+
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class BundleMapTest {
+
+    @Test
+    public void sharedEntriesReplaceEarlierEntriesAndAreReplacedByLaterOnes() {
+        BundleMap bundle = new BundleMap();
+        bundle.put("classname", "Pet");
+        bundle.put("imports", "none");
+        bundle.putAllShared(shared());
+        bundle.put("modelPackage", "org.pet");
+
+        assertEquals(bundle.get("classname"), "Shared");
+        assertEquals(bundle.get("modelPackage"), "org.pet");
+        assertEquals(bundle.get("imports"), "none");
+        assertTrue(bundle.containsKey("library"));
+        assertNull(bundle.get("library"));
+        assertNull(bundle.getOrDefault("library", "default"));
+        assertEquals(bundle.getOrDefault("missing", "default"), "default");
+
+        // the same as copying the entries
+        Map<String, Object> copy = new HashMap<>();
+        copy.put("classname", "Pet");
+        copy.put("imports", "none");
+        copy.putAll(shared());
+        copy.put("modelPackage", "org.pet");
+        assertEquals(bundle, copy);
+        assertEquals(copy, bundle);
+        assertEquals(bundle.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    public void iterationCoversSharedEntries() {
+        BundleMap bundle = new BundleMap();
+        bundle.put("imports", "none");
+        bundle.put("modelPackage", "org.pet");
+        bundle.putAllShared(shared());
+
+        assertEquals(bundle.size(), 4);
+        assertEquals(new HashMap<>(bundle).get("classname"), "Shared");
+        Map<String, Object> visited = new HashMap<>();
+        bundle.forEach(visited::put);
+        assertEquals(visited, bundle);
+        assertEquals(visited.get("modelPackage"), "org.shared");
+
+        for (Map.Entry<String, Object> entry : bundle.entrySet()) {
+            if ("classname".equals(entry.getKey())) {
+                entry.setValue("Pet");
+            }
+        }
+        assertEquals(bundle.get("classname"), "Pet");
+    }
+
+    @Test
+    public void removalHidesSharedEntries() {
+        Map<String, Object> shared = shared();
+        BundleMap bundle = new BundleMap();
+        bundle.putAllShared(shared);
+        bundle.put("modelPackage", "org.pet");
+
+        assertEquals(bundle.remove("classname"), "Shared");
+        assertFalse(bundle.containsKey("classname"));
+        assertNull(bundle.get("classname"));
+        // the shared entry mustn't reappear once the own entry is removed
+        assertEquals(bundle.remove("modelPackage"), "org.pet");
+        assertFalse(bundle.containsKey("modelPackage"));
+
+        Iterator<Map.Entry<String, Object>> entries = bundle.entrySet().iterator();
+        while (entries.hasNext()) {
+            if ("library".equals(entries.next().getKey())) {
+                entries.remove();
+            }
+        }
+        assertTrue(bundle.isEmpty());
+        assertEquals(shared, shared());
+
+        bundle.put("classname", "Pet");
+        assertEquals(bundle.get("classname"), "Pet");
+        assertEquals(bundle.size(), 1);
+    }
+
+    @Test
+    public void sharedEntriesAreNotCopied() {
+        Map<String, Object> shared = new HashMap<>();
+        BundleMap bundle = new BundleMap();
+        bundle.putAllShared(shared);
+
+        shared.put("appVersion", "1.0.0");
+        assertEquals(bundle.get("appVersion"), "1.0.0");
+
+        assertEquals(bundle.putIfAbsent("appVersion", "2.0.0"), "1.0.0");
+        assertEquals(bundle.computeIfAbsent("appName", key -> "petstore"), "petstore");
+        assertEquals(bundle.get("appName"), "petstore");
+        assertFalse(shared.containsKey("appName"));
+    }
+
+    private static Map<String, Object> shared() {
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("classname", "Shared");
+        shared.put("modelPackage", "org.shared");
+        shared.put("library", null);
+        return shared;
+    }
+}
@@ -0,0 +1,101 @@
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class CompiledTemplateCacheTest {
+
+    private static TemplateManager templateManager(Path templateDir, TemplatingEngineAdapter adapter) {
+        TemplatePathLocator locator = name -> templateDir.resolve(name).toString();
+        return new TemplateManager(new TemplateManagerOptions(false, false), adapter, new TemplatePathLocator[]{locator});
+    }
+
+    private static Map<String, Object> bundle(String name) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", name);
+        data.put(CodegenConstants.MUSTACHE_PARENT_CONTEXT, new Object());
+        return data;
+    }
+
+    @Test
+    public void reusesCompiledMustacheTemplate() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-templatecache");
+        Files.write(templateDir.resolve("outer.mustache"), "Hello {{>inner}}".getBytes(StandardCharsets.UTF_8));
+        Files.write(templateDir.resolve("inner.mustache"), "{{name}}!".getBytes(StandardCharsets.UTF_8));
+
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        TemplateManager manager = templateManager(templateDir, adapter);
+
+        assertEquals(adapter.compileTemplate(manager, bundle("a"), "outer.mustache"), "Hello a!");
+        assertEquals(adapter.compileTemplate(manager, bundle("b"), "outer.mustache"), "Hello b!");
+        assertEquals(adapter.compileTemplate(manager, bundle("c"), "outer.mustache"), "Hello c!");
+
+        assertEquals(adapter.getTemplateCacheMisses(), 1L);
+        assertEquals(adapter.getTemplateCacheHits(), 2L);
+    }
+
+    @Test
+    public void recompilesWhenPartialIsModified() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-templatecache");
+        Path inner = templateDir.resolve("inner.mustache");
+        Files.write(templateDir.resolve("outer.mustache"), "Hello {{>inner}}".getBytes(StandardCharsets.UTF_8));
+        Files.write(inner, "{{name}}!".getBytes(StandardCharsets.UTF_8));
+
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        TemplateManager manager = templateManager(templateDir, adapter);
+        assertEquals(adapter.compileTemplate(manager, bundle("a"), "outer.mustache"), "Hello a!");
+
+        Files.write(inner, "{{name}}?".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(inner, FileTime.fromMillis(Files.getLastModifiedTime(inner).toMillis() + 10_000L));
+
+        // dependencies are checked once per generation run, i.e. per template manager
+        assertEquals(adapter.compileTemplate(manager, bundle("a"), "outer.mustache"), "Hello a!");
+        assertEquals(adapter.compileTemplate(templateManager(templateDir, adapter), bundle("a"), "outer.mustache"), "Hello a?");
+        assertEquals(adapter.getTemplateCacheMisses(), 2L);
+        assertEquals(adapter.getTemplateCacheHits(), 1L);
+    }
+
+    @Test
+    public void recompilesWhenHandlebarsPartialIsModified() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-templatecache");
+        Path inner = templateDir.resolve("inner.handlebars");
+        Files.write(templateDir.resolve("outer.handlebars"), "Hello {{>inner}}".getBytes(StandardCharsets.UTF_8));
+        Files.write(inner, "{{name}}!".getBytes(StandardCharsets.UTF_8));
+
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        assertEquals(adapter.compileTemplate(templateManager(templateDir, adapter), bundle("a"), "outer.handlebars"), "Hello a!");
+
+        Files.write(inner, "{{name}}?".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(inner, FileTime.fromMillis(Files.getLastModifiedTime(inner).toMillis() + 10_000L));
+
+        assertEquals(adapter.compileTemplate(templateManager(templateDir, adapter), bundle("a"), "outer.handlebars"), "Hello a?");
+        assertEquals(adapter.getTemplateCacheMisses(), 2L);
+    }
+
+    @Test
+    public void compilerSettingsArePartOfTheKey() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-templatecache");
+        Files.write(templateDir.resolve("simple.mustache"), "{{name}}".getBytes(StandardCharsets.UTF_8));
+
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        TemplateManager manager = templateManager(templateDir, adapter);
+        assertEquals(adapter.compileTemplate(manager, bundle("<a>"), "simple.mustache"), "&lt;a&gt;");
+
+        adapter.setCompiler(adapter.getCompiler().escapeHTML(false));
+        assertEquals(adapter.compileTemplate(manager, bundle("<a>"), "simple.mustache"), "<a>");
+        assertEquals(adapter.getTemplateCacheMisses(), 2L);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.testng.SkipException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+public class BatchPostProcessorTest {
+
+    @BeforeMethod
+    public void requirePosixTools() {
+        if (System.getProperty("os.name").contains("Windows")) {
+            throw new SkipException("relies on touch and ls");
+        }
+    }
+
+    @Test
+    public void testFilesArePassedInBatches() throws IOException {
+        Path dir = Files.createTempDirectory("batch-post-processor");
+        BatchPostProcessor processor = new BatchPostProcessor(2, 1);
+        for (int i = 0; i < 5; i++) {
+            processor.add(new String[]{"touch", dir.resolve("file" + i).toString()});
+        }
+        assertEquals(processor.getPendingFileCount(), 5);
+
+        BatchPostProcessor.Result result = processor.run();
+
+        assertTrue(result.isSuccessful());
+        assertEquals(result.getSuccessCount(), 5);
+        assertEquals(result.getProcessCount(), 3);
+        assertEquals(processor.getPendingFileCount(), 0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(new File(dir.toFile(), "file" + i).exists());
+        }
+    }
+
+    @Test
+    public void testCommandIsTokenizedAndGroupedByPrefix() throws IOException {
+        Path dir = Files.createTempDirectory("batch-post-processor");
+        BatchPostProcessor processor = new BatchPostProcessor(10, 2);
+        processor.add(new String[]{"touch -c", dir.resolve("missing").toString()});
+        processor.add(new String[]{"touch", dir.resolve("created").toString()});
+        processor.add(new String[]{"touch", "-c", dir.resolve("missing2").toString()});
+
+        BatchPostProcessor.Result result = processor.run();
+
+        assertTrue(result.isSuccessful());
+        assertEquals(result.getProcessCount(), 2);
+        assertTrue(dir.resolve("created").toFile().exists());
+        assertFalse(dir.resolve("missing").toFile().exists());
+        assertFalse(dir.resolve("missing2").toFile().exists());
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedPerFile() throws IOException {
+        Path dir = Files.createTempDirectory("batch-post-processor");
+        Path existing = Files.createFile(dir.resolve("existing"));
+        String missing = dir.resolve("missing").toString();
+        BatchPostProcessor processor = new BatchPostProcessor(10, 1);
+        processor.add(new String[]{"ls", existing.toString()});
+        processor.add(new String[]{"ls", missing});
+
+        BatchPostProcessor.Result result = processor.run();
+
+        assertFalse(result.isSuccessful());
+        assertEquals(result.getSuccessCount(), 1);
+        assertEquals(result.getFailures().keySet(), Collections.singleton(missing));
+        // one batch, then one invocation per file
+        assertEquals(result.getProcessCount(), 3);
+    }
+
+    @Test
+    public void testMissingBinaryFailsAllFiles() {
+        BatchPostProcessor processor = new BatchPostProcessor(10, 1);
+        processor.add(new String[]{"binary_does_not_exist", "a"});
+        processor.add(new String[]{"binary_does_not_exist", "b"});
+
+        BatchPostProcessor.Result result = processor.run();
+
+        assertEquals(result.getFailures().size(), 2);
+        assertEquals(result.getProcessCount(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testCommandWithoutFileIsRejected() {
+        new BatchPostProcessor(10, 1).add(new String[]{"echo"});
+    }
+}
@@ -0,0 +1,38 @@
+package org.openapitools.codegen.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+
+public class ExternalRefUtilsTest {
+
+    @Test
+    public void findsLocalReferencesInYaml() {
+        String yaml = "paths:\n"
+                + "  /pets:\n"
+                + "    $ref: './paths/pets.yaml'\n"
+                + "components:\n"
+                + "  schemas:\n"
+                + "    Pet:\n"
+                + "      $ref: schemas/Pet.yaml#/Pet\n"
+                + "    Tag:\n"
+                + "      $ref: '#/components/schemas/Category'\n"
+                + "    Remote:\n"
+                + "      $ref: 'https://example.com/schemas.yaml#/Remote'\n";
+
+        assertEquals(ExternalRefUtils.localReferences(yaml), Arrays.asList("./paths/pets.yaml", "schemas/Pet.yaml"));
+    }
+
+    @Test
+    public void findsLocalReferencesInJson() {
+        String json = "{\"allOf\":[{\"$ref\":\"common.json#/Base\"},{\"$ref\":\"#/components/schemas/Pet\"}],"
+                + "\"items\":{\"$ref\":\"item.json\"}}";
+
+        assertEquals(ExternalRefUtils.localReferences(json), Arrays.asList("common.json", "item.json"));
+        // in flow style, the reference ends with the sequence
+        assertEquals(ExternalRefUtils.localReferences("allOf: [{$ref: base.yaml}]"), Collections.singletonList("base.yaml"));
+    }
+}
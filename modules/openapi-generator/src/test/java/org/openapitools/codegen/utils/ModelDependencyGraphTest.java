@@ -0,0 +1,62 @@
+package org.openapitools.codegen.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ModelDependencyGraphTest {
+
+    private static ModelDependencyGraph graph(String... edges) {
+        Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        for (String edge : edges) {
+            String[] parts = edge.split("->");
+            dependencies.computeIfAbsent(parts[0], k -> new ArrayList<>());
+            if (parts.length > 1) {
+                dependencies.get(parts[0]).add(parts[1]);
+            }
+        }
+        return new ModelDependencyGraph(dependencies);
+    }
+
+    @Test
+    public void detectsMutualRecursion() {
+        ModelDependencyGraph graph = graph("A->B", "B->C", "C->A", "C->D", "D->string");
+
+        assertTrue(graph.isCircular("A", "B"));
+        assertTrue(graph.isCircular("C", "A"));
+        assertFalse(graph.isCircular("C", "D"));
+        assertFalse(graph.isCircular("D", "string"));
+
+        assertTrue(graph.isInCycle("B"));
+        assertFalse(graph.isInCycle("D"));
+        assertEquals(graph.getCycleMembers("A"), new TreeSet<>(Arrays.asList("A", "B", "C")));
+        assertEquals(graph.getDependencies("C"), new LinkedHashSet<>(Arrays.asList("A", "D")));
+    }
+
+    @Test
+    public void detectsSelfReference() {
+        ModelDependencyGraph graph = graph("Node->Node", "Node->Leaf", "Leaf");
+
+        assertTrue(graph.isCircular("Node", "Node"));
+        assertTrue(graph.isInCycle("Node"));
+        assertFalse(graph.isCircular("Node", "Leaf"));
+        assertFalse(graph.isInCycle("Leaf"));
+        assertFalse(graph.isCircular("Node", "Unknown"));
+        assertFalse(graph.contains("Unknown"));
+    }
+
+    @Test
+    public void handlesLongChainsWithoutRecursion() {
+        Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        int length = 100_000;
+        for (int i = 0; i < length; i++) {
+            dependencies.put("M" + i, Collections.singletonList("M" + ((i + 1) % length)));
+        }
+        ModelDependencyGraph graph = new ModelDependencyGraph(dependencies);
+
+        assertTrue(graph.isCircular("M0", "M1"));
+        assertTrue(graph.isCircular("M" + (length - 1), "M0"));
+    }
+}
@@ -27,7 +27,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -119,6 +121,30 @@ public class ModelUtilsTest {
         Assert.assertTrue(unusedSchemas.contains("SomeObj7"), "contains 'SomeObj7'");
     }
 
+    @Test
+    public void testGetSchemaUsage() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaUsage usage = ModelUtils.getSchemaUsage(openAPI);
+
+        // a single traversal answers the same as the dedicated methods
+        Assert.assertEquals(new ArrayList<>(usage.getUsedSchemas()), ModelUtils.getAllUsedSchemas(openAPI));
+        Assert.assertEquals(new ArrayList<>(usage.getUnusedSchemas()), ModelUtils.getUnusedSchemas(openAPI));
+        Assert.assertEquals(new ArrayList<>(usage.getSchemasUsedOnlyInFormParam()), ModelUtils.getSchemasUsedOnlyInFormParam(openAPI));
+        Assert.assertEquals(usage.getChildrenMap(), ModelUtils.getChildrenMap(openAPI));
+
+        Assert.assertTrue(usage.getRefsByMediaType().get("application/x-www-form-urlencoded").contains("SomeObj2"));
+        Assert.assertTrue(Collections.disjoint(usage.getUsedSchemas(), usage.getUnusedSchemas()));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> usage.getUsedSchemas().add("UnusedObj1"));
+    }
+
+    @Test
+    public void testGetSchemaUsageWithoutDocument() {
+        SchemaUsage usage = ModelUtils.getSchemaUsage(null);
+        Assert.assertTrue(usage.getUsedSchemas().isEmpty());
+        Assert.assertTrue(usage.getUnusedSchemas().isEmpty());
+        Assert.assertTrue(usage.getRefsByMediaType().isEmpty());
+    }
+
     @Test
     public void testNestedFormParameter() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/2_0/nestedFormParameter.yaml");
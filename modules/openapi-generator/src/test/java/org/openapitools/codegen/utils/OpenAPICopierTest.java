@@ -0,0 +1,106 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.TestUtils;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class OpenAPICopierTest {
+
+    @Test
+    public void copyIsStructurallyEqual() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml");
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        assertNotSame(copy, openAPI);
+        assertNotSame(copy.getPaths(), openAPI.getPaths());
+        assertNotSame(copy.getComponents().getSchemas().get("Pet"), openAPI.getComponents().getSchemas().get("Pet"));
+        assertEquals(copy.getPaths().getClass(), openAPI.getPaths().getClass());
+        assertEquals(Json.pretty(copy), Json.pretty(openAPI));
+    }
+
+    @Test
+    public void copyKeepsSchemaFlagsAndOpenAPI31Keywords() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_1/null-types-with-type-array.yaml");
+        Schema<?> withNullExample = new StringSchema();
+        withNullExample.setExample(null);
+        openAPI.getComponents().addSchemas("WithNullExample", withNullExample);
+
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        assertEquals(Json31.pretty(copy), Json31.pretty(openAPI));
+        openAPI.getComponents().getSchemas().forEach((name, schema) -> {
+            Schema<?> copied = copy.getComponents().getSchemas().get(name);
+            assertEquals(copied.getExampleSetFlag(), schema.getExampleSetFlag(), name);
+            assertEquals(copied.getTypes(), schema.getTypes(), name);
+            assertEquals(copied.getSpecVersion(), schema.getSpecVersion(), name);
+        });
+        assertTrue(copy.getComponents().getSchemas().get("WithNullExample").getExampleSetFlag());
+    }
+
+    @Test
+    public void copyIsIsolatedFromOriginal() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml");
+        String original = Json.pretty(openAPI);
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        Schema<?> pet = copy.getComponents().getSchemas().get("Pet");
+        pet.addProperty("nickname", new StringSchema());
+        pet.getRequired().add("nickname");
+        copy.getComponents().getSchemas().remove("Tag");
+        copy.getInfo().setTitle("changed");
+
+        assertEquals(Json.pretty(openAPI), original);
+    }
+
+    @Test
+    public void sharedInstancesStayShared() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml");
+        Schema<?> shared = new StringSchema();
+        openAPI.getComponents().getSchemas().get("Pet").addProperty("a", shared);
+        openAPI.getComponents().getSchemas().get("Tag").addProperty("b", shared);
+
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        Object a = copy.getComponents().getSchemas().get("Pet").getProperties().get("a");
+        Object b = copy.getComponents().getSchemas().get("Tag").getProperties().get("b");
+        assertSame(a, b);
+        assertNotSame(a, shared);
+    }
+
+    @Test
+    public void sortedCollectionsKeepTheirComparator() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore.yaml");
+        SortedMap<String, Object> map = new TreeMap<>(Comparator.reverseOrder());
+        map.put("a", 1);
+        map.put("b", 2);
+        SortedSet<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.add("a");
+        set.add("B");
+        openAPI.getInfo().addExtension("x-map", map);
+        openAPI.getInfo().addExtension("x-set", set);
+
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        SortedMap<?, ?> copiedMap = (SortedMap<?, ?>) copy.getInfo().getExtensions().get("x-map");
+        assertNotSame(copiedMap, map);
+        assertSame(copiedMap.comparator(), map.comparator());
+        assertEquals(copiedMap.firstKey(), "b");
+        SortedSet<?> copiedSet = (SortedSet<?>) copy.getInfo().getExtensions().get("x-set");
+        assertNotSame(copiedSet, set);
+        assertSame(copiedSet.comparator(), String.CASE_INSENSITIVE_ORDER);
+        assertTrue(copiedSet.contains("b"));
+    }
+
+    @Test
+    public void copiesNull() {
+        assertNull(OpenAPICopier.copy(null));
+    }
+}
@@ -0,0 +1,110 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.InheritanceCycleException;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class SchemaIndexTest {
+
+    private static Schema<?> allOf(String... parents) {
+        ComposedSchema schema = new ComposedSchema();
+        for (String parent : parents) {
+            schema.addAllOfItem(new Schema<>().$ref("#/components/schemas/" + parent));
+        }
+        schema.addAllOfItem(new ObjectSchema());
+        return schema;
+    }
+
+    private static Map<String, Schema> schemas() {
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("pet", new ObjectSchema());
+        schemas.put("cat", allOf("pet"));
+        schemas.put("dog", allOf("pet", "pet"));
+        schemas.put("status", new StringSchema()._enum(Arrays.asList("a", "b")));
+        schemas.put("Status", new StringSchema());
+        return schemas;
+    }
+
+    @Test
+    public void indexesByModelNameAndRef() {
+        Map<String, Schema> schemas = schemas();
+        SchemaIndex index = new SchemaIndex(schemas, StringUtils::camelize);
+
+        assertSame(index.getSchemaByModelName("Pet"), schemas.get("pet"));
+        assertEquals(index.getSchemaKeyByModelName("Cat"), "cat");
+        // the first schema with a given model name wins
+        assertSame(index.getSchemaByModelName("Status"), schemas.get("status"));
+        assertNull(index.getSchemaByModelName("Unknown"));
+
+        assertEquals(index.getSchemaKeyByRef("#/components/schemas/dog"), "dog");
+        assertSame(index.getSchemaByRef("#/components/schemas/dog"), schemas.get("dog"));
+        assertNull(index.getSchemaKeyByRef("#/components/schemas/unknown"));
+        assertNull(index.getSchemaKeyByRef(null));
+    }
+
+    @Test
+    public void indexesAllOfChildren() {
+        SchemaIndex index = new SchemaIndex(schemas(), StringUtils::camelize);
+
+        assertEquals(index.getAllOfChildren("pet"), Arrays.asList("cat", "dog"));
+        assertEquals(index.getAllOfChildren("cat"), Collections.emptyList());
+    }
+
+    @Test
+    public void detectsStaleIndex() {
+        Map<String, Schema> schemas = schemas();
+        SchemaIndex index = new SchemaIndex(schemas, StringUtils::camelize);
+        assertFalse(index.isStale(schemas));
+
+        schemas.put("bird", allOf("pet"));
+        assertTrue(index.isStale(schemas));
+        assertTrue(index.isStale(schemas()));
+
+        // replacing a schema isn't detected, callers must drop the index themselves
+        index = new SchemaIndex(schemas, StringUtils::camelize);
+        schemas.put("bird", new ObjectSchema());
+        assertFalse(index.isStale(schemas));
+    }
+
+    @Test
+    public void walksDescendantsBreadthFirst() {
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Event", new ObjectSchema());
+        schemas.put("UserEvent", allOf("Event"));
+        schemas.put("Login", allOf("UserEvent"));
+        schemas.put("OrderEvent", allOf("Event"));
+        // diamond: reachable through two parents, listed once
+        schemas.put("UserOrder", allOf("UserEvent", "OrderEvent"));
+        SchemaIndex index = new SchemaIndex(schemas, StringUtils::camelize);
+
+        assertEquals(index.getAllOfDescendants("Event"), Arrays.asList("UserEvent", "OrderEvent", "Login", "UserOrder"));
+        assertEquals(index.getAllOfDescendants("OrderEvent"), Collections.singletonList("UserOrder"));
+        assertSame(index.getAllOfDescendants("Event"), index.getAllOfDescendants("Event"));
+    }
+
+    @Test
+    public void reportsInheritanceCycles() {
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Base", new ObjectSchema());
+        schemas.put("A", allOf("Base", "B"));
+        schemas.put("B", allOf("A"));
+        SchemaIndex index = new SchemaIndex(schemas, StringUtils::camelize);
+
+        try {
+            index.getAllOfDescendants("Base");
+            fail("Expected an InheritanceCycleException");
+        } catch (InheritanceCycleException e) {
+            assertEquals(e.getSchemaName(), "Base");
+            assertEquals(e.getCycle(), new TreeSet<>(Arrays.asList("A", "B")));
+        }
+        // looked up from within the cycle, the references back to the schema itself are ignored
+        assertEquals(index.getAllOfDescendants("A"), Collections.singletonList("B"));
+    }
+}
@@ -0,0 +1,48 @@
+package org.openapitools.codegen.validations.oas;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.ValidationResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OpenApiEvaluatorTest {
+    @Test(description = "Results don't depend on the number of threads rules are evaluated on")
+    public void testParallelEvaluationIsDeterministic() {
+        OpenAPI openAPI = new OpenAPI().openapi("3.0.3").components(new Components());
+        for (int i = 0; i < 1000; i++) {
+            openAPI.getComponents().addSchemas("Model" + i, new ObjectSchema()
+                    .addProperty("value", new Schema<>().type(i % 2 == 0 ? "null" : "invalid")));
+        }
+
+        List<String> sequential = warnings(openAPI, 1);
+        List<String> parallel = warnings(openAPI, 4);
+
+        Assert.assertTrue(sequential.size() > 1000, "Expected an unused schema and a type warning per model.");
+        Assert.assertEquals(parallel, sequential);
+    }
+
+    @Test(description = "A malformed number of threads falls back to the default")
+    public void testMalformedParallelismIsIgnored() {
+        System.setProperty("openapi.generator.rule.parallelism", "many");
+        try {
+            Assert.assertEquals(new RuleConfiguration().getParallelism(), Runtime.getRuntime().availableProcessors());
+        } finally {
+            System.clearProperty("openapi.generator.rule.parallelism");
+        }
+    }
+
+    private List<String> warnings(OpenAPI openAPI, int parallelism) {
+        RuleConfiguration config = new RuleConfiguration();
+        config.setEnableRecommendations(true);
+        config.setParallelism(parallelism);
+        ValidationResult result = new OpenApiEvaluator(config).validate(openAPI);
+        return result.getWarnings().stream().map(Invalid::getMessage).collect(Collectors.toList());
+    }
+}